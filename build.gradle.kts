@@ -13,6 +13,12 @@ plugins {
      */
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.31.0"
+
+    /*
+     * Adds the "jmh" source set and task for the microbenchmarks in src/jmh/java.
+     * Launch them with the "jmh" task, the results are found in build/reports/jmh
+     */
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories { // Where to search for dependencies
@@ -49,6 +55,16 @@ application {
     mainClass.set("it.unibo.jurassiko.Jurassiko")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    // Allocation rate and GC counts next to the times, to spot regressions in both
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    // A subset can be run with -PjmhIncludes=<regex>
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
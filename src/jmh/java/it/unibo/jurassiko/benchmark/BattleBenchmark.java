@@ -0,0 +1,83 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.model.battle.api.Battle;
+import it.unibo.jurassiko.model.battle.impl.BattleImpl;
+import it.unibo.jurassiko.model.dice.impl.DiceImpl;
+
+/**
+ * Benchmarks of the battles and of the dice rolled by them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+
+    private static final long SEED = 42;
+    private static final int MAX_DICE = 3;
+    private static final int TROOPS = 10;
+
+    private DiceImpl dice;
+    private Battle battle;
+    private int[] results;
+
+    /**
+     * Creates the seeded dice, shared by the battle.
+     */
+    @Setup
+    public void setUp() {
+        this.dice = new DiceImpl(new SplittableRandom(SEED));
+        this.battle = new BattleImpl(dice);
+        this.results = new int[MAX_DICE];
+    }
+
+    /**
+     * A battle with the most dice on both sides.
+     *
+     * @return the losses of the two players
+     */
+    @Benchmark
+    public Pair<Integer, Integer> attack() {
+        return battle.attack(TROOPS, TROOPS, MAX_DICE, MAX_DICE);
+    }
+
+    /**
+     * Rolls the dice of a player, boxing the results in a list.
+     *
+     * @return the sorted results
+     */
+    @Benchmark
+    public List<Integer> rollMultiple() {
+        return dice.rollMultiple(MAX_DICE);
+    }
+
+    /**
+     * Rolls the dice of a player in a reused array.
+     *
+     * @return the array of the sorted results
+     */
+    @Benchmark
+    public int[] rollMultipleInto() {
+        dice.rollMultiple(results, MAX_DICE);
+        return results;
+    }
+
+}
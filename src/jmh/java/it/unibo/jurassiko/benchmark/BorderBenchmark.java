@@ -0,0 +1,79 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.borders.api.Border;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Benchmarks of the borders, every operation looking up the neighbours of
+ * every territory with every ocean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BorderBenchmark {
+
+    private Border border;
+    private List<Territory> territories;
+    private List<Ocean> oceans;
+
+    /**
+     * Loads the borders of the board of the configuration files.
+     */
+    @Setup
+    public void setUp() {
+        final BoardCatalog catalog = BoardCatalogImpl.getDefault();
+        this.border = catalog.getBorder();
+        this.territories = catalog.getRegistry().getTerritories();
+        this.oceans = catalog.getRegistry().getOceans();
+    }
+
+    /**
+     * The sets of names of the neighbours, as read by the views.
+     *
+     * @param blackhole the consumer of the results
+     */
+    @Benchmark
+    public void getTerritoriesBorder(final Blackhole blackhole) {
+        for (final Ocean ocean : oceans) {
+            for (final Territory territory : territories) {
+                blackhole.consume(border.getTerritoriesBorder(territory, ocean));
+            }
+        }
+    }
+
+    /**
+     * The masks of the neighbours, as read by the engine.
+     *
+     * @param blackhole the consumer of the results
+     */
+    @Benchmark
+    public void getNeighbours(final Blackhole blackhole) {
+        for (int ocean = 0; ocean < oceans.size(); ocean++) {
+            for (int territory = 0; territory < territories.size(); territory++) {
+                blackhole.consume(border.getNeighbours(territory, ocean));
+            }
+        }
+    }
+
+}
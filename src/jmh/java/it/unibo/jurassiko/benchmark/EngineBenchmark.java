@@ -0,0 +1,105 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Benchmarks of the lookups the controller delegates to the engine to update
+ * the views. The controller itself is not measured, since it creates the
+ * windows of the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    private static final long SEED = 42;
+
+    private HeadlessEngine engine;
+    private List<String> names;
+    private MoveBuffer buffer;
+
+    /**
+     * Deals the territories of a new game.
+     */
+    @Setup
+    public void setUp() {
+        this.engine = new HeadlessEngineImpl(SEED);
+        this.names = engine.getRegistry().getTerritories().stream().map(Territory::getName).toList();
+        this.buffer = new MoveBufferImpl();
+    }
+
+    /**
+     * The owners and the dinosaurs of the territories, read at every update of
+     * the map.
+     *
+     * @return the territories with their owners and dinosaurs
+     */
+    @Benchmark
+    public Map<Territory, Pair<GameColor, Integer>> getTerritoriesMap() {
+        return engine.getTerritoriesMap();
+    }
+
+    /**
+     * The checks enabling the button of every territory in the selector.
+     *
+     * @param blackhole the consumer of the results
+     */
+    @Benchmark
+    public void territoryChecks(final Blackhole blackhole) {
+        for (final String name : names) {
+            blackhole.consume(engine.isAllyTerritory(name));
+            blackhole.consume(engine.isAllyTerritoryWithMoreThanOne(name));
+            blackhole.consume(engine.hasAdjEnemy(name));
+            blackhole.consume(engine.hasAdjAlly(name));
+        }
+    }
+
+    /**
+     * The neighbours of every territory, shown after the first selection.
+     *
+     * @param blackhole the consumer of the results
+     */
+    @Benchmark
+    public void getAdj(final Blackhole blackhole) {
+        for (final String name : names) {
+            blackhole.consume(engine.getAdj(name));
+        }
+    }
+
+    /**
+     * The legal moves of the current player.
+     *
+     * @return the buffer of the moves
+     */
+    @Benchmark
+    public MoveBuffer generateMoves() {
+        engine.generateMoves(buffer);
+        return buffer;
+    }
+
+}
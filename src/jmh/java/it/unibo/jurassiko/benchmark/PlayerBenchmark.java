@@ -0,0 +1,133 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.card.api.Card.CardType;
+import it.unibo.jurassiko.model.card.api.Deck;
+import it.unibo.jurassiko.model.card.impl.DeckImpl;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.player.impl.PlayerImpl;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Benchmarks of the dinosaurs a player gets at the start of a turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private static final int OWNED_TERRITORIES = 12;
+    private static final int COMBINATION_SIZE = 3;
+
+    private Player player;
+
+    /**
+     * Creates a player owning some whole continents.
+     */
+    @Setup
+    public void setUp() {
+        this.player = newPlayer(BoardCatalogImpl.getDefault());
+    }
+
+    /**
+     * The bonus of the owned territories and continents.
+     *
+     * @return the amount of dinosaurs
+     */
+    @Benchmark
+    public int getBonusGroundDino() {
+        return player.getBonusGroundDino();
+    }
+
+    /**
+     * The bonus of the best combination of cards, moving them to the deck. The
+     * cards are given back first, which {@link #restoreHand(Hand)} measures
+     * alone: a per-invocation setup would cost more than the combination.
+     *
+     * @param hand the player with the cards
+     * @return the amount of dinosaurs
+     */
+    @Benchmark
+    public int combination(final Hand hand) {
+        hand.restore();
+        return hand.player.combination(hand.deck, hand.player.getOwnedTerritories());
+    }
+
+    /**
+     * Baseline of {@link #combination(Hand)}, only giving the cards back.
+     *
+     * @param hand the player with the cards
+     * @return the amount of owned territories, read like the combination does
+     */
+    @Benchmark
+    public int restoreHand(final Hand hand) {
+        hand.restore();
+        return hand.player.getOwnedTerritories().size();
+    }
+
+    private static Player newPlayer(final BoardCatalog catalog) {
+        final List<Territory> territories = catalog.getRegistry().getTerritories();
+        return new PlayerImpl(GameColor.RED, catalog.getObjectives().iterator().next(),
+                Set.copyOf(territories.subList(0, OWNED_TERRITORIES)), catalog);
+    }
+
+    /**
+     * A player with three cards of the same type, given back by every
+     * combination since it uses them.
+     */
+    @State(Scope.Thread)
+    public static class Hand {
+
+        private Player player;
+        private Player.State initialState;
+        private Deck deck;
+        private Deck.State initialDeck;
+
+        /**
+         * Creates the player and gives the cards.
+         */
+        @Setup
+        public void setUp() {
+            final BoardCatalog catalog = BoardCatalogImpl.getDefault();
+            this.player = newPlayer(catalog);
+            catalog.getCards().stream()
+                    .filter(card -> card.getType() == CardType.JACK)
+                    .limit(COMBINATION_SIZE)
+                    .forEach(player::addCard);
+            this.initialState = player.getState();
+            this.deck = new DeckImpl(List.<Card>of());
+            this.initialDeck = deck.getState();
+        }
+
+        /**
+         * Gives the cards back to the player.
+         */
+        public void restore() {
+            player.setState(initialState);
+            deck.setState(initialDeck);
+        }
+
+    }
+
+}
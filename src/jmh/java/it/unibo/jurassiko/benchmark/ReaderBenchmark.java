@@ -0,0 +1,103 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
+import it.unibo.jurassiko.model.territory.api.Continent;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.impl.ContinentFactoryImpl;
+import it.unibo.jurassiko.model.territory.impl.OceanFactoryImpl;
+import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
+import it.unibo.jurassiko.reader.impl.DeckDataReader;
+import it.unibo.jurassiko.reader.impl.SpritePositionsReader;
+
+/**
+ * Benchmarks of the readers of the configuration files, run by every new
+ * game and view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReaderBenchmark {
+
+    private static final String DECK_PATH = "config/deck.json";
+    private static final String TERRITORY_POSITIONS_PATH = "config/spritepositions/territorypositions.json";
+
+    /**
+     * Reads the territories.
+     *
+     * @return the territories
+     */
+    @Benchmark
+    public Set<Territory> territories() {
+        return new TerritoryFactoryImpl().createTerritories();
+    }
+
+    /**
+     * Reads the continents.
+     *
+     * @return the continents
+     */
+    @Benchmark
+    public Set<Continent> continents() {
+        return new ContinentFactoryImpl().createContinents();
+    }
+
+    /**
+     * Reads the oceans.
+     *
+     * @return the oceans
+     */
+    @Benchmark
+    public Set<Ocean> oceans() {
+        return new OceanFactoryImpl().createOceans();
+    }
+
+    /**
+     * Reads the objectives.
+     *
+     * @return the objectives
+     */
+    @Benchmark
+    public Set<Objective> objectives() {
+        return new ObjectiveFactoryImpl().createObjectives();
+    }
+
+    /**
+     * Reads the cards of the deck.
+     *
+     * @return the cards
+     */
+    @Benchmark
+    public List<Card> deck() {
+        return new DeckDataReader().readFileData(DECK_PATH);
+    }
+
+    /**
+     * Reads the positions of the sprites of the territories on the map.
+     *
+     * @return the positions by name
+     */
+    @Benchmark
+    public Map<String, Pair<Double, Double>> spritePositions() {
+        return new SpritePositionsReader().readFileData(TERRITORY_POSITIONS_PATH);
+    }
+
+}
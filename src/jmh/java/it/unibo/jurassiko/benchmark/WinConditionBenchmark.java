@@ -0,0 +1,68 @@
+package it.unibo.jurassiko.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.WinCondition;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.core.impl.WinConditionImpl;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Benchmark of the check of the objectives of the players, done after every
+ * move of the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinConditionBenchmark {
+
+    private static final long SEED = 42;
+
+    private WinCondition winCondition;
+    private Map<Territory, Pair<GameColor, Integer>> territoriesMap;
+    private List<Player> players;
+
+    /**
+     * Deals the territories and the objectives of a new game.
+     */
+    @Setup
+    public void setUp() {
+        final var engine = new HeadlessEngineImpl(SEED);
+        this.winCondition = new WinConditionImpl();
+        this.territoriesMap = engine.getTerritoriesMap();
+        this.players = engine.getPlayers();
+    }
+
+    /**
+     * Checks the objective of every player.
+     *
+     * @param blackhole the consumer of the results
+     */
+    @Benchmark
+    public void getWinner(final Blackhole blackhole) {
+        for (final Player player : players) {
+            blackhole.consume(winCondition.getWinner(territoriesMap, player, player.getObjective()));
+        }
+    }
+
+}
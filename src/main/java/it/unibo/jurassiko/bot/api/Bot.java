@@ -0,0 +1,34 @@
+package it.unibo.jurassiko.bot.api;
+
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+
+/**
+ * A computer player. A bot may hold threads, released when it is closed.
+ */
+public interface Bot extends AutoCloseable {
+
+    /**
+     * Chooses the next action of the current player.
+     *
+     * @param engine the game, which is not changed
+     * @return the chosen move, legal in the current state of the game
+     */
+    Move chooseMove(HeadlessEngine engine);
+
+    /**
+     * Plays the current player until their turn ends or the game is over.
+     * During the first turn, it places all the initial dino of the player.
+     *
+     * @param engine the game
+     */
+    void playTurn(HeadlessEngine engine);
+
+    /**
+     * Releases the resources of the bot, which cannot choose moves anymore. By
+     * default there is nothing to release.
+     */
+    @Override
+    default void close() {
+    }
+
+}
@@ -0,0 +1,94 @@
+package it.unibo.jurassiko.bot.api;
+
+/**
+ * An action of the current player, referring to the territories and the oceans
+ * by the ids of the registry of the game.
+ *
+ * @param kind   the kind of the action
+ * @param from   the ocean or the territory where a dino is placed, or the
+ *               territory an attack or a movement starts from, -1 if unused
+ * @param to     the territory attacked or reached by a movement, -1 if unused
+ * @param amount the amount of dino moved, 0 if unused
+ */
+public record Move(Kind kind, int from, int to, int amount) {
+
+    /**
+     * The kinds of action.
+     */
+    public enum Kind {
+        /**
+         * Place the water dino in an ocean.
+         */
+        PLACE_OCEAN,
+        /**
+         * Place a dino in an owned territory.
+         */
+        PLACE,
+        /**
+         * Attack an adjacent enemy territory once.
+         */
+        ATTACK,
+        /**
+         * Stop attacking and go to the movement phase.
+         */
+        END_ATTACK,
+        /**
+         * Move dino between adjacent owned territories and end the turn.
+         */
+        MOVE,
+        /**
+         * End the turn without moving.
+         */
+        END_TURN
+    }
+
+    /**
+     * @param oceanId id of the ocean
+     * @return the move placing the water dino in the ocean
+     */
+    public static Move placeOcean(final int oceanId) {
+        return new Move(Kind.PLACE_OCEAN, oceanId, -1, 0);
+    }
+
+    /**
+     * @param territoryId id of the territory
+     * @return the move placing a dino in the territory
+     */
+    public static Move place(final int territoryId) {
+        return new Move(Kind.PLACE, territoryId, -1, 0);
+    }
+
+    /**
+     * @param attacker id of the attacking territory
+     * @param defender id of the defending territory
+     * @return the move attacking the defender once
+     */
+    public static Move attack(final int attacker, final int defender) {
+        return new Move(Kind.ATTACK, attacker, defender, 0);
+    }
+
+    /**
+     * @return the move ending the attack phase
+     */
+    public static Move endAttack() {
+        return new Move(Kind.END_ATTACK, -1, -1, 0);
+    }
+
+    /**
+     * @param source id of the territory to move the dino from
+     * @param target id of the territory to move the dino to
+     * @param amount amount of dino to move
+     * @return the move moving the dino and ending the turn
+     */
+    public static Move move(final int source, final int target, final int amount) {
+        return new Move(Kind.MOVE, source, target, amount);
+    }
+
+    /**
+     * @return the move ending the turn
+     */
+    public static Move endTurn() {
+        return new Move(Kind.END_TURN, -1, -1, 0);
+    }
+
+}
@@ -0,0 +1,24 @@
+package it.unibo.jurassiko.bot.impl;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Abstract class implementing the turn of a bot as a sequence of the moves it
+ * chooses.
+ */
+public abstract class AbstractBot implements Bot {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn(final HeadlessEngine engine) {
+        final GameColor color = engine.getCurrentPlayer().getColor();
+        while (engine.getCurrentPlayer().getColor().equals(color) && engine.getWinner().isEmpty()) {
+            MoveRules.apply(engine, chooseMove(engine));
+        }
+    }
+
+}
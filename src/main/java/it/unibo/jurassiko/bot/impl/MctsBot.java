@@ -0,0 +1,374 @@
+package it.unibo.jurassiko.bot.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import it.unibo.jurassiko.bot.api.Move;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Bot based on Monte Carlo tree search.
+ * The search is root parallel: every worker of a fork-join pool grows its own
+ * tree on its own copy of the game, and the visits of the moves of the roots
+ * are summed at the end. Attacks are random, so the trees are open loop: a
+ * node is reached by a sequence of moves and every iteration plays the
+ * sequence again from a snapshot of the game, with new dice.
+ * Each simulation goes on for a few turns with a simple policy and then the
+ * game is scored by the share of territories and dino of each player, or by
+ * the winner if the game is over.
+ * With a single worker the search runs in the calling thread, so many bots can
+ * play at the same time without creating threads. Otherwise the pool is shut
+ * down when the bot is closed.
+ */
+public class MctsBot extends AbstractBot {
+
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int ROLLOUT_TURNS = 6;
+    private static final int MAX_ROLLOUT_MOVES = 2000;
+
+    private final int iterations;
+    private final long timeLimitMillis;
+    private final int parallelism;
+    private final Optional<ForkJoinPool> pool;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a bot searching each move until one of the budgets is over.
+     *
+     * @param iterations      the total amount of simulations per move, split
+     *                        among the workers, or 0 for no limit
+     * @param timeLimitMillis the time per move in milliseconds, or 0 for no
+     *                        limit
+     * @param parallelism     the amount of workers
+     * @param seed            the seed of the search, which is reproducible
+     *                        when only the iterations are limited
+     * @throws IllegalArgumentException if there is no budget or no worker
+     */
+    public MctsBot(final int iterations, final long timeLimitMillis, final int parallelism, final long seed) {
+        if (iterations < 0 || timeLimitMillis < 0 || iterations == 0 && timeLimitMillis == 0) {
+            throw new IllegalArgumentException("Invalid search budget");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid amount of workers");
+        }
+        this.iterations = iterations;
+        this.timeLimitMillis = timeLimitMillis;
+        this.parallelism = parallelism;
+        this.pool = parallelism > 1 ? Optional.of(new ForkJoinPool(parallelism)) : Optional.empty();
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move chooseMove(final HeadlessEngine engine) {
+        final List<Move> moves = MoveRules.legalMoves(engine, new MoveBufferImpl());
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+        final long deadline = timeLimitMillis > 0 ? System.currentTimeMillis() + timeLimitMillis : Long.MAX_VALUE;
+        final int workerIterations = iterations > 0 ? (iterations + parallelism - 1) / parallelism : Integer.MAX_VALUE;
+        final Map<Move, Integer> visits = pool.isPresent()
+                ? searchParallel(engine, pool.get(), workerIterations, deadline)
+                : search(engine.copy(random.nextLong()), random.split(), workerIterations, deadline);
+        Move best = moves.get(0);
+        for (final var move : moves) {
+            if (visits.getOrDefault(move, 0) > visits.getOrDefault(best, 0)) {
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        pool.ifPresent(ForkJoinPool::shutdown);
+    }
+
+    /**
+     * Grows a tree for every worker of the pool and sums the visits of the
+     * moves of the roots.
+     *
+     * @param engine   the game
+     * @param workers  the pool
+     * @param maxIter  the maximum amount of simulations of every worker
+     * @param deadline the time when the search must stop
+     * @return the total visits of the moves of the root
+     */
+    private Map<Move, Integer> searchParallel(final HeadlessEngine engine, final ForkJoinPool workers,
+            final int maxIter, final long deadline) {
+        final List<Callable<Map<Move, Integer>>> tasks = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            final HeadlessEngine root = engine.copy(random.nextLong());
+            final SplittableRandom workerRandom = random.split();
+            tasks.add(() -> search(root, workerRandom, maxIter, deadline));
+        }
+        final Map<Move, Integer> visits = new HashMap<>();
+        try {
+            for (final Future<Map<Move, Integer>> result : workers.invokeAll(tasks)) {
+                result.get().forEach((move, n) -> visits.merge(move, n, Integer::sum));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The search has been interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("The search has failed", e);
+        }
+        return visits;
+    }
+
+    /**
+     * Grows a tree from a copy of the game. The legal moves are listed as
+     * encoded actions in buffers reused by every simulation.
+     *
+     * @param state      the copy of the game, owned by the worker, which is
+     *                   restored to its current state at every simulation
+     * @param rnd        the generator of the worker
+     * @param maxIter    the maximum amount of simulations
+     * @param deadline   the time when the search must stop
+     * @return the visits of the moves of the root
+     */
+    private static Map<Move, Integer> search(final HeadlessEngine state, final SplittableRandom rnd,
+            final int maxIter, final long deadline) {
+        final Node rootNode = new Node(-1);
+        final List<Node> path = new ArrayList<>();
+        final MoveBuffer buffer = new MoveBufferImpl();
+        final MoveBuffer actions = new MoveBufferImpl();
+        final MoveBuffer preferred = new MoveBufferImpl();
+        final HeadlessEngine.Snapshot start = state.snapshot();
+        for (int i = 0; i < maxIter && System.currentTimeMillis() < deadline; i++) {
+            state.restore(start);
+            Node node = rootNode;
+            path.clear();
+            path.add(node);
+            while (state.getWinner().isEmpty()) {
+                MoveRules.legalActions(state, buffer, actions);
+                final int mover = state.getCurrentPlayer().getColor().ordinal();
+                int untried = 0;
+                for (int m = 0; m < actions.size(); m++) {
+                    untried += node.getChild(actions.get(m)) == null ? 1 : 0;
+                }
+                if (untried > 0) {
+                    final int action = getUntried(node, actions, rnd.nextInt(untried));
+                    final Node child = new Node(mover);
+                    node.addChild(action, child);
+                    MoveRules.apply(state, action);
+                    path.add(child);
+                    break;
+                }
+                final int action = select(node, actions);
+                MoveRules.apply(state, action);
+                node = node.getChild(action);
+                path.add(node);
+            }
+            final double[] rewards = rollout(state, rnd, buffer, preferred);
+            for (final var visited : path) {
+                visited.visits++;
+                if (visited.mover >= 0) {
+                    visited.reward += rewards[visited.mover];
+                }
+            }
+        }
+        final Map<Move, Integer> visits = new HashMap<>();
+        for (int c = 0; c < rootNode.size; c++) {
+            visits.put(MoveRules.toMove(rootNode.actions[c]), rootNode.children[c].visits);
+        }
+        return visits;
+    }
+
+    /**
+     * Gets a legal action not expanded yet.
+     *
+     * @param node    the node
+     * @param actions the legal actions in the current state
+     * @param index   the index of the action among the ones not expanded
+     * @return the action
+     */
+    private static int getUntried(final Node node, final MoveBuffer actions, final int index) {
+        int left = index;
+        for (int m = 0; m < actions.size(); m++) {
+            if (node.getChild(actions.get(m)) == null && left-- == 0) {
+                return actions.get(m);
+            }
+        }
+        throw new IllegalArgumentException("Invalid index of the actions: " + index);
+    }
+
+    /**
+     * Selects the child with the best upper confidence bound among the legal
+     * actions, all of them already expanded.
+     *
+     * @param node    the node
+     * @param actions the legal actions in the current state
+     * @return the selected action
+     */
+    private static int select(final Node node, final MoveBuffer actions) {
+        final double logVisits = Math.log(Math.max(1, node.visits));
+        int best = actions.get(0);
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int m = 0; m < actions.size(); m++) {
+            final Node child = node.getChild(actions.get(m));
+            final double value = child.reward / child.visits
+                    + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = actions.get(m);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays a few turns with a simple policy: place next to the enemies, attack
+     * while the attacker has more dino than the defender, never move.
+     *
+     * @param state     the game
+     * @param rnd       the generator
+     * @param buffer    the buffer of the legal actions
+     * @param preferred the buffer of the actions chosen by the policy
+     * @return the reward of every color, indexed by ordinal
+     */
+    private static double[] rollout(final HeadlessEngine state, final SplittableRandom rnd,
+            final MoveBuffer buffer, final MoveBuffer preferred) {
+        int turns = 0;
+        int played = 0;
+        GameColor current = state.getCurrentPlayer().getColor();
+        while (turns < ROLLOUT_TURNS && played < MAX_ROLLOUT_MOVES && state.getWinner().isEmpty()) {
+            MoveRules.apply(state, rolloutMove(state, rnd, buffer, preferred));
+            played++;
+            if (!state.getCurrentPlayer().getColor().equals(current)) {
+                current = state.getCurrentPlayer().getColor();
+                turns++;
+            }
+        }
+        return evaluate(state);
+    }
+
+    private static int rolloutMove(final HeadlessEngine state, final SplittableRandom rnd,
+            final MoveBuffer buffer, final MoveBuffer preferred) {
+        state.generateMoves(buffer);
+        preferred.clear();
+        final var board = state.getBoardView();
+        for (int i = 0; i < buffer.size(); i++) {
+            final int move = buffer.get(i);
+            switch (MoveBuffer.getKind(move)) {
+                case MoveBuffer.PLACE -> {
+                    if (state.hasAdjEnemy(MoveBuffer.getFrom(move))) {
+                        preferred.add(move);
+                    }
+                }
+                case MoveBuffer.ATTACK -> {
+                    if (MoveBuffer.getAmount(move) >= board.getDino(MoveBuffer.getTo(move))) {
+                        preferred.add(move);
+                    }
+                }
+                case MoveBuffer.END_ATTACK, MoveBuffer.END_TURN -> {
+                    if (preferred.size() == 0) {
+                        return move;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        final MoveBuffer candidates = preferred.size() == 0 ? buffer : preferred;
+        return candidates.get(rnd.nextInt(candidates.size()));
+    }
+
+    /**
+     * Scores the game for every color.
+     *
+     * @param state the game
+     * @return 1 for the winner, otherwise the mean of the shares of territories
+     *         and dino, indexed by ordinal
+     */
+    private static double[] evaluate(final HeadlessEngine state) {
+        final double[] rewards = new double[GameColor.values().length];
+        final var winner = state.getWinner();
+        if (winner.isPresent()) {
+            rewards[winner.get().getColor().ordinal()] = 1;
+            return rewards;
+        }
+        final var board = state.getBoardView();
+        final double[] dino = new double[rewards.length];
+        double totalDino = 0;
+        for (int id = 0; id < board.size(); id++) {
+            final int owner = board.getOwner(id).ordinal();
+            rewards[owner] += 0.5 / board.size();
+            dino[owner] += board.getDino(id);
+            totalDino += board.getDino(id);
+        }
+        for (int i = 0; i < rewards.length; i++) {
+            rewards[i] += totalDino > 0 ? 0.5 * dino[i] / totalDino : 0;
+        }
+        return rewards;
+    }
+
+    /**
+     * A node of an open loop tree. Its children are few, so they are kept in
+     * arrays and looked up by their action.
+     */
+    private static final class Node {
+
+        private static final int INITIAL_CHILDREN = 8;
+
+        private final int mover;
+        private int[] actions = new int[INITIAL_CHILDREN];
+        private Node[] children = new Node[INITIAL_CHILDREN];
+        private int size;
+        private int visits;
+        private double reward;
+
+        /**
+         * @param mover ordinal of the color of the player who chose the move
+         *              leading to this node, -1 for the root
+         */
+        Node(final int mover) {
+            this.mover = mover;
+        }
+
+        /**
+         * @param action the encoded action
+         * @return the child reached with the action, null if not expanded
+         */
+        Node getChild(final int action) {
+            for (int c = 0; c < size; c++) {
+                if (actions[c] == action) {
+                    return children[c];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param action the encoded action
+         * @param child  the child reached with the action
+         */
+        void addChild(final int action, final Node child) {
+            if (size == actions.length) {
+                actions = Arrays.copyOf(actions, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+            actions[size] = action;
+            children[size++] = child;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package it.unibo.jurassiko.bot.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unibo.jurassiko.bot.api.Move;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+
+/**
+ * Converts the actions generated by the engine to the moves of the bots and
+ * applies them through the commands of the engine.
+ */
+final class MoveRules {
+
+    private MoveRules() {
+    }
+
+    /**
+     * Enumerates every legal move of the current player. A movement is offered
+     * with every dino allowed and with half of them.
+     *
+     * @param engine the game
+     * @param buffer the buffer used to generate the actions
+     * @return the legal moves, in a deterministic order
+     */
+    static List<Move> legalMoves(final HeadlessEngine engine, final MoveBuffer buffer) {
+        final MoveBuffer actions = new MoveBufferImpl();
+        legalActions(engine, buffer, actions);
+        final List<Move> moves = new ArrayList<>(actions.size());
+        for (int i = 0; i < actions.size(); i++) {
+            moves.add(toMove(actions.get(i)));
+        }
+        return moves;
+    }
+
+    /**
+     * Enumerates every legal move of the current player as encoded actions, in
+     * the order of {@link #legalMoves(HeadlessEngine, MoveBuffer)}. Only the
+     * arguments of a {@link Move} are kept, so the same move is encoded by the
+     * same action whatever the dino on the board.
+     *
+     * @param engine  the game
+     * @param buffer  the buffer used to generate the actions
+     * @param actions the buffer filled with the legal moves
+     */
+    static void legalActions(final HeadlessEngine engine, final MoveBuffer buffer, final MoveBuffer actions) {
+        engine.generateMoves(buffer);
+        actions.clear();
+        for (int i = 0; i < buffer.size(); i++) {
+            final int move = buffer.get(i);
+            final int kind = MoveBuffer.getKind(move);
+            final int from = MoveBuffer.getFrom(move);
+            final int to = MoveBuffer.getTo(move);
+            switch (kind) {
+                case MoveBuffer.PLACE_OCEAN, MoveBuffer.PLACE -> actions.add(MoveBuffer.encode(kind, from, 0, 1));
+                case MoveBuffer.ATTACK -> actions.add(MoveBuffer.encode(kind, from, to, 0));
+                case MoveBuffer.END_ATTACK, MoveBuffer.END_TURN -> actions.add(MoveBuffer.encode(kind, 0, 0, 0));
+                case MoveBuffer.MOVE -> {
+                    final int all = MoveBuffer.getAmount(move);
+                    actions.add(move);
+                    if (all > 1) {
+                        actions.add(MoveBuffer.encode(kind, from, to, all / 2));
+                    }
+                }
+                default -> throw new IllegalStateException("Invalid action");
+            }
+        }
+    }
+
+    /**
+     * Decodes a move listed by
+     * {@link #legalActions(HeadlessEngine, MoveBuffer, MoveBuffer)}.
+     *
+     * @param action the encoded move
+     * @return the move
+     */
+    static Move toMove(final int action) {
+        final int from = MoveBuffer.getFrom(action);
+        final int to = MoveBuffer.getTo(action);
+        return switch (MoveBuffer.getKind(action)) {
+            case MoveBuffer.PLACE_OCEAN -> Move.placeOcean(from);
+            case MoveBuffer.PLACE -> Move.place(from);
+            case MoveBuffer.ATTACK -> Move.attack(from, to);
+            case MoveBuffer.END_ATTACK -> Move.endAttack();
+            case MoveBuffer.MOVE -> Move.move(from, to, MoveBuffer.getAmount(action));
+            case MoveBuffer.END_TURN -> Move.endTurn();
+            default -> throw new IllegalArgumentException("Invalid action");
+        };
+    }
+
+    /**
+     * Applies a move to the game.
+     *
+     * @param engine the game
+     * @param move   the move, legal in the current state of the game
+     */
+    static void apply(final HeadlessEngine engine, final Move move) {
+        switch (move.kind()) {
+            case PLACE_OCEAN -> apply(engine, MoveBuffer.encode(MoveBuffer.PLACE_OCEAN, move.from(), 0, 1));
+            case PLACE -> apply(engine, MoveBuffer.encode(MoveBuffer.PLACE, move.from(), 0, 1));
+            case ATTACK -> apply(engine, MoveBuffer.encode(MoveBuffer.ATTACK, move.from(), move.to(), 0));
+            case END_ATTACK -> apply(engine, MoveBuffer.encode(MoveBuffer.END_ATTACK, 0, 0, 0));
+            case MOVE -> apply(engine, MoveBuffer.encode(MoveBuffer.MOVE, move.from(), move.to(), move.amount()));
+            case END_TURN -> apply(engine, MoveBuffer.encode(MoveBuffer.END_TURN, 0, 0, 0));
+            default -> throw new IllegalArgumentException("Invalid move");
+        }
+    }
+
+    /**
+     * Applies an action generated by the engine. A movement ends the turn.
+     *
+     * @param engine the game
+     * @param move   the encoded action, legal in the current state of the game
+     */
+    static void apply(final HeadlessEngine engine, final int move) {
+        final var registry = engine.getRegistry();
+        final int from = MoveBuffer.getFrom(move);
+        switch (MoveBuffer.getKind(move)) {
+            case MoveBuffer.PLACE_OCEAN -> engine.placeDino(registry.getOcean(from).getName());
+            case MoveBuffer.PLACE -> engine.placeDino(registry.getTerritory(from).getName());
+            case MoveBuffer.ATTACK -> engine.attack(registry.getTerritory(from).getName(),
+                    registry.getTerritory(MoveBuffer.getTo(move)).getName());
+            case MoveBuffer.END_ATTACK -> engine.setGamePhase(Phase.MOVEMENT_FIRST_PART);
+            case MoveBuffer.MOVE -> {
+                engine.moveDino(registry.getTerritory(from).getName(),
+                        registry.getTerritory(MoveBuffer.getTo(move)).getName(), MoveBuffer.getAmount(move));
+                engine.endTurn();
+            }
+            case MoveBuffer.END_TURN -> engine.endTurn();
+            default -> throw new IllegalArgumentException("Invalid action");
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package it.unibo.jurassiko.bot.impl;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import it.unibo.jurassiko.bot.api.Move;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+
+/**
+ * Bot choosing every move uniformly among the legal ones. It is the cheapest
+ * opponent, useful as a baseline. An instance must be used by one thread at a
+ * time.
+ */
+public class RandomBot extends AbstractBot {
+
+    private final SplittableRandom random;
+    private final MoveBuffer buffer;
+
+    /**
+     * Creates a bot whose choices are derived from the seed.
+     *
+     * @param seed the seed of the bot
+     */
+    public RandomBot(final long seed) {
+        this.random = new SplittableRandom(seed);
+        this.buffer = new MoveBufferImpl();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move chooseMove(final HeadlessEngine engine) {
+        final List<Move> moves = MoveRules.legalMoves(engine, buffer);
+        return moves.get(random.nextInt(moves.size()));
+    }
+
+}
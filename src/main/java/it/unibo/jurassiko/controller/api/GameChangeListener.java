@@ -0,0 +1,19 @@
+package it.unibo.jurassiko.controller.api;
+
+import it.unibo.jurassiko.core.api.GameChanges;
+
+/**
+ * A view updated only with the parts of the game that changed.
+ */
+public interface GameChangeListener {
+
+    /**
+     * Updates the view with the changes of the game, called on the Event
+     * Dispatch Thread.
+     *
+     * @param changes the parts of the game changed since the last call, never
+     *                empty
+     */
+    void gameChanged(GameChanges changes);
+
+}
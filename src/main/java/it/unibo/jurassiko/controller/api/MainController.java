@@ -3,11 +3,10 @@ package it.unibo.jurassiko.controller.api;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import it.unibo.jurassiko.common.Pair;
 import it.unibo.jurassiko.core.api.GamePhase;
-import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.core.api.MoveBuffer;
 import it.unibo.jurassiko.model.player.api.Player;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
 import it.unibo.jurassiko.model.territory.api.Ocean;
@@ -33,12 +32,11 @@ public interface MainController {
     Optional<Pair<Ocean, GameColor>> getCurrentOcean();
 
     /**
-     * Creates and returns a list of all the players.
+     * Returns a list of all the players.
      * 
      * @return list of the players
-     * @throws CloneNotSupportedException if fails to clone the players
      */
-    List<Player> getPlayers() throws CloneNotSupportedException;
+    List<Player> getPlayers();
 
     /**
      * Returns current player.
@@ -48,25 +46,15 @@ public interface MainController {
     Player getCurrentPlayer();
 
     /**
-     * Retrieves the card at the specified index in the deck, if present.
-     * 
-     * @param index the index of the card to retrieve
-     * @return an Optional containing the card at the specified index, or an empty
-     *         Optional if the index is out of range
+     * Updates and shows the buttons in the frame.
      */
-    Optional<Card> getCard(int index);
+    void openTerritorySelector();
 
     /**
-     * Adds a card to the deck.
-     * 
-     * @param card the card to add
+     * Asks the losses that stop a blitz attack, then shows the buttons of the
+     * territories: the attacks chosen there are resolved as a whole.
      */
-    void addCard(Card card);
-
-    /**
-     * Updates and shows the buttons in the frame.
-     */
-    void openTerritorySelector();
+    void openBlitzSelector();
 
     /**
      * Closes the frame of territories.
@@ -79,22 +67,31 @@ public interface MainController {
     void openObjectiveCard();
 
     /**
-     * Updates the panel of dinos.
+     * Updates the views with the changes of the game not shown yet. The
+     * updates asked in the same frame are done once.
      */
     void updateBoard();
 
+    /**
+     * Subscribes a view to the changes of the game, which is notified once per
+     * frame with the parts changed since the previous notification.
+     *
+     * @param listener the view to notify
+     */
+    void addChangeListener(GameChangeListener listener);
+
     /**
      * Shows and updates the main frame.
      */
     void openView();
 
     /**
-     * Close the view.
+     * Saves the game and closes the view.
      */
     void closeGame();
 
     /**
-     * Show a pop up window with the winner color.
+     * Show a pop up window with the winner color, then close the game.
      * 
      * @param winner color of the winner
      */
@@ -130,66 +127,52 @@ public interface MainController {
     void endTurn();
 
     /**
-     * Checks if the player has the territory in the map.
+     * Enumerates every legal action of the current player in the current phase.
      * 
-     * @param territoryName name of the territory
-     * @return true if current player has the territory passed as input
+     * @param buffer the buffer to clear and fill with the actions
      */
-    boolean isAllyTerritory(String territoryName);
+    void generateMoves(MoveBuffer buffer);
 
     /**
-     * Same as isAllyTerritory but it must have more than one Dino.
+     * Based on the phase and the color of the current player.
+     * It manages the various phases.
      * 
-     * @param territoryName name of the territory
-     * @return true if current player has the territory with more than one dino
+     * @param territory name of the territory
      */
-    boolean isAllyTerritoryWithMoreThanOne(String territoryName);
+    void manageSelection(String territory);
 
     /**
-     * Checks if the input territory has al least one adjEnemy.
+     * Checks if the last dino placed in the current placement phase can be
+     * removed.
      * 
-     * @param territoryName name of the territory
-     * @return true if has one adj Enemy, false otherwise
+     * @return true if a placement can be undone, false otherwise
      */
-    boolean hasAdjEnemy(String territoryName);
+    boolean canUndo();
 
     /**
-     * Checks if the input territory has al least one adjAlly.
+     * Checks if an undone placement can be placed again.
      * 
-     * @param territoryName name of the territory
-     * @return true if has one adj Ally, false otherwise
+     * @return true if a placement can be redone, false otherwise
      */
-    boolean hasAdjAlly(String territoryName);
+    boolean canRedo();
 
     /**
-     * Get a Set of Adj territory name of the input.
-     * 
-     * @param territoryName name of the territory
-     * @return a Set of String, name of the territory,
-     *         that is Adj to the territoryName
+     * Removes the last dino placed in the current placement phase.
      */
-    Set<String> getAdj(String territoryName);
+    void undo();
 
     /**
-     * Based on the phase and the color of the current player.
-     * It manages the various phases.
-     * 
-     * @param territory name of the territory
+     * Places again the last removed dino.
      */
-    void manageSelection(String territory);
+    void redo();
 
     /**
-     * Returns the amount of clicks.
+     * Returns the amount of dino placed in the current placement phase.
      * 
      * @return amount of clicks
      */
     int getTotalClicks();
 
-    /**
-     * Resets the amount of total clicks.
-     */
-    void resetTotalClicks();
-
     /**
      * Calculate dino to place and return it.
      * 
@@ -197,12 +180,4 @@ public interface MainController {
      */
     int getRemainingDinoToPlace();
 
-    /**
-     * Assigns the cards from this deck to a destination deck.
-     *
-     * @return an Optional containing a card from this deck if available, or an
-     *         empty Optional if the deck is empty
-     */
-    Optional<Card> assignment();
-
 }
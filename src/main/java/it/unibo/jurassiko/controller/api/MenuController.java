@@ -9,4 +9,11 @@ public interface MenuController {
      * Start the game.
      */
     void startGame();
+
+    /**
+     * Resume the last saved game.
+     *
+     * @return false if there is no unfinished game to resume
+     */
+    boolean resumeGame();
 }
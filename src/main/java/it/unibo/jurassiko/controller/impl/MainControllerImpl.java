@@ -1,16 +1,14 @@
 package it.unibo.jurassiko.controller.impl;
 
 import java.awt.BorderLayout;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
@@ -18,75 +16,106 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.controller.api.GameChangeListener;
 import it.unibo.jurassiko.controller.api.MainController;
+import it.unibo.jurassiko.core.api.EngineExecutor;
+import it.unibo.jurassiko.core.api.GameChanges;
 import it.unibo.jurassiko.core.api.GameEngine;
+import it.unibo.jurassiko.core.api.GameState;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
 import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.EngineExecutorImpl;
 import it.unibo.jurassiko.core.impl.GameEngineImpl;
-import it.unibo.jurassiko.model.battle.api.Battle;
-import it.unibo.jurassiko.model.battle.impl.BattleImpl;
-import it.unibo.jurassiko.model.borders.api.Border;
-import it.unibo.jurassiko.model.borders.impl.BorderImpl;
-import it.unibo.jurassiko.model.card.api.Card;
-import it.unibo.jurassiko.model.objective.api.Objective;
-import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.log.impl.CommandLogImpl;
 import it.unibo.jurassiko.model.player.api.Player;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
-import it.unibo.jurassiko.model.player.impl.PlayerImpl;
 import it.unibo.jurassiko.model.territory.api.Ocean;
 import it.unibo.jurassiko.model.territory.api.Territory;
-import it.unibo.jurassiko.model.territory.impl.OceanFactoryImpl;
-import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
-import it.unibo.jurassiko.reader.impl.DeckDataReader;
+import it.unibo.jurassiko.save.api.GameArchive;
+import it.unibo.jurassiko.save.impl.GameArchiveImpl;
 import it.unibo.jurassiko.view.gamescreen.impl.ViewImpl;
 import it.unibo.jurassiko.view.panels.SpriteLoader;
 import it.unibo.jurassiko.view.windows.TerritorySelector;
 
 /**
  * Implementation of the interface {@MainController}.
+ * It is the graphical client of a {@link HeadlessEngine}, which owns the state
+ * of the game. The game and its loop run on an {@link EngineExecutor}: the
+ * views read the last published {@link GameState} and their commands are
+ * queued, so the Event Dispatch Thread never runs the rules of the game. The
+ * changes of the published states are joined and shown once per frame, each
+ * view updating only the parts that changed. Every command is recorded in the
+ * log of the game, which can be watched again with the replay viewer. When
+ * the game is closed it is saved in the archive of the games, from which an
+ * unfinished game can be resumed.
  */
 public class MainControllerImpl implements MainController {
 
     private static final int SELECTOR_HGAP = 15;
-    private static final int MAX_TERRITORIES = 7;
-    private static final int START_AMOUNT_DINO = 1;
-    private static final String DECK_PATH = "config/deck.json";
-
-    private final Set<Territory> allTerritories;
-    private final Set<Ocean> oceans;
-    private final Set<Objective> objectives;
-    private Map<Territory, Pair<GameColor, Integer>> territoriesMap;
-    private Optional<Pair<Ocean, GameColor>> currentOcean;
+    private static final int DEFAULT_BLITZ_LOSSES = 3;
+    private static final int FRAME_MILLIS = 16;
+    private static final Logger LOGGER = LoggerFactory.getLogger(MainControllerImpl.class);
+    private static final Path GAMES_DIR = Path.of(System.getProperty("user.home"), ".jurassiko", "games");
+    private static final Path SAVES = GAMES_DIR.resolve("saves.jsa");
 
     private final GameEngine game;
+    private final EngineExecutor executor;
+    private final Optional<CommandLog> log;
+    private final GameArchive archive;
+    private final AtomicBoolean closing;
     private final TerritorySelector terrSelect;
     private final ViewImpl mainFrame;
-    private final Border border;
-    private final List<Card> deck;
-    private final List<Player> players;
-
-    private final Battle battle;
+    private int blitzLosses;
+    private GameState state;
+    private GameChanges pending;
+    private final List<GameChangeListener> changeListeners;
+    private final Timer frame;
 
     /**
-     * Costrunctor to initialize and full the mapTerritories and the mapOcean.
+     * Costrunctor to create a new game and the views showing it.
      */
     public MainControllerImpl() {
-        this.allTerritories = new TerritoryFactoryImpl().createTerritories();
-        this.oceans = new OceanFactoryImpl().createOceans();
-        this.objectives = new ObjectiveFactoryImpl().createObjectives();
-        this.players = new ArrayList<>();
-        createPlayers();
-        fullTerritories();
-        this.currentOcean = Optional.empty();
-        this.game = new GameEngineImpl(this);
+        this(new HeadlessEngineImpl(), false);
+    }
+
+    /**
+     * Constructor to resume a saved game, as returned by
+     * {@link #loadLastGame()}. The log of a resumed game is not recorded, as it
+     * could not be replayed from the seed.
+     *
+     * @param saved the saved game
+     */
+    public MainControllerImpl(final HeadlessEngine saved) {
+        this(saved, true);
+    }
+
+    private MainControllerImpl(final HeadlessEngine model, final boolean resumed) {
+        this.log = resumed ? Optional.empty() : createLog(model);
+        this.archive = new GameArchiveImpl();
+        this.closing = new AtomicBoolean();
+        this.game = new GameEngineImpl(this, model);
+        this.state = EngineExecutorImpl.capture(model);
+        this.pending = state.changes();
+        this.changeListeners = new ArrayList<>();
+        this.frame = new Timer(FRAME_MILLIS, e -> showChanges());
+        this.frame.setRepeats(false);
+        this.executor = new EngineExecutorImpl(model, this::publish);
         this.terrSelect = new TerritorySelector(this);
         this.mainFrame = new ViewImpl(this);
-        this.border = new BorderImpl();
-        this.battle = new BattleImpl();
-        this.deck = new DeckDataReader().readFileData(DECK_PATH);
+        addChangeListener(this.mainFrame::updatePanel);
+        addChangeListener(changes -> this.terrSelect.updateButtons());
     }
 
     /**
@@ -94,7 +123,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public Map<Territory, Pair<GameColor, Integer>> getTerritoriesMap() {
-        return Map.copyOf(territoriesMap);
+        return state.territories();
     }
 
     /**
@@ -102,15 +131,15 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public Optional<Pair<Ocean, GameColor>> getCurrentOcean() {
-        return this.currentOcean.isPresent() ? Optional.of(new Pair<>(this.currentOcean.get())) : Optional.empty();
+        return state.ocean();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Player> getPlayers() throws CloneNotSupportedException {
-        return new ArrayList<>(players);
+    public List<Player> getPlayers() {
+        return state.players();
     }
 
     /**
@@ -118,7 +147,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public Player getCurrentPlayer() {
-        return game.getCurrentPlayerTurn();
+        return state.getCurrentPlayer();
     }
 
     /**
@@ -126,7 +155,33 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void openTerritorySelector() {
-        this.terrSelect.display();
+        onView(() -> {
+            this.blitzLosses = 0;
+            this.terrSelect.display();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void openBlitzSelector() {
+        final JPanel lossesPanel = new JPanel(new BorderLayout());
+        final JLabel text = new JLabel("Inserisci il numero di Dino persi che ferma l'attacco:");
+        text.setHorizontalAlignment(JLabel.CENTER);
+        text.setBorder(new EmptyBorder(0, 0, 0, SELECTOR_HGAP));
+
+        final JSpinner spinner = new JSpinner(new SpinnerNumberModel(DEFAULT_BLITZ_LOSSES, 1, Integer.MAX_VALUE, 1));
+        lossesPanel.add(text, BorderLayout.WEST);
+        lossesPanel.add(spinner, BorderLayout.EAST);
+
+        final int result = JOptionPane.showOptionDialog(this.mainFrame, lossesPanel, "Blitz",
+                JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.QUESTION_MESSAGE, null, null, null);
+        if (result == JOptionPane.OK_OPTION) {
+            this.blitzLosses = (int) spinner.getValue();
+            this.terrSelect.display();
+        }
     }
 
     /**
@@ -134,7 +189,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void closeTerritorySelector() {
-        this.terrSelect.closeView();
+        onView(this.terrSelect::closeView);
     }
 
     /**
@@ -142,7 +197,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void openObjectiveCard() {
-        this.mainFrame.displayObjective();
+        onView(this.mainFrame::displayObjective);
     }
 
     /**
@@ -150,8 +205,15 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void updateBoard() {
-        this.mainFrame.updatePanel();
-        this.terrSelect.updateButtons();
+        onView(this::scheduleFrame);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addChangeListener(final GameChangeListener listener) {
+        this.changeListeners.add(listener);
     }
 
     /**
@@ -169,8 +231,20 @@ public class MainControllerImpl implements MainController {
     @Override
     @SuppressFBWarnings(value = "DM_EXIT", justification = "Shut down program after closing the main frame")
     public void closeGame() {
-        this.mainFrame.dispose();
-        System.exit(0);
+        // Asked both by the end of the game and by the main frame
+        if (closing.getAndSet(true)) {
+            return;
+        }
+        // The game is saved by its thread, after the commands already queued
+        executor.submit(model -> {
+            saveGame(model);
+            closeLog();
+            executor.afterCommand(() -> {
+                this.mainFrame.dispose();
+                System.exit(0);
+            });
+        });
+        executor.shutdown();
     }
 
     /**
@@ -178,6 +252,14 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void showWinnerName(final GameColor winner) {
+        // The dialog returns before the game is closed, so the exit cannot interrupt it
+        onView(() -> {
+            showWinner(winner);
+            closeGame();
+        });
+    }
+
+    private void showWinner(final GameColor winner) {
         final var dinoSprites = new SpriteLoader().getDinoSprites();
 
         final ImageIcon winnerSprite = dinoSprites.get(winner);
@@ -197,7 +279,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void startGameLoop() {
-        this.game.startGameLoop();
+        executor.submit(model -> this.game.startGameLoop());
     }
 
     /**
@@ -205,7 +287,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public Phase getGamePhase() {
-        return game.getGamePhase();
+        return state.phase();
     }
 
     /**
@@ -213,7 +295,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void setGamePhase(final Phase phase) {
-        game.setGamePhase(phase);
+        executor.submit(model -> game.setGamePhase(phase));
     }
 
     /**
@@ -221,7 +303,7 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public boolean isFirstTurn() {
-        return game.isFirstTurn();
+        return state.firstTurn();
     }
 
     /**
@@ -229,58 +311,18 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void endTurn() {
-        game.endTurn();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isAllyTerritory(final String territoryName) {
-        final var currentColor = this.game.getCurrentPlayerTurn().getColor();
-        return getColorTerritory(territoryName).equals(currentColor);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean isAllyTerritoryWithMoreThanOne(final String territoryName) {
-        return isAllyTerritory(territoryName) && getMapTerritoryValue(territoryName).y() > 1;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean hasAdjEnemy(final String territoryName) {
-        return supportHasAdj(territoryName, t -> !t.x().equals(game.getCurrentPlayerTurn().getColor()));
+        executor.submit(model -> game.endTurn());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean hasAdjAlly(final String territoryName) {
-        return supportHasAdj(territoryName, t -> t.x().equals(game.getCurrentPlayerTurn().getColor()));
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Set<String> getAdj(final String territoryName) {
-        return border.getTerritoriesBorder(getMapTerritoryKey(territoryName), currentOcean.get().x());
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Optional<Card> assignment() {
-            final Card card = this.deck.get(0);
-            this.deck.remove(card);
-            return Optional.of(card);
+    public void generateMoves(final MoveBuffer buffer) {
+        buffer.clear();
+        for (int i = 0; i < state.moves().size(); i++) {
+            buffer.add(state.moves().get(i));
+        }
     }
 
     /**
@@ -288,57 +330,29 @@ public class MainControllerImpl implements MainController {
      */
     @Override
     public void manageSelection(final String territory) {
-        final var colorCurrentPlayer = game.getCurrentPlayerTurn().getColor();
-        switch (this.game.getGamePhase()) {
+        switch (state.phase()) {
             case PLACEMENT -> {
-                changeGroundDinoAmount(territory, START_AMOUNT_DINO);
+                executor.submit(model -> model.placeDino(territory));
             }
             case ATTACK_FIRST_PART -> {
             }
             case ATTACK_SECOND_PART -> {
-                boolean conquestSuccesful = false;
                 final var attacker = terrSelect.getSelectedTerritory().get();
-                final var defender = getMapTerritoryKey(territory);
-                final var pairAttack = getMapTerritoryValue(terrSelect.getSelectedTerritory().get());
-                final var pairDefence = getMapTerritoryValue(defender.getName());
-                final var deaths = battle.attack(pairAttack.y(), pairDefence.y(),
-                        battle.calculateDino(pairAttack.y(), true),
-                        battle.calculateDino(pairDefence.y(), false));
-                changeGroundDinoAmount(attacker, -deaths.x());
-                changeGroundDinoAmount(defender.getName(), -deaths.y());
-                if (getMapTerritoryValue(defender.getName()).y() <= 0) {
-                    conquestSuccesful = true;
-                    final var card = assignment();
-                    if (!game.getCurrentPlayerTurn().isAssigned() && !card.isEmpty()) {
-                        game.getCurrentPlayerTurn().setAssigned(true);
-                        game.getCurrentPlayerTurn().addCard(card.get());
-                    }
-                    final int dinoToMove = battle.calculateDino(getMapTerritoryValue(attacker).y(), true);
-                    final Pair<GameColor, Integer> defReplacement = new Pair<>(colorCurrentPlayer, dinoToMove);
-                    final var loserColor = getMapTerritoryValue(territory).x();
-                    for (final var player : players) {
-                        if (player.getColor().equals(colorCurrentPlayer)) {
-                            player.addPlayerTerritory(getMapTerritoryKey(territory));
-                        } else if (player.getColor().equals(loserColor)) {
-                            player.removePlayerTerritory(getMapTerritoryKey(territory));
-                        }
-                    }
-                    territoriesMap.replace(defender, defReplacement);
-                    changeGroundDinoAmount(attacker, -dinoToMove);
-                }
-                updateBoard();
-                showBattleOutcome(attacker, deaths.x(), territory, deaths.y(), conquestSuccesful);
+                final int losses = blitzLosses;
+                // A blitz rolls until the end of the attack, so a single outcome is shown
+                executor.submit(model -> losses > 0
+                        ? model.blitz(attacker, territory, losses)
+                        : model.attack(attacker, territory),
+                        outcome -> showBattleOutcome(attacker, outcome.attackerLosses(), territory,
+                                outcome.defenderLosses(), outcome.conquered()));
             }
             case MOVEMENT_FIRST_PART -> {
             }
             case MOVEMENT_SECOND_PART -> {
                 final var firstSelected = terrSelect.getSelectedTerritory().get();
-                final var secondSelected = getMapTerritoryKey(territory);
                 final int amount = showDinoAmountSelector(firstSelected, territory,
-                        getMapTerritoryValue(firstSelected).y() - 1);
-                changeGroundDinoAmount(firstSelected, -amount);
-                changeGroundDinoAmount(secondSelected.getName(), amount);
-                updateBoard();
+                        state.getDinoAmount(firstSelected) - 1);
+                executor.submit(model -> model.moveDino(firstSelected, territory, amount));
             }
             default -> throw new IllegalStateException("Invalid game phase");
         }
@@ -348,189 +362,171 @@ public class MainControllerImpl implements MainController {
      * {@inheritDoc}
      */
     @Override
-    public int getTotalClicks() {
-        return terrSelect.getTotalClicks();
+    public boolean canUndo() {
+        // Only the placements of the current phase can be undone, the attacks would roll the dice again
+        return state.canUndo() && state.phase().equals(Phase.PLACEMENT) && state.placedDino() > 0;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void resetTotalClicks() {
-        terrSelect.resetTotalClicks();
+    public boolean canRedo() {
+        return state.canRedo() && state.phase().equals(Phase.PLACEMENT);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int getRemainingDinoToPlace() {
-        return this.game.getRemainingDinoToPlace();
+    public void undo() {
+        if (canUndo()) {
+            executor.submit(HeadlessEngine::undo);
+        }
     }
 
-
     /**
-     * Adds the specified amount of dino to the territory in the map.
-     * 
-     * @param territoryName name of the territory
-     * @param amount        amount of dino to add at the map
+     * {@inheritDoc}
      */
-    private void changeGroundDinoAmount(final String territoryName, final int amount) {
-        if (getOceanByName(territoryName).isPresent()) {
-            placeWaterDino(territoryName);
-            return;
+    @Override
+    public void redo() {
+        if (canRedo()) {
+            executor.submit(model -> {
+                model.redo();
+                game.startGameLoop();
+            });
         }
-        final var temp = getMapTerritoryValue(territoryName);
-        final var newPair = new Pair<>(temp.x(), temp.y() + amount);
-        territoriesMap.replace(getMapTerritoryKey(territoryName), newPair);
     }
 
     /**
-     * Puts the color of the player in the correct ocean.
-     * 
-     * @param oceanName name of the ocean
+     * {@inheritDoc}
      */
-    private void placeWaterDino(final String oceanName) {
-        this.currentOcean = Optional.of(new Pair<Ocean, GameColor>(getOceanByName(oceanName).get(),
-                this.game.getCurrentPlayerTurn().getColor()));
+    @Override
+    public int getTotalClicks() {
+        return state.placedDino();
     }
 
     /**
-     * Given a name return the value.
-     * 
-     * @param territoryName name of the territory
-     * @return the color and the amount of dino
+     * {@inheritDoc}
      */
-    private Pair<GameColor, Integer> getMapTerritoryValue(final String territoryName) {
-        return territoriesMap.entrySet().stream()
-                .filter(t -> t.getKey().getName().equals(territoryName))
-                .map(t -> t.getValue())
-                .findFirst()
-                .get();
+    @Override
+    public int getRemainingDinoToPlace() {
+        return state.remainingDino();
     }
 
     /**
-     * Given a name return the key.
-     * 
-     * @param territoryName name of the territory
-     * @return key of the map
+     * Creates the log of a new game in the folder of the games, named after its
+     * seed. The game is played without a log if the file cannot be created.
+     *
+     * @param model the game
+     * @return the log of the game, if created
      */
-    private Territory getMapTerritoryKey(final String territoryName) {
-        return territoriesMap.entrySet().stream()
-                .filter(t -> t.getKey().getName().equals(territoryName))
-                .map(t -> t.getKey())
-                .findFirst()
-                .get();
+    private static Optional<CommandLog> createLog(final HeadlessEngine model) {
+        final Path path = GAMES_DIR.resolve("game-" + Long.toUnsignedString(model.getSeed()) + ".log");
+        try {
+            Files.createDirectories(GAMES_DIR);
+            // A command is written as soon as it is played, at the pace of the players
+            return Optional.of(CommandLogImpl.create(path, model, 1));
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot create the log of the game in {}", path, e);
+            return Optional.empty();
+        }
     }
 
     /**
-     * Given a name return an Optional.
-     * 
-     * @param oceanName namme of the ocean
-     * @return optional of ocean
+     * Loads the last game saved in the archive of the games, unless it is over.
+     *
+     * @return the last saved game, if it can be resumed
      */
-    private Optional<Ocean> getOceanByName(final String oceanName) {
-        return this.oceans.stream()
-                .filter(o -> o.getName().equals(oceanName))
-                .findFirst();
+    public static Optional<HeadlessEngine> loadLastGame() {
+        if (!Files.exists(SAVES)) {
+            return Optional.empty();
+        }
+        try {
+            final GameArchive saves = new GameArchiveImpl();
+            final var games = saves.read(SAVES);
+            return games.isEmpty() ? Optional.empty()
+                    : Optional.of(saves.decode(games.get(games.size() - 1)))
+                            .filter(model -> model.getWinner().isEmpty());
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.warn("Cannot load the saved games from {}", SAVES, e);
+            return Optional.empty();
+        }
     }
 
     /**
-     * Support method.
-     * 
-     * @param territoryName territory name
-     * @param condition     condition
-     * @return true if the condition is verified, false otherwise
-     */
-    private boolean supportHasAdj(final String territoryName, final Predicate<Pair<GameColor, Integer>> condition) {
-        for (final var temp : getAdj(territoryName)) {
-            if (condition.test(getMapTerritoryValue(temp))) {
-                return true;
-            }
+     * Appends the game to the archive of the games. The game is closed anyway if
+     * it cannot be saved.
+     *
+     * @param model the game
+     */
+    private void saveGame(final HeadlessEngine model) {
+        try {
+            Files.createDirectories(GAMES_DIR);
+            archive.append(SAVES, model);
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.warn("Cannot save the game in {}", SAVES, e);
         }
-        return false;
     }
 
     /**
-     * Returns the color of the territory that we passed as input.
-     * 
-     * @param terr input territory name
-     * @return Color of the Territory
-     */
-    private GameColor getColorTerritory(final String terr) {
-        for (final var player : players) {
-            for (final var temp : player.getOwnedTerritories()) {
-                if (temp.getName().equals(terr)) {
-                    return player.getColor();
-                }
+     * Closes the log of the game, if any.
+     */
+    private void closeLog() {
+        log.ifPresent(commands -> {
+            try {
+                commands.close();
+            } catch (final IOException e) {
+                LOGGER.warn("Cannot close the log of the game", e);
             }
-        }
-        throw new IllegalArgumentException("Invalid territory name");
+        });
     }
 
     /**
-     * Create all the players using the methods that we have created,
-     * inside the constructor.
+     * Receives the state after a command, keeping its changes for the next
+     * frame.
+     *
+     * @param published the state of the game
      */
-    private void createPlayers() {
-        final Set<Territory> copyTerritories = new HashSet<>(this.allTerritories);
-        final Set<Objective> copyObjectives = new HashSet<>(this.objectives);
-        final Player redPlayer = new PlayerImpl(GameColor.RED,
-                shuffleObjective(copyObjectives),
-                shuffleTerritories(copyTerritories, MAX_TERRITORIES));
-        final Player greenPlayer = new PlayerImpl(GameColor.GREEN,
-                shuffleObjective(copyObjectives),
-                shuffleTerritories(copyTerritories, MAX_TERRITORIES));
-        final Player bluePlayer = new PlayerImpl(GameColor.BLUE,
-                shuffleObjective(copyObjectives),
-                shuffleTerritories(copyTerritories, MAX_TERRITORIES));
-        players.add(redPlayer);
-        players.add(greenPlayer);
-        players.add(bluePlayer);
+    private void publish(final GameState published) {
+        this.state = published;
+        this.pending = pending.merge(published.changes());
+        scheduleFrame();
     }
 
     /**
-     * Shuffle all the territories and return 7 territories
-     * for the current player.
-     * 
-     * @param territories    all territories in the game
-     * @param maxTerritories max territories for each player
-     * @return a set of 7 territories
+     * Starts the frame that shows the pending changes, unless it is already
+     * started or nothing changed.
      */
-    private Set<Territory> shuffleTerritories(final Set<Territory> territories, final int maxTerritories) {
-        final List<Territory> territoryList = new ArrayList<>(territories);
-        Collections.shuffle(territoryList);
-        final Set<Territory> temp = territoryList.stream()
-                .limit(maxTerritories)
-                .collect(Collectors.toSet());
-        territories.removeAll(temp);
-        return temp;
+    private void scheduleFrame() {
+        if (!pending.isEmpty() && !frame.isRunning()) {
+            frame.start();
+        }
     }
 
     /**
-     * Return a single objective for the current player and
-     * remove it from the set.
-     * 
-     * @param objectives all of the objectives
-     * @return a single objective for the corresponding player
+     * Notifies the views of all the changes since the previous frame.
      */
-    private Objective shuffleObjective(final Set<Objective> objectives) {
-        final List<Objective> objectiveList = new ArrayList<>(objectives);
-        Collections.shuffle(objectiveList);
-        final Objective temp = objectiveList.get(0);
-        objectives.remove(temp);
-        return temp;
+    private void showChanges() {
+        final GameChanges changes = pending;
+        pending = GameChanges.NONE;
+        if (!changes.isEmpty()) {
+            changeListeners.forEach(l -> l.gameChanged(changes));
+        }
     }
 
     /**
-     * Fill the mapTerritories with the territories and
-     * the corresponding color and initial amout.
+     * Runs a change of the views on the Event Dispatch Thread. Asked by the
+     * loop of the game, it waits for the state following the command.
+     *
+     * @param action the change of the views
      */
-    private void fullTerritories() {
-        territoriesMap = new HashMap<>();
-        allTerritories.stream()
-                .forEach(terr -> territoriesMap.put(terr,
-                        new Pair<>(getColorTerritory(terr.getName()), START_AMOUNT_DINO)));
+    private void onView(final Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            executor.afterCommand(action);
+        }
     }
 
     private int showDinoAmountSelector(final String source, final String target, final int maximum) {
@@ -582,23 +578,4 @@ public class MainControllerImpl implements MainController {
         };
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void addCard(final Card card) {
-        this.deck.add(card);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Optional<Card> getCard(final int index) {
-        if (index >= 0 && index < this.deck.size()) {
-            return Optional.of(this.deck.get(index));
-        } else {
-            return Optional.empty();
-        }
-    }
 }
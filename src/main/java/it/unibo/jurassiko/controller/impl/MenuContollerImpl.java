@@ -1,20 +1,35 @@
 package it.unibo.jurassiko.controller.impl;
 
+import java.util.Optional;
+
 import it.unibo.jurassiko.controller.api.MainController;
 import it.unibo.jurassiko.controller.api.MenuController;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
 
 /**
  * Implementation of {@link MenuController} interface.
  */
 public class MenuContollerImpl implements MenuController {
 
-    private final MainController mainContr = new MainControllerImpl();
-
     /**
      * {@inheritDoc}
      */
     @Override
     public void startGame() {
+        start(new MainControllerImpl());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean resumeGame() {
+        final Optional<HeadlessEngine> saved = MainControllerImpl.loadLastGame();
+        saved.ifPresent(model -> start(new MainControllerImpl(model)));
+        return saved.isPresent();
+    }
+
+    private void start(final MainController mainContr) {
         mainContr.openView();
         mainContr.startGameLoop();
     }
@@ -0,0 +1,74 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.List;
+
+/**
+ * Listener of the commands executed by a {@link HeadlessEngine}. It is
+ * notified after a command has changed the game, never for a command that
+ * failed, so the sequence of notifications rebuilds the game when the same
+ * commands are applied to a new game with the same seed.
+ */
+public interface CommandListener {
+
+    /**
+     * Notifies that a dino has been placed.
+     *
+     * @param areaName name of the territory or of the ocean
+     */
+    void placed(String areaName);
+
+    /**
+     * Notifies that the dino of a plan have been placed by a single command.
+     *
+     * @param plan the placements, in order
+     */
+    void placedAll(List<HeadlessEngine.Placement> plan);
+
+    /**
+     * Notifies that an attack has been performed.
+     *
+     * @param attacker name of the attacking territory
+     * @param defender name of the defending territory
+     * @param outcome  the outcome of the attack
+     */
+    void attacked(String attacker, String defender, HeadlessEngine.AttackOutcome outcome);
+
+    /**
+     * Notifies that dino have been moved.
+     *
+     * @param source name of the territory the dino have been moved from
+     * @param target name of the territory the dino have been moved to
+     * @param amount amount of dino moved
+     */
+    void moved(String source, String target, int amount);
+
+    /**
+     * Notifies that some movements have been applied by a single command.
+     *
+     * @param movements the movements, in order
+     */
+    void movedAll(List<HeadlessEngine.Movement> movements);
+
+    /**
+     * Notifies that the turn of the current player has ended.
+     */
+    void turnEnded();
+
+    /**
+     * Notifies that the phase of the game has been set.
+     *
+     * @param phase the new phase
+     */
+    void phaseSet(GamePhase.Phase phase);
+
+    /**
+     * Notifies that the last command has been undone.
+     */
+    void undone();
+
+    /**
+     * Notifies that the last undone command has been redone.
+     */
+    void redone();
+
+}
@@ -0,0 +1,46 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs the commands of a game on a thread of its own, so the graphical
+ * interface never waits for the rules, the win checks or the bots. The
+ * commands are executed one at a time in the order they are submitted; after
+ * each one a {@link GameState} is captured and published to the Event
+ * Dispatch Thread, followed by the changes of the views the command asked for.
+ */
+public interface EngineExecutor {
+
+    /**
+     * Queues a command of the game.
+     *
+     * @param command the command, which gets the game it runs on
+     */
+    void submit(Consumer<HeadlessEngine> command);
+
+    /**
+     * Queues a command of the game whose result is needed by the views.
+     *
+     * @param <T>      the type of the result
+     * @param command  the command, which gets the game it runs on
+     * @param onResult receives the result on the Event Dispatch Thread, after
+     *                 the state following the command has been published; it
+     *                 is not called if the game rejects the command
+     */
+    <T> void submit(Function<HeadlessEngine, T> command, Consumer<T> onResult);
+
+    /**
+     * Schedules a change of the views after the state following the running
+     * command has been published. It can only be called by a command.
+     *
+     * @param action the change of the views, run on the Event Dispatch Thread
+     */
+    void afterCommand(Runnable action);
+
+    /**
+     * Stops accepting commands, letting the queued ones finish.
+     */
+    void shutdown();
+
+}
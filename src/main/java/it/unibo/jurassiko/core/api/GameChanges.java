@@ -0,0 +1,65 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * The parts of a game changed by some commands, so that the views update only
+ * them. The changes of a game are tracked by the commands themselves, so their
+ * cost does not depend on the size of the board.
+ *
+ * @param territories the territories whose owner or dino changed
+ * @param ocean       true if the selected ocean or its owner changed
+ * @param phase       true if the phase changed
+ * @param turn        true if the current player or the dino of the turn changed
+ * @param hands       the colors of the players whose cards changed
+ */
+public record GameChanges(Set<Territory> territories, boolean ocean, boolean phase, boolean turn,
+        Set<GameColor> hands) {
+
+    /**
+     * No change at all.
+     */
+    public static final GameChanges NONE = new GameChanges(Set.of(), false, false, false, Set.of());
+
+    /**
+     * Makes the sets immutable.
+     */
+    public GameChanges {
+        territories = Set.copyOf(territories);
+        hands = Set.copyOf(hands);
+    }
+
+    /**
+     * @return true if nothing changed
+     */
+    public boolean isEmpty() {
+        return territories.isEmpty() && !ocean && !phase && !turn && hands.isEmpty();
+    }
+
+    /**
+     * Joins these changes with the following ones, for example to update the
+     * views once for many commands.
+     *
+     * @param other the following changes
+     * @return the parts changed by any of them
+     */
+    public GameChanges merge(final GameChanges other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final Set<Territory> allTerritories = new HashSet<>(territories);
+        allTerritories.addAll(other.territories);
+        final Set<GameColor> allHands = new HashSet<>(hands);
+        allHands.addAll(other.hands);
+        return new GameChanges(allTerritories, ocean || other.ocean, phase || other.phase, turn || other.turn,
+                allHands);
+    }
+
+}
@@ -0,0 +1,57 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * The state of a game shown by the views, captured after a command by the
+ * thread that owns the game. The players are copies and the moves must not be
+ * changed, so the views can read the state from any thread while the game
+ * goes on.
+ *
+ * @param registry      registry of the territories of the board
+ * @param territories   owner and dino of every territory
+ * @param ocean         selected ocean and its owner
+ * @param players       copies of the players, in the order of the game
+ * @param currentPlayer index of the current player
+ * @param phase         phase of the game
+ * @param firstTurn     true during the first turn
+ * @param placedDino    dino placed in the current placement phase
+ * @param remainingDino dino left to place in the current placement phase
+ * @param moves         legal moves of the current player
+ * @param canUndo       true if the game has a command to undo
+ * @param canRedo       true if the game has a command to redo
+ * @param changes       parts of the game changed since the previous state
+ */
+public record GameState(TerritoryRegistry registry, Map<Territory, Pair<GameColor, Integer>> territories,
+        Optional<Pair<Ocean, GameColor>> ocean, List<Player> players, int currentPlayer, GamePhase.Phase phase,
+        boolean firstTurn, int placedDino, int remainingDino, MoveBuffer moves, boolean canUndo, boolean canRedo,
+        GameChanges changes) {
+
+    /**
+     * @return the copy of the current player
+     */
+    public Player getCurrentPlayer() {
+        return players.get(currentPlayer);
+    }
+
+    /**
+     * Gets the dino in a territory.
+     *
+     * @param territoryName name of the territory
+     * @return the amount of dino
+     * @throws IllegalArgumentException if the territory does not exist
+     */
+    public int getDinoAmount(final String territoryName) {
+        return territories.get(registry.getTerritory(registry.getTerritoryId(territoryName))).y();
+    }
+
+}
@@ -0,0 +1,479 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.api.BoardView;
+import it.unibo.jurassiko.model.card.api.Deck;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Manage the state and the rules of a game without any graphical component.
+ * The engine owns the board, the turn of the players and the phase of the game,
+ * and it changes them only through the commands it exposes.
+ */
+public interface HeadlessEngine {
+
+    /**
+     * The outcome of a single attack.
+     *
+     * @param attackerLosses the amount of dino lost by the attacking territory
+     * @param defenderLosses the amount of dino lost by the defending territory
+     * @param conquered      true if the defending territory has been conquered
+     */
+    record AttackOutcome(int attackerLosses, int defenderLosses, boolean conquered) {
+    }
+
+    /**
+     * Some dino placed in the same area.
+     *
+     * @param areaName name of the territory or of the ocean
+     * @param amount   amount of dino to place
+     */
+    record Placement(String areaName, int amount) {
+    }
+
+    /**
+     * Some dino moved between two territories.
+     *
+     * @param source name of the territory to move the dino from
+     * @param target name of the territory to move the dino to
+     * @param amount amount of dino to move
+     */
+    record Movement(String source, String target, int amount) {
+    }
+
+    /**
+     * The saved state of a game, which can only be restored in a game on the
+     * same board. The board is a copy that must not be changed, the states of
+     * the players and of the deck are immutable.
+     *
+     * @param board        copy of the board
+     * @param players      states of the players, in the order of the game
+     * @param currentColor color of the current player
+     * @param phase        phase of the game
+     * @param ocean        selected ocean and its owner
+     * @param deck         state of the deck
+     * @param firstTurn    true during the first turn
+     * @param playersReady players who completed the first placement
+     * @param turn         dino of the current turn
+     */
+    record Snapshot(Board board, List<Player.State> players, GameColor currentColor, GamePhase.Phase phase,
+            Optional<Pair<Ocean, GameColor>> ocean, Deck.State deck, boolean firstTurn, int playersReady,
+            TurnContext turn) {
+    }
+
+    /**
+     * Gets the seed from which every random choice of the game is derived. For
+     * a copy of a game it is the seed of the dice of the copy.
+     *
+     * @return the seed of the game
+     */
+    long getSeed();
+
+    /**
+     * Creates an independent copy of the game, in the same state. The copy
+     * rolls its own dice, derived from the given seed, so it can be played
+     * without affecting this game, for example to simulate the rest of it.
+     *
+     * @param seed the seed of the dice of the copy
+     * @return the copy of the game
+     */
+    HeadlessEngine copy(long seed);
+
+    /**
+     * Saves the current state of the game: board, players, deck, turn and
+     * phase. The states of the players and of the deck are immutable and shared,
+     * so the cost does not depend on the amount of cards or territories owned.
+     * The dice are not saved.
+     *
+     * @return the state of the game
+     */
+    Snapshot snapshot();
+
+    /**
+     * Restores a state of this game or of a copy of it, without replaying the
+     * commands. The history of the commands is not changed.
+     *
+     * @param snapshot the state to restore
+     * @throws IllegalArgumentException if the state belongs to a game on another
+     *                                  board or is not valid
+     */
+    void restore(Snapshot snapshot);
+
+    /**
+     * Sets how many commands are kept in the history. Every command saves only
+     * the territories it changes and the rest of the game before it, whose parts
+     * are shared, so undoing it takes time proportional to its changes. Copies of
+     * a game start with the history disabled.
+     *
+     * @param limit the maximum amount of commands that can be undone, 0 to
+     *              disable the history
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    void setHistoryLimit(int limit);
+
+    /**
+     * @return true if there is a command to undo, false otherwise
+     */
+    boolean canUndo();
+
+    /**
+     * @return true if there is an undone command to redo, false otherwise
+     */
+    boolean canRedo();
+
+    /**
+     * Restores the state before the last command: a placement, an attack, a
+     * movement, the end of a turn or a change of phase.
+     *
+     * @throws IllegalStateException if there is no command to undo
+     */
+    void undo();
+
+    /**
+     * Restores the state after the last undone command.
+     *
+     * @throws IllegalStateException if there is no command to redo
+     */
+    void redo();
+
+    /**
+     * Adds a listener notified after every command that changes the game. Copies
+     * of a game start without listeners, and restoring a state is not notified.
+     *
+     * @param listener the listener to add
+     */
+    void addCommandListener(CommandListener listener);
+
+    /**
+     * Removes a listener added with {@link #addCommandListener(CommandListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeCommandListener(CommandListener listener);
+
+    /**
+     * Gets the parts of the game changed since the last call, then starts
+     * tracking the changes again. For a new game, or a new copy, every
+     * territory, hand and part of the turn is changed.
+     *
+     * @return the changes since the last call
+     */
+    GameChanges drainChanges();
+
+    /**
+     * Gets the map of territories.
+     *
+     * @return map of the territories with the color and the amount of dino
+     */
+    Map<Territory, Pair<GameColor, Integer>> getTerritoriesMap();
+
+    /**
+     * Gets the registry of the territories and oceans of the board.
+     *
+     * @return the registry, whose ids are used by the board
+     */
+    TerritoryRegistry getRegistry();
+
+    /**
+     * Gets a snapshot of the board.
+     *
+     * @return a copy of the board, indexed by the ids of the registry
+     */
+    Board getBoard();
+
+    /**
+     * Gets the board of the game without copying it, for the searches reading
+     * it after every command. The view follows the changes of the game.
+     *
+     * @return the board, indexed by the ids of the registry
+     */
+    BoardView getBoardView();
+
+    /**
+     * Gets the amount of dino in a territory.
+     *
+     * @param territoryName name of the territory
+     * @return the amount of dino
+     */
+    int getDinoAmount(String territoryName);
+
+    /**
+     * Gets the pair containing the ocean and the current owner.
+     *
+     * @return a pair with the selected ocean and its owner
+     */
+    Optional<Pair<Ocean, GameColor>> getCurrentOcean();
+
+    /**
+     * Gets all the Players, sorted by turn order.
+     *
+     * @return list of the players
+     */
+    List<Player> getPlayers();
+
+    /**
+     * Gets the current player Turn.
+     *
+     * @return current player
+     */
+    Player getCurrentPlayer();
+
+    /**
+     * Gets the deck of the cards that can still be drawn.
+     *
+     * @return the deck of the game
+     */
+    Deck getDeck();
+
+    /**
+     * Get the Phase of the game.
+     *
+     * @return Phase of the Game
+     */
+    GamePhase.Phase getGamePhase();
+
+    /**
+     * Set the phase of the Game. The placement cannot be left or entered this
+     * way: it ends when every dino has been placed and starts with a new turn.
+     * Then the attack phases can be switched freely until the player moves to the
+     * movement phases, which cannot go back to the attack.
+     *
+     * @param phase phase to set
+     * @throws IllegalStateException if the current phase cannot change to the
+     *                               given one
+     */
+    void setGamePhase(GamePhase.Phase phase);
+
+    /**
+     * Get the first turn.
+     *
+     * @return true if its the first turn, false otherwise
+     */
+    boolean isFirstTurn();
+
+    /**
+     * Gets the dino of the current turn, computed when the turn started.
+     *
+     * @return the context of the current turn
+     */
+    TurnContext getTurnContext();
+
+    /**
+     * Get the amount of dino already placed in the current turn.
+     *
+     * @return the amount of dino placed
+     */
+    int getPlacedDino();
+
+    /**
+     * Get the Remaining dino to place.
+     *
+     * @return the remaining amount of dino to place
+     */
+    int getRemainingDinoToPlace();
+
+    /**
+     * Places a dino of the current player in the given area. At the start of
+     * every placement phase but the first turn the dino must be placed in an
+     * ocean, then in the territories owned by the player.
+     * When every dino has been placed the engine goes to the next player or to
+     * the next phase.
+     *
+     * @param areaName name of the territory or of the ocean
+     * @throws IllegalStateException    if the game is not in the placement phase
+     * @throws IllegalArgumentException if the dino cannot be placed in the area
+     */
+    void placeDino(String areaName);
+
+    /**
+     * Places some dino of the current player in the given area, as many calls
+     * of {@link #placeDino(String)} in a single command.
+     *
+     * @param areaName name of the territory or of the ocean
+     * @param amount   amount of dino to place
+     * @throws IllegalStateException    if the game is not in the placement phase
+     * @throws IllegalArgumentException if the dino cannot be placed in the area
+     *                                  or the amount is more than the dino the
+     *                                  area can still receive
+     */
+    void placeDino(String areaName, int amount);
+
+    /**
+     * Places the dino of a plan in order, in a single command. Every placement
+     * follows the rules of {@link #placeDino(String, int)}, and the whole plan
+     * must be placed by the current player: if a placement is not allowed the
+     * game is left as it was before the plan.
+     *
+     * @param plan the placements, not empty
+     * @throws IllegalStateException    if a placement is not in the placement
+     *                                  phase
+     * @throws IllegalArgumentException if the plan is empty, a placement is not
+     *                                  allowed or it is done by another player
+     */
+    void placeAll(List<Placement> plan);
+
+    /**
+     * Performs a single attack from a territory of the current player to an
+     * adjacent enemy territory. If the defending territory is conquered it
+     * becomes owned by the current player.
+     *
+     * @param attacker name of the attacking territory
+     * @param defender name of the defending territory
+     * @return the outcome of the attack
+     * @throws IllegalStateException    if the game is not in an attack phase
+     * @throws IllegalArgumentException if the attack is not allowed
+     */
+    AttackOutcome attack(String attacker, String defender);
+
+    /**
+     * Performs a single attack whose losses are already known, without rolling
+     * the dice, for example to replay a recorded game. The same rules of
+     * {@link #attack(String, String)} apply.
+     *
+     * @param attacker       name of the attacking territory
+     * @param defender       name of the defending territory
+     * @param attackerLosses the amount of dino lost by the attacking territory,
+     *                       which keeps at least one
+     * @param defenderLosses the amount of dino lost by the defending territory
+     * @return the outcome of the attack
+     * @throws IllegalStateException    if the game is not in an attack phase
+     * @throws IllegalArgumentException if the attack is not allowed or the
+     *                                  losses are not possible
+     */
+    AttackOutcome applyAttack(String attacker, String defender, int attackerLosses, int defenderLosses);
+
+    /**
+     * Attacks again and again from a territory of the current player to an
+     * adjacent enemy territory, until the defending territory is conquered,
+     * the attacking territory has lost at least the given amount of dino or it
+     * is left with a single dino. The final state is drawn at once from the
+     * exact odds of the whole attack, so it takes the same time whatever the
+     * amount of dino, and it is recorded as a single attack with the total
+     * losses.
+     *
+     * @param attacker  name of the attacking territory
+     * @param defender  name of the defending territory
+     * @param maxLosses the losses of the attacking territory that stop the
+     *                  attack, at least 1
+     * @return the total outcome of the attack
+     * @throws IllegalStateException    if the game is not in an attack phase
+     * @throws IllegalArgumentException if the attack is not allowed or the
+     *                                  amount of losses is not positive
+     */
+    AttackOutcome blitz(String attacker, String defender, int maxLosses);
+
+    /**
+     * Moves dino between two adjacent territories of the current player.
+     *
+     * @param source name of the territory to move the dino from
+     * @param target name of the territory to move the dino to
+     * @param amount amount of dino to move
+     * @throws IllegalStateException    if the game is not in a movement phase
+     * @throws IllegalArgumentException if the movement is not allowed
+     */
+    void moveDino(String source, String target, int amount);
+
+    /**
+     * Applies some movements in order, in a single command. Every movement
+     * follows the rules of {@link #moveDino(String, String, int)} in the state
+     * left by the previous ones: if a movement is not allowed the game is left
+     * as it was before the first one.
+     *
+     * @param movements the movements, not empty
+     * @throws IllegalStateException    if the game is not in a movement phase
+     * @throws IllegalArgumentException if there are no movements or one of them
+     *                                  is not allowed
+     */
+    void moveAll(List<Movement> movements);
+
+    /**
+     * End the Turn of the Player and go to the placement phase of the next player
+     * who still owns at least one territory. The dino of the new turn are
+     * computed here, trading the best combination of cards of the player.
+     *
+     * @throws IllegalStateException if the game is in the first turn or in the
+     *                               placement phase
+     */
+    void endTurn();
+
+    /**
+     * Enumerates every legal action of the current player in the current phase:
+     * the oceans or the owned territories during the placement, the attacks and
+     * the end of the attack during the attack phase, the movements and the end
+     * of the turn during the movement phase. The amount of dino of a placement
+     * is 1, the one of an attack or of a movement is the maximum allowed.
+     *
+     * @param buffer the buffer to clear and fill with the actions
+     */
+    void generateMoves(MoveBuffer buffer);
+
+    /**
+     * Checks if the current player has the territory in the map.
+     *
+     * @param territoryName name of the territory
+     * @return true if current player has the territory passed as input
+     */
+    boolean isAllyTerritory(String territoryName);
+
+    /**
+     * Same as isAllyTerritory but it must have more than one Dino.
+     *
+     * @param territoryName name of the territory
+     * @return true if current player has the territory with more than one dino
+     */
+    boolean isAllyTerritoryWithMoreThanOne(String territoryName);
+
+    /**
+     * Checks if the input territory has al least one adjEnemy.
+     *
+     * @param territoryName name of the territory
+     * @return true if has one adj Enemy, false otherwise
+     */
+    boolean hasAdjEnemy(String territoryName);
+
+    /**
+     * Checks if a territory has at least one adjacent enemy, as
+     * {@link #hasAdjEnemy(String)} does, without looking up its name.
+     *
+     * @param territoryId id of the territory
+     * @return true if it has an adjacent enemy, false otherwise
+     */
+    boolean hasAdjEnemy(int territoryId);
+
+    /**
+     * Checks if the input territory has al least one adjAlly.
+     *
+     * @param territoryName name of the territory
+     * @return true if has one adj Ally, false otherwise
+     */
+    boolean hasAdjAlly(String territoryName);
+
+    /**
+     * Get a Set of Adj territory name of the input.
+     *
+     * @param territoryName name of the territory
+     * @return a Set of String, name of the territory,
+     *         that is Adj to the territoryName
+     */
+    Set<String> getAdj(String territoryName);
+
+    /**
+     * Checks if some player has completed their objective. Every player is
+     * checked, starting from the current one.
+     *
+     * @return an Optional containing the winner, or an empty Optional if the game
+     *         is not over
+     */
+    Optional<Player> getWinner();
+
+}
@@ -0,0 +1,134 @@
+package it.unibo.jurassiko.core.api;
+
+/**
+ * Reusable buffer of legal actions, each one encoded in a single int so that
+ * filling the buffer never allocates.
+ * An action is made of a kind, the id of the ocean or territory it starts from,
+ * the id of the territory it reaches and an amount of dino. Actions without a
+ * starting or reached area have 0 in the corresponding field.
+ */
+public interface MoveBuffer {
+
+    /**
+     * Place the water dino in the ocean with id {@link #getFrom(int)}.
+     */
+    int PLACE_OCEAN = 0;
+
+    /**
+     * Place a dino in the owned territory with id {@link #getFrom(int)}.
+     */
+    int PLACE = 1;
+
+    /**
+     * Attack once the territory {@link #getTo(int)} from the territory
+     * {@link #getFrom(int)}, which has {@link #getAmount(int)} dino besides the
+     * one that must stay.
+     */
+    int ATTACK = 2;
+
+    /**
+     * Stop attacking and go to the movement phase.
+     */
+    int END_ATTACK = 3;
+
+    /**
+     * Move up to {@link #getAmount(int)} dino from the territory
+     * {@link #getFrom(int)} to the territory {@link #getTo(int)}.
+     */
+    int MOVE = 4;
+
+    /**
+     * End the turn without moving.
+     */
+    int END_TURN = 5;
+
+    /**
+     * Amount of bits of the kind of an action.
+     */
+    int KIND_BITS = 3;
+
+    /**
+     * Amount of bits of an id, enough for every territory of a board.
+     */
+    int ID_BITS = 6;
+
+    /**
+     * Encodes an action.
+     *
+     * @param kind   the kind of the action
+     * @param from   the id of the ocean or territory the action starts from
+     * @param to     the id of the territory the action reaches
+     * @param amount the amount of dino
+     * @return the encoded action
+     */
+    static int encode(final int kind, final int from, final int to, final int amount) {
+        return kind | from << KIND_BITS | to << KIND_BITS + ID_BITS | amount << KIND_BITS + 2 * ID_BITS;
+    }
+
+    /**
+     * @param move an encoded action
+     * @return the kind of the action
+     */
+    static int getKind(final int move) {
+        return move & (1 << KIND_BITS) - 1;
+    }
+
+    /**
+     * @param move an encoded action
+     * @return the id of the ocean or territory the action starts from
+     */
+    static int getFrom(final int move) {
+        return move >>> KIND_BITS & (1 << ID_BITS) - 1;
+    }
+
+    /**
+     * @param move an encoded action
+     * @return the id of the territory the action reaches
+     */
+    static int getTo(final int move) {
+        return move >>> KIND_BITS + ID_BITS & (1 << ID_BITS) - 1;
+    }
+
+    /**
+     * @param move an encoded action
+     * @return the amount of dino of the action
+     */
+    static int getAmount(final int move) {
+        return move >>> KIND_BITS + 2 * ID_BITS;
+    }
+
+    /**
+     * @return the amount of actions in the buffer
+     */
+    int size();
+
+    /**
+     * Gets an action of the buffer.
+     *
+     * @param index the position of the action
+     * @return the encoded action
+     * @throws IndexOutOfBoundsException if the index is not less than the size
+     */
+    int get(int index);
+
+    /**
+     * Adds an action at the end of the buffer, growing it if needed.
+     *
+     * @param move the encoded action
+     */
+    void add(int move);
+
+    /**
+     * Removes every action, keeping the memory for the next ones.
+     */
+    void clear();
+
+    /**
+     * Checks if the buffer contains an action.
+     *
+     * @param move the encoded action
+     * @return true if the action is in the buffer, false otherwise
+     */
+    boolean contains(int move);
+
+}
@@ -0,0 +1,82 @@
+package it.unibo.jurassiko.core.api;
+
+/**
+ * The dino the current player gets at the start of a turn, computed once when
+ * the turn starts and then counted down by the placements. During the first
+ * turn the player only gets the initial dino, placed on the territories.
+ *
+ * @param groundBonus dino given by the owned territories and continents
+ * @param cardBonus   dino given by the combination of cards traded at the start
+ *                    of the turn
+ * @param waterBonus  dino to place in an ocean before the other ones
+ * @param placed      dino already placed
+ */
+public record TurnContext(int groundBonus, int cardBonus, int waterBonus, int placed) {
+
+    /**
+     * Checks the amounts of dino.
+     *
+     * @throws IllegalArgumentException if an amount is negative or more dino
+     *                                  than the total have been placed
+     */
+    public TurnContext {
+        if (groundBonus < 0 || cardBonus < 0 || waterBonus < 0 || placed < 0
+                || placed > groundBonus + cardBonus + waterBonus) {
+            throw new IllegalArgumentException("Invalid dino of the turn");
+        }
+    }
+
+    /**
+     * Creates the context of the first turn of a player.
+     *
+     * @param initialDino the amount of initial dino
+     * @return the context with no dino placed
+     */
+    public static TurnContext firstTurn(final int initialDino) {
+        return new TurnContext(initialDino, 0, 0, 0);
+    }
+
+    /**
+     * @return the amount of dino of the turn
+     */
+    public int getTotal() {
+        return groundBonus + cardBonus + waterBonus;
+    }
+
+    /**
+     * @return the amount of dino still to place
+     */
+    public int getRemaining() {
+        return getTotal() - placed;
+    }
+
+    /**
+     * @return true if the next dino must be placed in an ocean
+     */
+    public boolean isWaterNext() {
+        return placed < waterBonus;
+    }
+
+    /**
+     * @return true if every dino has been placed
+     */
+    public boolean isComplete() {
+        return placed == getTotal();
+    }
+
+    /**
+     * Counts some placed dino.
+     *
+     * @param amount the amount of dino placed
+     * @return the context after the placement
+     * @throws IllegalArgumentException if the amount is not positive or more than
+     *                                  the remaining dino
+     */
+    public TurnContext place(final int amount) {
+        if (amount < 1 || amount > getRemaining()) {
+            throw new IllegalArgumentException("Invalid amount of dino to place: " + amount);
+        }
+        return new TurnContext(groundBonus, cardBonus, waterBonus, placed + amount);
+    }
+
+}
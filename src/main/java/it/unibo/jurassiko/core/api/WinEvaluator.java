@@ -0,0 +1,49 @@
+package it.unibo.jurassiko.core.api;
+
+import java.util.Optional;
+
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Incremental version of {@link WinCondition}. The objective of every player
+ * is compiled once into a predicate over ownership bitmasks and counters, which
+ * are kept up to date as the territories change, so that checking if a player
+ * has won takes constant time.
+ */
+public interface WinEvaluator {
+
+    /**
+     * Updates the state of a territory.
+     *
+     * @param territoryId id of the territory
+     * @param owner       color of the owner
+     * @param dino        amount of dino in the territory
+     */
+    void update(int territoryId, GameColor owner, int dino);
+
+    /**
+     * Updates the state of every territory of the board.
+     *
+     * @param board the board
+     */
+    void updateAll(Board board);
+
+    /**
+     * Checks if a player has completed their objective.
+     *
+     * @param color color of the player
+     * @return true if the player has completed their objective, false otherwise
+     */
+    boolean hasWon(GameColor color);
+
+    /**
+     * Checks if any player has completed their objective.
+     *
+     * @return an Optional containing the color of the first player, in turn
+     *         order, who has completed their objective, or an empty Optional
+     *         otherwise
+     */
+    Optional<GameColor> getWinner();
+
+}
@@ -0,0 +1,225 @@
+package it.unibo.jurassiko.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.EngineExecutor;
+import it.unibo.jurassiko.core.api.GameChanges;
+import it.unibo.jurassiko.core.api.GameState;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Implementation of {@link EngineExecutor} over a single-threaded executor.
+ * The game is only touched by its daemon thread, and the views only read the
+ * states it publishes.
+ */
+public final class EngineExecutorImpl implements EngineExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EngineExecutorImpl.class);
+    private static final String THREAD_NAME = "jurassiko-engine";
+
+    private final HeadlessEngine engine;
+    private final Consumer<GameState> publisher;
+    private final ExecutorService executor;
+    private final List<Runnable> effects;
+    private Optional<GameState> last;
+    private volatile Thread engineThread;
+
+    /**
+     * Creates the thread of a game. From now on the game must only be changed
+     * through the submitted commands.
+     *
+     * @param engine    the game
+     * @param publisher receives on the Event Dispatch Thread the state after
+     *                  every command
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The game is owned by the executor by design")
+    public EngineExecutorImpl(final HeadlessEngine engine, final Consumer<GameState> publisher) {
+        this.engine = engine;
+        this.publisher = publisher;
+        this.effects = new ArrayList<>();
+        this.last = Optional.empty();
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            engineThread = thread;
+            return thread;
+        });
+    }
+
+    /**
+     * Captures the whole state of a game shown by the views, with the changes
+     * since the last capture.
+     *
+     * @param engine the game
+     * @return the state of the game
+     */
+    public static GameState capture(final HeadlessEngine engine) {
+        final GameChanges changes = engine.drainChanges();
+        final List<Player> players = new ArrayList<>();
+        for (final var player : engine.getPlayers()) {
+            players.add(player.getPlayer());
+        }
+        final MoveBuffer moves = new MoveBufferImpl();
+        engine.generateMoves(moves);
+        return createState(engine, engine.getTerritoriesMap(), List.copyOf(players), moves, changes);
+    }
+
+    /**
+     * Captures the state of a game after the previous one, building again only
+     * what changed since then: the entries of the changed territories, the
+     * copies of the players whose cards or territories changed, and the moves if
+     * the board or the turn changed. The rest is shared with the previous state.
+     *
+     * @param engine   the game
+     * @param previous the previous state of the same game
+     * @return the state of the game
+     */
+    public static GameState capture(final HeadlessEngine engine, final GameState previous) {
+        final GameChanges changes = engine.drainChanges();
+        final var registry = engine.getRegistry();
+        final var board = engine.getBoardView();
+        final Set<GameColor> touched = EnumSet.noneOf(GameColor.class);
+        touched.addAll(changes.hands());
+        if (changes.turn()) {
+            touched.add(previous.getCurrentPlayer().getColor());
+        }
+        Map<Territory, Pair<GameColor, Integer>> territories = previous.territories();
+        if (!changes.territories().isEmpty()) {
+            final Map<Territory, Pair<GameColor, Integer>> updated = new HashMap<>(territories);
+            for (final var territory : changes.territories()) {
+                final int id = registry.getTerritoryId(territory.getName());
+                touched.add(territories.get(territory).x());
+                touched.add(board.getOwner(id));
+                updated.put(territory, new Pair<>(board.getOwner(id), board.getDino(id)));
+            }
+            territories = Collections.unmodifiableMap(updated);
+        }
+        List<Player> players = previous.players();
+        if (!touched.isEmpty()) {
+            final List<Player> copies = new ArrayList<>(players.size());
+            for (final var player : engine.getPlayers()) {
+                copies.add(touched.contains(player.getColor()) ? player.getPlayer()
+                        : players.get(copies.size()));
+            }
+            players = List.copyOf(copies);
+        }
+        MoveBuffer moves = previous.moves();
+        if (!changes.territories().isEmpty() || changes.ocean() || changes.phase() || changes.turn()) {
+            moves = new MoveBufferImpl();
+            engine.generateMoves(moves);
+        }
+        return createState(engine, territories, players, moves, changes);
+    }
+
+    /**
+     * Creates the state of a game from its parts.
+     *
+     * @param engine      the game
+     * @param territories owner and dino of every territory
+     * @param players     copies of the players, in the order of the game
+     * @param moves       legal moves of the current player
+     * @param changes     parts of the game changed since the previous state
+     * @return the state of the game
+     */
+    private static GameState createState(final HeadlessEngine engine,
+            final Map<Territory, Pair<GameColor, Integer>> territories, final List<Player> players,
+            final MoveBuffer moves, final GameChanges changes) {
+        int current = 0;
+        while (!players.get(current).getColor().equals(engine.getCurrentPlayer().getColor())) {
+            current++;
+        }
+        return new GameState(engine.getRegistry(), territories, engine.getCurrentOcean(), players, current,
+                engine.getGamePhase(), engine.isFirstTurn(), engine.getPlacedDino(),
+                engine.getRemainingDinoToPlace(), moves, engine.canUndo(), engine.canRedo(), changes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(final Consumer<HeadlessEngine> command) {
+        submit(game -> {
+            command.accept(game);
+            return null;
+        }, result -> {
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void submit(final Function<HeadlessEngine, T> command, final Consumer<T> onResult) {
+        executor.execute(() -> {
+            T result = null;
+            boolean accepted = false;
+            try {
+                result = command.apply(engine);
+                accepted = true;
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                // Chosen on a state older than the game, the views are just brought up to date
+                LOGGER.warn("Command rejected by the game", e);
+            } catch (final RuntimeException e) {
+                // The game may have changed anyway, for example before a listener failed
+                LOGGER.error("Command failed", e);
+            } finally {
+                // A failed command leaves no change of the views, but its state is published anyway
+                final List<Runnable> actions = accepted ? List.copyOf(effects) : List.of();
+                effects.clear();
+                final GameState state = last.isPresent() ? capture(engine, last.get()) : capture(engine);
+                last = Optional.of(state);
+                final T value = result;
+                final boolean done = accepted;
+                SwingUtilities.invokeLater(() -> {
+                    publisher.accept(state);
+                    actions.forEach(Runnable::run);
+                    if (done) {
+                        onResult.accept(value);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterCommand(final Runnable action) {
+        if (Thread.currentThread() != engineThread) {
+            throw new IllegalStateException("The views can only be changed after a command");
+        }
+        effects.add(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
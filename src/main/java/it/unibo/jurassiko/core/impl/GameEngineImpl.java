@@ -2,57 +2,45 @@ package it.unibo.jurassiko.core.impl;
 
 import java.util.Optional;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jurassiko.controller.api.MainController;
 import it.unibo.jurassiko.core.api.GameEngine;
-import it.unibo.jurassiko.core.api.GamePhase;
-import it.unibo.jurassiko.core.api.PlayerTurn;
-import it.unibo.jurassiko.core.api.WinCondition;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
 import it.unibo.jurassiko.core.api.GamePhase.Phase;
 import it.unibo.jurassiko.model.player.api.Player;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
 
 /**
  * Implementation of the interface {@GameEngine}.
+ * It drives the graphical interface, while the state and the rules of the game
+ * are owned by a {@link HeadlessEngine}. It runs on the thread of the game,
+ * every change of the views being forwarded by the controller to the Event
+ * Dispatch Thread.
  */
 public class GameEngineImpl implements GameEngine {
 
-    private static final int MAX_PLAYERS = 3;
-
-    private static final int FIRST_TURN_BONUS = 13;
-    private final Logger logger = LoggerFactory.getLogger(GameEngineImpl.class);
-
-    private final GamePhase gamePhase;
-    private final PlayerTurn playerTurn;
     private final MainController controller;
-    private final WinCondition winCondition;
+    private final HeadlessEngine model;
 
     private boolean firstTurn;
-    private boolean showObjectiveOnce;
+    private boolean placing;
+    private Optional<GameColor> objectiveShown;
     private Optional<Player> winner;
 
     /**
      * Contructor for the GameEngine.
      * 
      * @param controller the MainController used to interact with the view
+     * @param model      the HeadlessEngine holding the state of the game
      */
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
-    justification = "MainController instance is needed on this class by design")
-    public GameEngineImpl(final MainController controller) {
-        this.gamePhase = new GamePhaseImpl();
+    justification = "MainController and HeadlessEngine instances are needed on this class by design")
+    public GameEngineImpl(final MainController controller, final HeadlessEngine model) {
         this.controller = controller;
-        this.winCondition = new WinConditionImpl();
-        try {
-            this.playerTurn = new PlayerTurnImpl(this.controller.getPlayers());
-        } catch (final CloneNotSupportedException e) {
-            this.logger.error("Cannot create a copy of the player", e);
-            throw new IllegalStateException("Failed to create a new istance of the player", e);
-        }
-        this.firstTurn = true;
-        this.showObjectiveOnce = true;
+        this.model = model;
+        this.firstTurn = model.isFirstTurn();
+        this.placing = false;
+        this.objectiveShown = Optional.empty();
         this.winner = Optional.empty();
     }
 
@@ -65,8 +53,8 @@ public class GameEngineImpl implements GameEngine {
         movementPhase();
         controller.updateBoard();
         if (isOver()) {
+            // The game is closed once the winner has been shown
             controller.showWinnerName(getWinner().getColor());
-            controller.closeGame();
         }
     }
 
@@ -75,7 +63,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public Phase getGamePhase() {
-        return gamePhase.getPhase();
+        return model.getGamePhase();
     }
 
     /**
@@ -83,7 +71,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public void setGamePhase(final Phase phase) {
-        gamePhase.setPhase(phase);
+        model.setGamePhase(phase);
         controller.updateBoard();
     }
 
@@ -92,9 +80,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public int getRemainingDinoToPlace() {
-        final var currentPlayer = playerTurn.getCurrentPlayerTurn();
-        return firstTurn ? FIRST_TURN_BONUS - controller.getTotalClicks()
-                : currentPlayer.getBonusGroundDino() + currentPlayer.getBonusWaterDino() - controller.getTotalClicks();
+        return model.getRemainingDinoToPlace();
     }
 
     /**
@@ -102,7 +88,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public Player getCurrentPlayerTurn() {
-        return playerTurn.getCurrentPlayerTurn();
+        return model.getCurrentPlayer();
     }
 
     /**
@@ -110,7 +96,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public boolean isFirstTurn() {
-        return firstTurn;
+        return model.isFirstTurn();
     }
 
     /**
@@ -118,11 +104,7 @@ public class GameEngineImpl implements GameEngine {
      */
     @Override
     public void endTurn() {
-        playerTurn.goNext();
-        while (playerTurn.getCurrentPlayerTurn().getOwnedTerritories().size() == 0) {
-            playerTurn.goNext();
-        }
-        gamePhase.setPhase(Phase.PLACEMENT);
+        model.endTurn();
         controller.updateBoard();
     }
 
@@ -134,61 +116,37 @@ public class GameEngineImpl implements GameEngine {
             firstTurnPlacement();
             return;
         }
-        if (gamePhase.getPhase().equals(GamePhase.Phase.PLACEMENT)) {
+        if (model.getGamePhase().equals(Phase.PLACEMENT)) {
             controller.updateBoard();
             controller.openTerritorySelector();
-            final var bonusGroundDino = playerTurn.getCurrentPlayerTurn().getBonusGroundDino() + playerTurn
-                    .getCurrentPlayerTurn().combination(controller, playerTurn.getCurrentPlayerTurn().getOwnedTerritories());
-            final var bonusWaterDino = playerTurn.getCurrentPlayerTurn().getBonusWaterDino();
-            if (controller.getTotalClicks() == bonusGroundDino + bonusWaterDino) {
-                gamePhase.goNext();
-                controller.resetTotalClicks();
-                controller.closeTerritorySelector();
-            }
+            placing = true;
+        } else if (placing) {
+            controller.closeTerritorySelector();
+            placing = false;
         }
     }
 
     /**
-     * Init the first Placing Phase of the game.
+     * Manage the first Placing Phase of the game, showing the objective to each
+     * player before they place the initial dino.
      */
     private void firstTurnPlacement() {
-        final var firstColor = playerTurn.getPlayers().get(0).getColor();
+        if (!model.isFirstTurn()) {
+            controller.closeTerritorySelector();
+            firstTurn = false;
+            return;
+        }
         controller.updateBoard();
         controller.openTerritorySelector();
-        if (playerTurn.getCurrentPlayerTurn().getColor().equals(firstColor) && showObjectiveOnce) {
+        final var currentColor = model.getCurrentPlayer().getColor();
+        if (!objectiveShown.equals(Optional.of(currentColor))) {
+            objectiveShown = Optional.of(currentColor);
             controller.openObjectiveCard();
-            showObjectiveOnce = false;
         }
-        if (controller.getTotalClicks() == FIRST_TURN_BONUS) {
-            playerTurn.goNext();
-            controller.resetTotalClicks();
-            controller.updateBoard();
-            if (!playerTurn.getCurrentPlayerTurn().getColor().equals(firstColor)) {
-                controller.openObjectiveCard();
-            }
-            if (checkInitDino()) {
-                controller.closeTerritorySelector();
-                firstTurn = false;
-            }
-        }
-    }
-
-    /**
-     * Check if every player has placed the initial dino.
-     * 
-     * @return true if every player has placed the initial dino, false otherwise
-     */
-    private boolean checkInitDino() {
-        final var temp = controller.getTerritoriesMap().values();
-        final var initDinoAmount = FIRST_TURN_BONUS
-                + Math.toIntExact(temp.stream().filter(t -> t.x().equals(GameColor.RED)).count());
-        return temp.stream()
-                .mapToInt(value -> value.y())
-                .sum() == initDinoAmount * MAX_PLAYERS;
     }
 
     private void movementPhase() {
-        if (gamePhase.getPhase().equals(Phase.MOVEMENT_FIRST_PART)) {
+        if (model.getGamePhase().equals(Phase.MOVEMENT_FIRST_PART)) {
             controller.openTerritorySelector();
         }
     }
@@ -199,9 +157,7 @@ public class GameEngineImpl implements GameEngine {
      * @return true if the game is over, false otherwise
      */
     private boolean isOver() {
-        final var currentPlayer = this.controller.getCurrentPlayer();
-        final Optional<Player> winner = this.winCondition
-                .getWinner(this.controller.getTerritoriesMap(), currentPlayer, currentPlayer.getObjective());
+        final Optional<Player> winner = this.model.getWinner();
         final boolean condition = winner.isPresent();
         if (condition) {
             this.winner = winner;
@@ -0,0 +1,1317 @@
+package it.unibo.jurassiko.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.CommandListener;
+import it.unibo.jurassiko.core.api.GameChanges;
+import it.unibo.jurassiko.core.api.GamePhase;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.api.PlayerTurn;
+import it.unibo.jurassiko.core.api.TurnContext;
+import it.unibo.jurassiko.core.api.WinEvaluator;
+import it.unibo.jurassiko.model.battle.api.Battle;
+import it.unibo.jurassiko.model.battle.api.BattleOdds;
+import it.unibo.jurassiko.model.battle.impl.BattleImpl;
+import it.unibo.jurassiko.model.battle.impl.BattleOddsImpl;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.api.BoardView;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardImpl;
+import it.unibo.jurassiko.model.borders.api.Border;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.card.api.Deck;
+import it.unibo.jurassiko.model.card.impl.DeckImpl;
+import it.unibo.jurassiko.model.dice.impl.DiceImpl;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.player.impl.PlayerImpl;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Implementation of the interface {@link HeadlessEngine}.
+ */
+public class HeadlessEngineImpl implements HeadlessEngine {
+
+    private static final int FIRST_TURN_BONUS = 13;
+    private static final int MAX_TERRITORIES = 7;
+    private static final int START_AMOUNT_DINO = 1;
+    private static final int ODDS_CACHE_SIZE = 256;
+    // Shared by every game, so the copies of the bots reuse the odds already computed: new amounts of dino
+    // cost their product once, another limit of the losses of the same amounts only linear time
+    private static final BattleOdds BLITZ_ODDS = new BattleOddsImpl(ODDS_CACHE_SIZE);
+    private static final int DEFAULT_HISTORY_LIMIT = 1000;
+
+    private final BoardCatalog catalog;
+    private final long seed;
+    private final TerritoryRegistry registry;
+    private final Set<Objective> objectives;
+    private final Board board;
+    // Reads the board without exposing its setters
+    private final BoardView boardView = new BoardView() {
+
+        @Override
+        public int size() {
+            return board.size();
+        }
+
+        @Override
+        public GameColor getOwner(final int id) {
+            return board.getOwner(id);
+        }
+
+        @Override
+        public int getDino(final int id) {
+            return board.getDino(id);
+        }
+
+    };
+    private Optional<Pair<Ocean, GameColor>> currentOcean;
+    private int currentOceanId;
+
+    private final GamePhase gamePhase;
+    private final PlayerTurn playerTurn;
+    private final WinEvaluator winEvaluator;
+    private final Border border;
+    private final Battle battle;
+    private final RandomGenerator blitzRandom;
+    private final Deck deck;
+
+    private boolean firstTurn;
+    private int playersReady;
+    private TurnContext turn;
+
+    private final Deque<Change> undoHistory;
+    private final Deque<Change> redoHistory;
+    private int historyLimit;
+    private boolean recordCommand;
+    private Change recording;
+    private final List<CommandListener> listeners;
+
+    private final BitSet changedTerritories;
+    private final Set<GameColor> changedHands;
+    private Phase drainedPhase;
+    private Optional<Pair<Ocean, GameColor>> drainedOcean;
+    private GameColor drainedPlayer;
+    private TurnContext drainedTurn;
+
+    /**
+     * Creates a new game on the given board, assigning the territories and the
+     * objectives to the players. Every random choice of the game is derived
+     * from the seed: the setup, the order of the deck, the dice and the blitz
+     * attacks use four independent streams split from it, so the same seed and the same commands
+     * always produce the same game.
+     *
+     * @param catalog the catalog of the board
+     * @param seed    the seed of the game
+     */
+    public HeadlessEngineImpl(final BoardCatalog catalog, final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final RandomGenerator setupRandom = random.split();
+        final RandomGenerator deckRandom = random.split();
+        final RandomGenerator diceRandom = random.split();
+        this.blitzRandom = random.split();
+        this.catalog = catalog;
+        this.seed = seed;
+        this.registry = catalog.getRegistry();
+        this.objectives = catalog.getObjectives();
+        this.playerTurn = new PlayerTurnImpl(createPlayers(setupRandom));
+        this.board = new BoardImpl(this.registry.getTerritoryCount());
+        fullTerritories();
+        this.winEvaluator = new WinEvaluatorImpl(this.catalog, this.playerTurn.getPlayers());
+        this.winEvaluator.updateAll(this.board);
+        this.currentOcean = Optional.empty();
+        this.currentOceanId = Border.NO_OCEAN;
+        this.gamePhase = new GamePhaseImpl();
+        this.border = catalog.getBorder();
+        this.battle = new BattleImpl(new DiceImpl(diceRandom));
+        final List<Card> cards = new ArrayList<>(catalog.getCards());
+        shuffle(cards, deckRandom);
+        this.deck = new DeckImpl(cards);
+        this.firstTurn = true;
+        this.turn = TurnContext.firstTurn(FIRST_TURN_BONUS);
+        this.undoHistory = new ArrayDeque<>();
+        this.redoHistory = new ArrayDeque<>();
+        this.historyLimit = DEFAULT_HISTORY_LIMIT;
+        this.listeners = new ArrayList<>();
+        this.changedTerritories = new BitSet(this.board.size());
+        this.changedTerritories.set(0, this.board.size());
+        this.changedHands = EnumSet.noneOf(GameColor.class);
+        this.playerTurn.getPlayers().forEach(p -> this.changedHands.add(p.getColor()));
+        this.drainedOcean = Optional.empty();
+    }
+
+    /**
+     * Constructor used to create a copy of a game, sharing nothing that can
+     * change with the original. The dice and the blitz attacks of the copy are
+     * derived from the given seed, and the copy records no history.
+     *
+     * @param other the game to copy
+     * @param seed  the seed of the dice of the copy
+     */
+    private HeadlessEngineImpl(final HeadlessEngineImpl other, final long seed) {
+        this.catalog = other.catalog;
+        this.seed = seed;
+        this.registry = other.registry;
+        this.objectives = other.objectives;
+        this.border = other.border;
+        final List<Player> players = new ArrayList<>();
+        for (final var player : other.playerTurn.getPlayers()) {
+            players.add(player.getPlayer());
+        }
+        this.playerTurn = new PlayerTurnImpl(players);
+        while (!this.playerTurn.getCurrentPlayerTurn().getColor()
+                .equals(other.playerTurn.getCurrentPlayerTurn().getColor())) {
+            this.playerTurn.goNext();
+        }
+        this.board = other.board.copy();
+        this.winEvaluator = new WinEvaluatorImpl(this.catalog, this.playerTurn.getPlayers());
+        this.winEvaluator.updateAll(this.board);
+        this.currentOcean = other.currentOcean;
+        this.currentOceanId = other.currentOceanId;
+        this.gamePhase = new GamePhaseImpl();
+        this.gamePhase.setPhase(other.gamePhase.getPhase());
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.battle = new BattleImpl(new DiceImpl(random.split()));
+        this.blitzRandom = random.split();
+        final List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < other.deck.size(); i++) {
+            other.deck.getCard(i).ifPresent(cards::add);
+        }
+        this.deck = new DeckImpl(cards);
+        this.firstTurn = other.firstTurn;
+        this.playersReady = other.playersReady;
+        this.turn = other.turn;
+        this.undoHistory = new ArrayDeque<>();
+        this.redoHistory = new ArrayDeque<>();
+        this.listeners = new ArrayList<>();
+        this.changedTerritories = new BitSet(this.board.size());
+        this.changedTerritories.set(0, this.board.size());
+        this.changedHands = EnumSet.noneOf(GameColor.class);
+        this.playerTurn.getPlayers().forEach(p -> this.changedHands.add(p.getColor()));
+        this.drainedOcean = Optional.empty();
+    }
+
+    /**
+     * Creates a new game on the given board with a random seed.
+     *
+     * @param catalog the catalog of the board
+     */
+    public HeadlessEngineImpl(final BoardCatalog catalog) {
+        this(catalog, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a new game on the board of the configuration files.
+     *
+     * @param seed the seed of the game
+     */
+    public HeadlessEngineImpl(final long seed) {
+        this(BoardCatalogImpl.getDefault(), seed);
+    }
+
+    /**
+     * Creates a new game on the board of the configuration files with a random
+     * seed.
+     */
+    public HeadlessEngineImpl() {
+        this(BoardCatalogImpl.getDefault());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeadlessEngine copy(final long seed) {
+        return new HeadlessEngineImpl(this, seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Snapshot snapshot() {
+        final List<Player.State> states = new ArrayList<>();
+        for (final var player : playerTurn.getPlayers()) {
+            states.add(player.getState());
+        }
+        return new Snapshot(board.copy(), List.copyOf(states), playerTurn.getCurrentPlayerTurn().getColor(),
+                gamePhase.getPhase(), currentOcean, deck.getState(), firstTurn, playersReady, turn);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final Snapshot snapshot) {
+        final var players = playerTurn.getPlayers();
+        if (snapshot.board().size() != board.size() || snapshot.players().size() != players.size()) {
+            throw new IllegalArgumentException("The snapshot does not belong to a game on this board");
+        }
+        if (players.stream().noneMatch(p -> p.getColor().equals(snapshot.currentColor()))) {
+            throw new IllegalArgumentException("Invalid current player: " + snapshot.currentColor());
+        }
+        final int oceanId = snapshot.ocean().isPresent()
+                ? registry.getOceanId(snapshot.ocean().get().x().getName())
+                : Border.NO_OCEAN;
+        for (int id = 0; id < board.size(); id++) {
+            setTerritory(id, snapshot.board().getOwner(id), snapshot.board().getDino(id));
+        }
+        restoreState(snapshot.players(), snapshot.currentColor(), snapshot.phase(), snapshot.ocean(), oceanId,
+                snapshot.deck());
+        firstTurn = snapshot.firstTurn();
+        playersReady = snapshot.playersReady();
+        turn = snapshot.turn();
+    }
+
+    /**
+     * Puts back the owner and the amount of dino of a territory, if they are
+     * different from the current ones.
+     *
+     * @param id    id of the territory
+     * @param owner the owner to put back
+     * @param dino  the amount of dino to put back
+     */
+    private void setTerritory(final int id, final GameColor owner, final int dino) {
+        if (board.getDino(id) != dino || !board.getOwner(id).equals(owner)) {
+            board.setOwner(id, owner);
+            board.setDino(id, dino);
+            territoryChanged(id);
+        }
+    }
+
+    /**
+     * Puts back the players, the turn, the phase, the ocean and the deck saved by
+     * a snapshot or by a recorded command.
+     *
+     * @param states       the states of the players
+     * @param currentColor the color of the current player
+     * @param phase        the phase of the game
+     * @param ocean        the ocean with the color of its owner
+     * @param oceanId      the id of the ocean
+     * @param deckState    the state of the deck
+     */
+    private void restoreState(final List<Player.State> states, final GameColor currentColor, final Phase phase,
+            final Optional<Pair<Ocean, GameColor>> ocean, final int oceanId, final Deck.State deckState) {
+        final var players = playerTurn.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            final var player = players.get(i);
+            if (!player.getState().equals(states.get(i))) {
+                player.setState(states.get(i));
+                changedHands.add(player.getColor());
+            }
+        }
+        while (!playerTurn.getCurrentPlayerTurn().getColor().equals(currentColor)) {
+            playerTurn.goNext();
+        }
+        gamePhase.setPhase(phase);
+        currentOcean = ocean;
+        currentOceanId = oceanId;
+        deck.setState(deckState);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHistoryLimit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit of the history: " + limit);
+        }
+        this.historyLimit = limit;
+        while (undoHistory.size() > limit) {
+            undoHistory.removeLast();
+        }
+        while (redoHistory.size() > limit) {
+            redoHistory.removeLast();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no command to undo");
+        }
+        redoHistory.push(undoHistory.pop().revert());
+        listeners.forEach(CommandListener::undone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no command to redo");
+        }
+        undoHistory.push(redoHistory.pop().revert());
+        listeners.forEach(CommandListener::redone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCommandListener(final CommandListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeCommandListener(final CommandListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameChanges drainChanges() {
+        // The territories and the hands are marked by the commands, the rest is compared with the last call
+        final Set<Territory> territories = new HashSet<>();
+        for (int id = changedTerritories.nextSetBit(0); id >= 0; id = changedTerritories.nextSetBit(id + 1)) {
+            territories.add(registry.getTerritory(id));
+        }
+        final GameColor player = playerTurn.getCurrentPlayerTurn().getColor();
+        final var changes = new GameChanges(territories, !currentOcean.equals(drainedOcean),
+                !gamePhase.getPhase().equals(drainedPhase), !player.equals(drainedPlayer) || !turn.equals(drainedTurn),
+                changedHands);
+        changedTerritories.clear();
+        changedHands.clear();
+        drainedPhase = gamePhase.getPhase();
+        drainedOcean = currentOcean;
+        drainedPlayer = player;
+        drainedTurn = turn;
+        return changes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Territory, Pair<GameColor, Integer>> getTerritoriesMap() {
+        final Map<Territory, Pair<GameColor, Integer>> territoriesMap = new HashMap<>();
+        for (int id = 0; id < board.size(); id++) {
+            territoriesMap.put(registry.getTerritory(id), new Pair<>(board.getOwner(id), board.getDino(id)));
+        }
+        return Map.copyOf(territoriesMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TerritoryRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board getBoard() {
+        return board.copy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDinoAmount(final String territoryName) {
+        return board.getDino(registry.getTerritoryId(territoryName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<Ocean, GameColor>> getCurrentOcean() {
+        return this.currentOcean.isPresent() ? Optional.of(new Pair<>(this.currentOcean.get())) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Player> getPlayers() {
+        return playerTurn.getPlayers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Player getCurrentPlayer() {
+        return playerTurn.getCurrentPlayerTurn();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Phase getGamePhase() {
+        return gamePhase.getPhase();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setGamePhase(final Phase phase) {
+        beginCommand();
+        if (!isLegalTransition(gamePhase.getPhase(), phase)) {
+            throw new IllegalStateException("Cannot go from " + gamePhase.getPhase() + " to " + phase);
+        }
+        willChange();
+        gamePhase.setPhase(phase);
+        endCommand();
+        listeners.forEach(l -> l.phaseSet(phase));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFirstTurn() {
+        return firstTurn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TurnContext getTurnContext() {
+        return turn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlacedDino() {
+        return turn.placed();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRemainingDinoToPlace() {
+        return turn.getRemaining();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void placeDino(final String areaName) {
+        beginCommand();
+        doPlaceDino(areaName, START_AMOUNT_DINO);
+        endCommand();
+        listeners.forEach(l -> l.placed(areaName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void placeDino(final String areaName, final int amount) {
+        placeAll(List.of(new Placement(areaName, amount)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void placeAll(final List<Placement> plan) {
+        if (plan.isEmpty()) {
+            throw new IllegalArgumentException("Empty plan of placements");
+        }
+        final List<Placement> placements = List.copyOf(plan);
+        beginCommand(true);
+        final var color = playerTurn.getCurrentPlayerTurn().getColor();
+        applyAll(() -> {
+            for (final var placement : placements) {
+                if (!playerTurn.getCurrentPlayerTurn().getColor().equals(color)) {
+                    throw new IllegalArgumentException("The plan goes beyond the placement of the player");
+                }
+                doPlaceDino(placement.areaName(), placement.amount());
+            }
+        });
+        endCommand();
+        listeners.forEach(l -> l.placedAll(placements));
+    }
+
+    /**
+     * Places some dino, as {@link #placeDino(String, int)} without recording the
+     * history. Nothing is changed if the placement is not allowed.
+     *
+     * @param areaName name of the territory or of the ocean
+     * @param amount   amount of dino to place
+     */
+    private void doPlaceDino(final String areaName, final int amount) {
+        checkPhase(Phase.PLACEMENT);
+        final TurnContext next = turn.place(amount);
+        if (firstTurn) {
+            firstTurnPlacement(areaName, amount, next);
+            return;
+        }
+        if (turn.isWaterNext()) {
+            final var oceanId = registry.findOceanId(areaName)
+                    .orElseThrow(() -> new IllegalArgumentException("The first dino must be placed in an ocean"));
+            if (amount > turn.waterBonus() - turn.placed()) {
+                throw new IllegalArgumentException("Too many dino to place in an ocean: " + amount);
+            }
+            willChange();
+            placeWaterDino(oceanId);
+        } else {
+            final int id = checkAlly(areaName);
+            willChange(id);
+            board.addDino(id, amount);
+            territoryChanged(id);
+        }
+        turn = next;
+        if (turn.isComplete()) {
+            gamePhase.goNext();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttackOutcome attack(final String attacker, final String defender) {
+        beginCommand();
+        final int attackerId = checkAttack(attacker, defender);
+        final int defenderId = registry.getTerritoryId(defender);
+        final int attackDino = board.getDino(attackerId);
+        final int defenceDino = board.getDino(defenderId);
+        final var deaths = battle.attack(attackDino, defenceDino,
+                battle.calculateDino(attackDino, true),
+                battle.calculateDino(defenceDino, false));
+        final var outcome = resolveAttack(attackerId, defenderId, deaths.x(), deaths.y());
+        endCommand();
+        listeners.forEach(l -> l.attacked(attacker, defender, outcome));
+        return outcome;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttackOutcome applyAttack(final String attacker, final String defender, final int attackerLosses,
+            final int defenderLosses) {
+        beginCommand();
+        final int attackerId = checkAttack(attacker, defender);
+        final int defenderId = registry.getTerritoryId(defender);
+        if (attackerLosses < 0 || defenderLosses < 0 || attackerLosses >= board.getDino(attackerId)
+                || defenderLosses > board.getDino(defenderId)) {
+            throw new IllegalArgumentException("Invalid losses of the attack: " + attackerLosses + ", "
+                    + defenderLosses);
+        }
+        final var outcome = resolveAttack(attackerId, defenderId, attackerLosses, defenderLosses);
+        endCommand();
+        listeners.forEach(l -> l.attacked(attacker, defender, outcome));
+        return outcome;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttackOutcome blitz(final String attacker, final String defender, final int maxLosses) {
+        if (maxLosses < 1) {
+            throw new IllegalArgumentException("Invalid losses of the attack: " + maxLosses);
+        }
+        beginCommand();
+        final int attackerId = checkAttack(attacker, defender);
+        final int defenderId = registry.getTerritoryId(defender);
+        final int attackDino = board.getDino(attackerId);
+        final int defenceDino = board.getDino(defenderId);
+        final var end = BLITZ_ODDS.getAttackOdds(attackDino, defenceDino, Math.max(1, attackDino - maxLosses))
+                .sample(blitzRandom);
+        final var outcome = resolveAttack(attackerId, defenderId, attackDino - end.x(), defenceDino - end.y());
+        endCommand();
+        listeners.forEach(l -> l.attacked(attacker, defender, outcome));
+        return outcome;
+    }
+
+    /**
+     * Checks that an attack is allowed in the current state of the game.
+     *
+     * @param attacker name of the attacking territory
+     * @param defender name of the defending territory
+     * @return the id of the attacking territory
+     */
+    private int checkAttack(final String attacker, final String defender) {
+        checkPhase(Phase.ATTACK_FIRST_PART, Phase.ATTACK_SECOND_PART);
+        if (!isAllyTerritoryWithMoreThanOne(attacker)) {
+            throw new IllegalArgumentException("Cannot attack from " + attacker);
+        }
+        final int attackerId = registry.getTerritoryId(attacker);
+        final int defenderId = registry.getTerritoryId(defender);
+        if (isAllyTerritory(defender) || !border.isAdjacent(attackerId, defenderId, currentOceanId)) {
+            throw new IllegalArgumentException("Cannot attack " + defender + " from " + attacker);
+        }
+        return attackerId;
+    }
+
+    /**
+     * Removes the losses of an attack and, if the defending territory has no dino
+     * left, gives it to the current player.
+     *
+     * @param attackerId     id of the attacking territory
+     * @param defenderId     id of the defending territory
+     * @param attackerLosses the amount of dino lost by the attacking territory
+     * @param defenderLosses the amount of dino lost by the defending territory
+     * @return the outcome of the attack
+     */
+    private AttackOutcome resolveAttack(final int attackerId, final int defenderId, final int attackerLosses,
+            final int defenderLosses) {
+        final var currentPlayer = playerTurn.getCurrentPlayerTurn();
+        willChange(attackerId);
+        willChange(defenderId);
+        board.addDino(attackerId, -attackerLosses);
+        board.addDino(defenderId, -defenderLosses);
+        territoryChanged(attackerId);
+        territoryChanged(defenderId);
+        if (board.getDino(defenderId) > 0) {
+            return new AttackOutcome(attackerLosses, defenderLosses, false);
+        }
+        if (!currentPlayer.isAssigned()) {
+            deck.draw().ifPresent(card -> {
+                currentPlayer.setAssigned(true);
+                currentPlayer.addCard(card);
+                changedHands.add(currentPlayer.getColor());
+            });
+        }
+        final int dinoToMove = battle.calculateDino(board.getDino(attackerId), true);
+        final var defenderTerritory = registry.getTerritory(defenderId);
+        final var loserColor = board.getOwner(defenderId);
+        for (final var player : playerTurn.getPlayers()) {
+            if (player.getColor().equals(currentPlayer.getColor())) {
+                player.addPlayerTerritory(defenderTerritory);
+            } else if (player.getColor().equals(loserColor)) {
+                player.removePlayerTerritory(defenderTerritory);
+            }
+        }
+        board.setOwner(defenderId, currentPlayer.getColor());
+        board.setDino(defenderId, dinoToMove);
+        board.addDino(attackerId, -dinoToMove);
+        territoryChanged(attackerId);
+        territoryChanged(defenderId);
+        return new AttackOutcome(attackerLosses, defenderLosses, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveDino(final String source, final String target, final int amount) {
+        beginCommand();
+        doMoveDino(source, target, amount);
+        endCommand();
+        listeners.forEach(l -> l.moved(source, target, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveAll(final List<Movement> movements) {
+        if (movements.isEmpty()) {
+            throw new IllegalArgumentException("Empty list of movements");
+        }
+        final List<Movement> copy = List.copyOf(movements);
+        beginCommand(true);
+        applyAll(() -> {
+            for (final var movement : copy) {
+                doMoveDino(movement.source(), movement.target(), movement.amount());
+            }
+        });
+        endCommand();
+        listeners.forEach(l -> l.movedAll(copy));
+    }
+
+    /**
+     * Moves dino, as {@link #moveDino(String, String, int)} without recording the
+     * history.
+     *
+     * @param source name of the territory to move the dino from
+     * @param target name of the territory to move the dino to
+     * @param amount amount of dino to move
+     */
+    private void doMoveDino(final String source, final String target, final int amount) {
+        checkPhase(Phase.MOVEMENT_FIRST_PART, Phase.MOVEMENT_SECOND_PART);
+        final int sourceId = checkAlly(source);
+        final int targetId = checkAlly(target);
+        if (!border.isAdjacent(sourceId, targetId, currentOceanId)) {
+            throw new IllegalArgumentException(target + " is not adjacent to " + source);
+        }
+        if (amount < 0 || amount >= board.getDino(sourceId)) {
+            throw new IllegalArgumentException("Invalid amount of dino to move: " + amount);
+        }
+        willChange(sourceId);
+        willChange(targetId);
+        board.addDino(sourceId, -amount);
+        board.addDino(targetId, amount);
+        territoryChanged(sourceId);
+        territoryChanged(targetId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endTurn() {
+        beginCommand();
+        doEndTurn();
+        endCommand();
+        listeners.forEach(CommandListener::turnEnded);
+    }
+
+    /**
+     * Ends the turn, as {@link #endTurn()} without recording the history.
+     */
+    private void doEndTurn() {
+        if (firstTurn) {
+            throw new IllegalStateException("The first turn ends when every player has placed their dino");
+        }
+        checkPhase(Phase.ATTACK_FIRST_PART, Phase.ATTACK_SECOND_PART, Phase.MOVEMENT_FIRST_PART,
+                Phase.MOVEMENT_SECOND_PART);
+        willChange();
+        playerTurn.getCurrentPlayerTurn().setAssigned(false);
+        playerTurn.goNext();
+        while (playerTurn.getCurrentPlayerTurn().getOwnedTerritories().isEmpty()) {
+            playerTurn.goNext();
+        }
+        turn = startTurn();
+        gamePhase.setPhase(Phase.PLACEMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateMoves(final MoveBuffer buffer) {
+        MoveGenerator.generate(board, border, currentOceanId, registry.getOceanCount(),
+                playerTurn.getCurrentPlayerTurn().getColor(), gamePhase.getPhase(),
+                turn.isWaterNext(), buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAllyTerritory(final String territoryName) {
+        return board.getOwner(registry.getTerritoryId(territoryName))
+                .equals(playerTurn.getCurrentPlayerTurn().getColor());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAllyTerritoryWithMoreThanOne(final String territoryName) {
+        return isAllyTerritory(territoryName) && board.getDino(registry.getTerritoryId(territoryName)) > 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasAdjEnemy(final String territoryName) {
+        return hasAdjEnemy(registry.getTerritoryId(territoryName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasAdjEnemy(final int territoryId) {
+        final var currentColor = playerTurn.getCurrentPlayerTurn().getColor();
+        for (long set = border.getNeighbours(territoryId, currentOceanId); set != 0; set &= set - 1) {
+            if (!board.getOwner(Long.numberOfTrailingZeros(set)).equals(currentColor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasAdjAlly(final String territoryName) {
+        final var currentColor = playerTurn.getCurrentPlayerTurn().getColor();
+        return supportHasAdj(territoryName, c -> c.equals(currentColor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getAdj(final String territoryName) {
+        final Set<String> adj = new HashSet<>();
+        for (long set = getNeighbours(territoryName); set != 0; set &= set - 1) {
+            adj.add(registry.getTerritory(Long.numberOfTrailingZeros(set)).getName());
+        }
+        return adj;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Player> getWinner() {
+        final var currentPlayer = playerTurn.getCurrentPlayerTurn();
+        if (winEvaluator.hasWon(currentPlayer.getColor())) {
+            return Optional.of(currentPlayer);
+        }
+        return winEvaluator.getWinner()
+                .flatMap(color -> playerTurn.getPlayers().stream()
+                        .filter(p -> p.getColor().equals(color))
+                        .findFirst());
+    }
+
+    /**
+     * Places some dino during the first turn, when every player places the
+     * initial dino one after the other.
+     *
+     * @param territoryName name of the territory
+     * @param amount        amount of dino to place
+     * @param next          the context of the turn after the placement
+     */
+    private void firstTurnPlacement(final String territoryName, final int amount, final TurnContext next) {
+        final int id = checkAlly(territoryName);
+        willChange(id);
+        board.addDino(id, amount);
+        territoryChanged(id);
+        turn = next;
+        if (turn.isComplete()) {
+            playersReady++;
+            playerTurn.goNext();
+            if (playersReady == playerTurn.getPlayers().size()) {
+                firstTurn = false;
+                turn = startTurn();
+            } else {
+                turn = TurnContext.firstTurn(FIRST_TURN_BONUS);
+            }
+        }
+    }
+
+    /**
+     * Computes the dino of the current player for a new turn, trading their best
+     * combination of cards.
+     *
+     * @return the context of the new turn
+     */
+    private TurnContext startTurn() {
+        final var player = playerTurn.getCurrentPlayerTurn();
+        final int cardBonus = player.combination(deck, player.getOwnedTerritories());
+        if (cardBonus > 0) {
+            changedHands.add(player.getColor());
+        }
+        return new TurnContext(player.getBonusGroundDino(), cardBonus, player.getBonusWaterDino(), 0);
+    }
+
+    /**
+     * Checks if a player can change the phase of the game. The placement ends
+     * when every dino has been placed, then the player can choose what to attack
+     * and finally what to move.
+     *
+     * @param from the current phase
+     * @param to   the phase to set
+     * @return true if the phase can be set
+     */
+    private static boolean isLegalTransition(final Phase from, final Phase to) {
+        return switch (to) {
+            case PLACEMENT -> false;
+            case ATTACK_FIRST_PART, ATTACK_SECOND_PART -> from == Phase.ATTACK_FIRST_PART
+                    || from == Phase.ATTACK_SECOND_PART;
+            case MOVEMENT_FIRST_PART -> from != Phase.PLACEMENT;
+            case MOVEMENT_SECOND_PART -> from == Phase.MOVEMENT_FIRST_PART || from == Phase.MOVEMENT_SECOND_PART;
+        };
+    }
+
+    /**
+     * Checks that the game is in one of the given phases.
+     *
+     * @param allowed the phases allowed
+     */
+    private void checkPhase(final Phase... allowed) {
+        for (final var phase : allowed) {
+            if (gamePhase.getPhase().equals(phase)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Invalid game phase");
+    }
+
+    /**
+     * Checks that the territory is owned by the current player.
+     *
+     * @param territoryName name of the territory
+     * @return the id of the territory
+     */
+    private int checkAlly(final String territoryName) {
+        final int id = registry.getTerritoryId(territoryName);
+        if (!board.getOwner(id).equals(playerTurn.getCurrentPlayerTurn().getColor())) {
+            throw new IllegalArgumentException(territoryName + " is not owned by the current player");
+        }
+        return id;
+    }
+
+    /**
+     * Starts a command. Nothing is saved until the command has been validated and
+     * changes the game for the first time, see {@link #willChange()}.
+     *
+     * @param bulk true if the command has many steps, that must be recorded even
+     *             without the history to undo them if a step fails
+     */
+    private void beginCommand(final boolean bulk) {
+        recordCommand = bulk || historyLimit > 0;
+        recording = null;
+    }
+
+    /**
+     * Starts a command with a single step.
+     */
+    private void beginCommand() {
+        beginCommand(false);
+    }
+
+    /**
+     * Saves the players, the turn, the phase, the ocean and the deck before the
+     * first change of the running command, if it must be recorded. Commands call
+     * it after their checks, so a command that is not allowed saves nothing.
+     */
+    private void willChange() {
+        if (recordCommand && recording == null) {
+            recording = new Change();
+        }
+    }
+
+    /**
+     * Saves the owner and the amount of dino of a territory before the running
+     * command changes them, if it must be recorded.
+     *
+     * @param id id of the territory
+     */
+    private void willChange(final int id) {
+        willChange();
+        if (recording != null) {
+            recording.save(id);
+        }
+    }
+
+    /**
+     * Records a command that has been executed without errors, so it can be
+     * undone. A new command makes the undone ones impossible to redo.
+     */
+    private void endCommand() {
+        if (historyLimit > 0) {
+            undoHistory.push(recording != null ? recording : new Change());
+            if (undoHistory.size() > historyLimit) {
+                undoHistory.removeLast();
+            }
+            redoHistory.clear();
+        }
+        recording = null;
+        recordCommand = false;
+    }
+
+    /**
+     * Executes the steps of a command as a whole: if a step fails the changes of
+     * the previous ones are reverted.
+     *
+     * @param steps the steps of the command
+     */
+    private void applyAll(final Runnable steps) {
+        try {
+            steps.run();
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            if (recording != null) {
+                recording.revert();
+            }
+            recording = null;
+            recordCommand = false;
+            throw e;
+        }
+    }
+
+    /**
+     * Records the change of a territory: notifies the win evaluator of its
+     * current state and marks it for the views.
+     *
+     * @param id id of the territory
+     */
+    private void territoryChanged(final int id) {
+        changedTerritories.set(id);
+        winEvaluator.update(id, board.getOwner(id), board.getDino(id));
+    }
+
+    /**
+     * Puts the color of the current player in the given ocean.
+     *
+     * @param oceanId id of the ocean
+     */
+    private void placeWaterDino(final int oceanId) {
+        this.currentOceanId = oceanId;
+        this.currentOcean = Optional.of(new Pair<>(registry.getOcean(oceanId),
+                playerTurn.getCurrentPlayerTurn().getColor()));
+    }
+
+    /**
+     * Support method.
+     *
+     * @param territoryName territory name
+     * @param condition     condition on the color of the owner
+     * @return true if the condition is verified, false otherwise
+     */
+    private boolean supportHasAdj(final String territoryName, final Predicate<GameColor> condition) {
+        for (long set = getNeighbours(territoryName); set != 0; set &= set - 1) {
+            if (condition.test(board.getOwner(Long.numberOfTrailingZeros(set)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the territories adjacent to a territory with the current ocean.
+     *
+     * @param territoryName name of the territory
+     * @return the bitmask of the adjacent territories
+     */
+    private long getNeighbours(final String territoryName) {
+        return border.getNeighbours(registry.getTerritoryId(territoryName), currentOceanId);
+    }
+
+    /**
+     * Create all the players, each one with its objective and its territories.
+     *
+     * @param random the generator used to assign the territories and the
+     *               objectives
+     * @return the list of the players
+     */
+    private List<Player> createPlayers(final RandomGenerator random) {
+        final List<Territory> copyTerritories = new ArrayList<>(this.registry.getTerritories());
+        // Sorted so that the seed alone decides the objectives, whatever the order of the set
+        final List<Objective> copyObjectives = this.objectives.stream()
+                .sorted(Comparator.comparing(Objective::getType).thenComparing(Objective::getDescription))
+                .collect(Collectors.toCollection(ArrayList::new));
+        final List<Player> players = new ArrayList<>();
+        for (final var color : List.of(GameColor.RED, GameColor.GREEN, GameColor.BLUE)) {
+            players.add(new PlayerImpl(color,
+                    shuffleObjective(copyObjectives, random),
+                    shuffleTerritories(copyTerritories, MAX_TERRITORIES, random),
+                    catalog));
+        }
+        return players;
+    }
+
+    /**
+     * Shuffle all the territories and return 7 territories
+     * for the current player, removing them from the list.
+     *
+     * @param territories    all territories still to assign
+     * @param maxTerritories max territories for each player
+     * @param random         the generator used to shuffle
+     * @return a set of 7 territories
+     */
+    private Set<Territory> shuffleTerritories(final List<Territory> territories, final int maxTerritories,
+            final RandomGenerator random) {
+        shuffle(territories, random);
+        final List<Territory> temp = territories.subList(0, Math.min(maxTerritories, territories.size()));
+        final Set<Territory> result = new HashSet<>(temp);
+        temp.clear();
+        return result;
+    }
+
+    /**
+     * Return a single objective for the current player and
+     * remove it from the list.
+     *
+     * @param objectives all of the objectives still to assign
+     * @param random     the generator used to choose the objective
+     * @return a single objective for the corresponding player
+     */
+    private Objective shuffleObjective(final List<Objective> objectives, final RandomGenerator random) {
+        return objectives.remove(random.nextInt(objectives.size()));
+    }
+
+    /**
+     * Shuffles a list with the Fisher-Yates algorithm, like
+     * {@link java.util.Collections#shuffle(List, java.util.Random)} but with
+     * any generator.
+     *
+     * @param <T>    the type of the elements
+     * @param list   the list to shuffle
+     * @param random the generator
+     */
+    private static <T> void shuffle(final List<T> list, final RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+
+    /**
+     * Fill the board with the corresponding color and initial amout of every
+     * territory.
+     */
+    private void fullTerritories() {
+        for (final var player : playerTurn.getPlayers()) {
+            for (final var terr : player.getOwnedTerritories()) {
+                final int id = registry.getTerritoryId(terr.getName());
+                board.setOwner(id, player.getColor());
+                board.setDino(id, START_AMOUNT_DINO);
+            }
+        }
+    }
+
+    /**
+     * The changes of a command, saved while it runs so that undoing it touches
+     * only what it changed: the owner and the amount of dino of the territories
+     * written by the command, and the rest of the game before it, whose parts are
+     * immutable and shared.
+     */
+    private final class Change {
+
+        private final List<Player.State> players;
+        private final GameColor currentColor;
+        private final Phase phase;
+        private final Optional<Pair<Ocean, GameColor>> ocean;
+        private final int oceanId;
+        private final Deck.State deck;
+        private final boolean firstTurn;
+        private final int playersReady;
+        private final TurnContext turn;
+        private final List<Integer> ids;
+        private final List<GameColor> owners;
+        private final List<Integer> dino;
+
+        /**
+         * Saves the current state of the game, except the territories.
+         */
+        Change() {
+            final List<Player.State> states = new ArrayList<>();
+            for (final var player : playerTurn.getPlayers()) {
+                states.add(player.getState());
+            }
+            this.players = List.copyOf(states);
+            this.currentColor = playerTurn.getCurrentPlayerTurn().getColor();
+            this.phase = gamePhase.getPhase();
+            this.ocean = currentOcean;
+            this.oceanId = currentOceanId;
+            this.deck = HeadlessEngineImpl.this.deck.getState();
+            this.firstTurn = HeadlessEngineImpl.this.firstTurn;
+            this.playersReady = HeadlessEngineImpl.this.playersReady;
+            this.turn = HeadlessEngineImpl.this.turn;
+            this.ids = new ArrayList<>();
+            this.owners = new ArrayList<>();
+            this.dino = new ArrayList<>();
+        }
+
+        /**
+         * Saves the current owner and amount of dino of a territory, unless it has
+         * already been saved.
+         *
+         * @param id id of the territory
+         */
+        void save(final int id) {
+            if (!ids.contains(id)) {
+                ids.add(id);
+                owners.add(board.getOwner(id));
+                dino.add(board.getDino(id));
+            }
+        }
+
+        /**
+         * Puts back the saved state of the game.
+         *
+         * @return the changes that put back the state before this method
+         */
+        Change revert() {
+            final Change inverse = new Change();
+            for (int i = 0; i < ids.size(); i++) {
+                inverse.save(ids.get(i));
+                setTerritory(ids.get(i), owners.get(i), dino.get(i));
+            }
+            restoreState(players, currentColor, phase, ocean, oceanId, deck);
+            HeadlessEngineImpl.this.firstTurn = firstTurn;
+            HeadlessEngineImpl.this.playersReady = playersReady;
+            HeadlessEngineImpl.this.turn = turn;
+            return inverse;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package it.unibo.jurassiko.core.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.jurassiko.core.api.MoveBuffer;
+
+/**
+ * Implementation of {@link MoveBuffer} over a growing array of int.
+ */
+public final class MoveBufferImpl implements MoveBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int[] moves;
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public MoveBufferImpl() {
+        this.moves = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, size);
+        return moves[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[size++] = move;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
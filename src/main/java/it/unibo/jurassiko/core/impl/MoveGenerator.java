@@ -0,0 +1,90 @@
+package it.unibo.jurassiko.core.impl;
+
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.borders.api.Border;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Enumerates the legal actions of the current player using the bitmasks of the
+ * owned territories and of the adjacent ones, with a single pass on the board.
+ */
+final class MoveGenerator {
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Fills the buffer with the legal actions, sorted by kind, then by the id
+     * the action starts from, then by the id it reaches.
+     *
+     * @param board      the board
+     * @param border     the borders of the board
+     * @param oceanId    the id of the selected ocean, or {@link Border#NO_OCEAN}
+     * @param oceanCount the amount of oceans
+     * @param color      the color of the current player
+     * @param phase      the phase of the game
+     * @param oceanFirst true if the next dino must be placed in an ocean
+     * @param buffer     the buffer to clear and fill
+     */
+    static void generate(final Board board, final Border border, final int oceanId, final int oceanCount,
+            final GameColor color, final Phase phase, final boolean oceanFirst, final MoveBuffer buffer) {
+        buffer.clear();
+        long owned = 0;
+        long withMoreThanOne = 0;
+        for (int id = 0; id < board.size(); id++) {
+            if (board.getOwner(id).equals(color)) {
+                owned |= 1L << id;
+                if (board.getDino(id) > 1) {
+                    withMoreThanOne |= 1L << id;
+                }
+            }
+        }
+        switch (phase) {
+            case PLACEMENT -> {
+                if (oceanFirst) {
+                    for (int ocean = 0; ocean < oceanCount; ocean++) {
+                        buffer.add(MoveBuffer.encode(MoveBuffer.PLACE_OCEAN, ocean, 0, 1));
+                    }
+                } else {
+                    for (long set = owned; set != 0; set &= set - 1) {
+                        buffer.add(MoveBuffer.encode(MoveBuffer.PLACE, Long.numberOfTrailingZeros(set), 0, 1));
+                    }
+                }
+            }
+            case ATTACK_FIRST_PART, ATTACK_SECOND_PART -> {
+                addPairs(board, border, oceanId, withMoreThanOne, ~owned, MoveBuffer.ATTACK, buffer);
+                buffer.add(MoveBuffer.encode(MoveBuffer.END_ATTACK, 0, 0, 0));
+            }
+            case MOVEMENT_FIRST_PART, MOVEMENT_SECOND_PART -> {
+                addPairs(board, border, oceanId, withMoreThanOne, owned, MoveBuffer.MOVE, buffer);
+                buffer.add(MoveBuffer.encode(MoveBuffer.END_TURN, 0, 0, 0));
+            }
+            default -> throw new IllegalStateException("Invalid game phase");
+        }
+    }
+
+    /**
+     * Adds an action for every source territory and every adjacent target.
+     *
+     * @param board   the board
+     * @param border  the borders of the board
+     * @param oceanId the id of the selected ocean
+     * @param sources the bitmask of the territories the actions start from
+     * @param targets the bitmask of the territories the actions can reach
+     * @param kind    the kind of the actions
+     * @param buffer  the buffer to fill
+     */
+    private static void addPairs(final Board board, final Border border, final int oceanId, final long sources,
+            final long targets, final int kind, final MoveBuffer buffer) {
+        for (long from = sources; from != 0; from &= from - 1) {
+            final int source = Long.numberOfTrailingZeros(from);
+            final int amount = board.getDino(source) - 1;
+            for (long to = border.getNeighbours(source, oceanId) & targets; to != 0; to &= to - 1) {
+                buffer.add(MoveBuffer.encode(kind, source, Long.numberOfTrailingZeros(to), amount));
+            }
+        }
+    }
+
+}
@@ -7,12 +7,14 @@ import java.util.stream.Collectors;
 
 import it.unibo.jurassiko.common.Pair;
 import it.unibo.jurassiko.core.api.WinCondition;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.territory.api.Territory;
 import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
 import it.unibo.jurassiko.model.objective.impl.ConquerContinentsObjective;
 import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
 import it.unibo.jurassiko.model.objective.impl.DestroyArmyObjective;
-import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
 import it.unibo.jurassiko.model.player.api.Player;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
 
@@ -21,17 +23,26 @@ import it.unibo.jurassiko.model.player.api.Player.GameColor;
  */
 public class WinConditionImpl implements WinCondition {
 
-    private static final int DEFAULT_NUM_TERRITORIES = 12;
-
     private Optional<Player> winner;
     private final ConquerTerritoriesObjective defaultObjective;
+    private final Checker checker;
 
     /**
-     * Creates a WinCondition object.
+     * Creates a WinCondition object for the board of the configuration files.
      */
     public WinConditionImpl() {
+        this(BoardCatalogImpl.getDefault());
+    }
+
+    /**
+     * Creates a WinCondition object.
+     *
+     * @param catalog the catalog of the board, holding the default objective
+     */
+    public WinConditionImpl(final BoardCatalog catalog) {
         this.winner = Optional.empty();
-        this.defaultObjective = getDefaultObjective();
+        this.defaultObjective = catalog.getDefaultObjective();
+        this.checker = new Checker();
     }
 
     /**
@@ -47,22 +58,7 @@ public class WinConditionImpl implements WinCondition {
 
     private void checkWinCondition(final Map<Territory, Pair<GameColor, Integer>> territoriesMap, final Player player,
             final Objective objective) {
-        final var playerColor = player.getColor();
-        switch (objective.getType()) {
-            case "conquerContinents" -> {
-                final var continentsObjective = (ConquerContinentsObjective) objective;
-                setWinner(checkConquerContinents(territoriesMap, playerColor, continentsObjective), player);
-            }
-            case "conquerTerritories" -> {
-                final var territoriesObjective = (ConquerTerritoriesObjective) objective;
-                setWinner(checkConquerTerritories(territoriesMap, playerColor, territoriesObjective), player);
-            }
-            case "destroyArmy" -> {
-                final var armyObjective = (DestroyArmyObjective) objective;
-                setWinner(checkDestroyArmy(territoriesMap, playerColor, armyObjective), player);
-            }
-            default -> throw new IllegalArgumentException("Invalid objective type");
-        }
+        setWinner(checker.check(territoriesMap, player.getColor(), objective), player);
     }
 
     private void setWinner(final boolean winCondition, final Player player) {
@@ -114,8 +110,7 @@ public class WinConditionImpl implements WinCondition {
     private boolean checkDestroyArmy(final Map<Territory, Pair<GameColor, Integer>> territoriesMap,
             final GameColor playerColor,
             final DestroyArmyObjective objective) {
-        final var armyObjective = (DestroyArmyObjective) objective;
-        final var armyColor = armyObjective.getArmyColor();
+        final var armyColor = objective.getArmyColor();
 
         // If the player must destroy theirself, the objective becomes the default one
         return armyColor.equals(playerColor)
@@ -123,14 +118,43 @@ public class WinConditionImpl implements WinCondition {
                 : territoriesMap.values().stream().noneMatch(p -> p.x().equals(armyColor));
     }
 
-    private ConquerTerritoriesObjective getDefaultObjective() {
-        final Set<Objective> allObjectives = new ObjectiveFactoryImpl().createObjectives();
-        return allObjectives.stream()
-                .filter(ConquerTerritoriesObjective.class::isInstance)
-                .map(ConquerTerritoriesObjective.class::cast)
-                .filter(t -> t.getNumTerritories() == DEFAULT_NUM_TERRITORIES)
-                .findFirst()
-                .get();
+    /**
+     * Checks the objectives of every player, reused by every check of this
+     * condition. The state of the game is received by {@link #check} and kept
+     * only while the objective is visited.
+     */
+    private final class Checker implements ObjectiveVisitor<Boolean> {
+
+        private Map<Territory, Pair<GameColor, Integer>> territoriesMap;
+        private GameColor playerColor;
+
+        boolean check(final Map<Territory, Pair<GameColor, Integer>> territories, final GameColor color,
+                final Objective objective) {
+            this.territoriesMap = territories;
+            this.playerColor = color;
+            try {
+                return objective.accept(this);
+            } finally {
+                this.territoriesMap = null;
+                this.playerColor = null;
+            }
+        }
+
+        @Override
+        public Boolean visit(final ConquerContinentsObjective objective) {
+            return checkConquerContinents(territoriesMap, playerColor, objective);
+        }
+
+        @Override
+        public Boolean visit(final ConquerTerritoriesObjective objective) {
+            return checkConquerTerritories(territoriesMap, playerColor, objective);
+        }
+
+        @Override
+        public Boolean visit(final DestroyArmyObjective objective) {
+            return checkDestroyArmy(territoriesMap, playerColor, objective);
+        }
+
     }
 
 }
@@ -0,0 +1,196 @@
+package it.unibo.jurassiko.core.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import it.unibo.jurassiko.core.api.WinEvaluator;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
+import it.unibo.jurassiko.model.objective.impl.ConquerContinentsObjective;
+import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
+import it.unibo.jurassiko.model.objective.impl.DestroyArmyObjective;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Implementation of {@link WinEvaluator}.
+ * For every color it keeps the bitmask of the owned territories, and for every
+ * minimum amount of dino required by an objective it keeps the bitmask of the
+ * territories with at least that amount of dino.
+ */
+public class WinEvaluatorImpl implements WinEvaluator {
+
+    private final Map<String, Long> continents;
+    private final ConquerTerritoriesObjective defaultObjective;
+    private final long[] owned;
+    private final int[] minDinos;
+    private int thresholds;
+    private final long[] withMinDinos;
+    private final GameColor[] colors;
+    private final BooleanSupplier[] predicates;
+
+    /**
+     * Compiles the objectives of the players.
+     *
+     * @param catalog the catalog of the board
+     * @param players the players, sorted by turn order
+     */
+    public WinEvaluatorImpl(final BoardCatalog catalog, final List<Player> players) {
+        final TerritoryRegistry registry = catalog.getRegistry();
+        this.defaultObjective = catalog.getDefaultObjective();
+        this.continents = new HashMap<>();
+        for (int id = 0; id < registry.getTerritoryCount(); id++) {
+            continents.merge(registry.getTerritory(id).getContinent(), 1L << id, (a, b) -> a | b);
+        }
+        this.owned = new long[GameColor.values().length];
+        // Every objective needs at most one amount of dino
+        this.minDinos = new int[players.size()];
+        this.colors = new GameColor[players.size()];
+        this.predicates = new BooleanSupplier[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            colors[i] = players.get(i).getColor();
+            predicates[i] = compile(players.get(i).getObjective(), colors[i]);
+        }
+        this.withMinDinos = new long[thresholds];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final int territoryId, final GameColor owner, final int dino) {
+        final long bit = 1L << territoryId;
+        for (int i = 0; i < owned.length; i++) {
+            owned[i] &= ~bit;
+        }
+        owned[owner.ordinal()] |= bit;
+        for (int i = 0; i < withMinDinos.length; i++) {
+            if (dino >= minDinos[i]) {
+                withMinDinos[i] |= bit;
+            } else {
+                withMinDinos[i] &= ~bit;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAll(final Board board) {
+        Arrays.fill(owned, 0);
+        Arrays.fill(withMinDinos, 0);
+        for (int id = 0; id < board.size(); id++) {
+            update(id, board.getOwner(id), board.getDino(id));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasWon(final GameColor color) {
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i].equals(color)) {
+                return predicates[i].getAsBoolean();
+            }
+        }
+        throw new IllegalArgumentException("Invalid player color");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameColor> getWinner() {
+        for (int i = 0; i < colors.length; i++) {
+            if (predicates[i].getAsBoolean()) {
+                return Optional.of(colors[i]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private BooleanSupplier compile(final Objective objective, final GameColor playerColor) {
+        return objective.accept(new ObjectiveVisitor<BooleanSupplier>() {
+
+            @Override
+            public BooleanSupplier visit(final ConquerContinentsObjective continentsObjective) {
+                return compileConquerContinents(continentsObjective, playerColor);
+            }
+
+            @Override
+            public BooleanSupplier visit(final ConquerTerritoriesObjective territoriesObjective) {
+                return compileConquerTerritories(territoriesObjective.getNumTerritories(),
+                        territoriesObjective.getMinDinos(), playerColor);
+            }
+
+            @Override
+            public BooleanSupplier visit(final DestroyArmyObjective armyObjective) {
+                return compileDestroyArmy(armyObjective, playerColor);
+            }
+
+        });
+    }
+
+    private BooleanSupplier compileConquerContinents(final ConquerContinentsObjective objective,
+            final GameColor playerColor) {
+        final int color = playerColor.ordinal();
+        long required = 0;
+        for (final var continent : objective.getContinents()) {
+            required |= continents.getOrDefault(continent, 0L);
+        }
+        final long mask = required;
+        if (!objective.isSelectableContinent()) {
+            return () -> (owned[color] & mask) == mask;
+        }
+        final long[] selectable = continents.entrySet().stream()
+                .filter(c -> !objective.getContinents().contains(c.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .toArray();
+        return () -> {
+            if ((owned[color] & mask) != mask) {
+                return false;
+            }
+            for (final long continent : selectable) {
+                if ((owned[color] & continent) == continent) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private BooleanSupplier compileConquerTerritories(final int numTerritories, final int minDino,
+            final GameColor playerColor) {
+        final int color = playerColor.ordinal();
+        int index = 0;
+        while (index < thresholds && minDinos[index] != minDino) {
+            index++;
+        }
+        if (index == thresholds) {
+            minDinos[thresholds++] = minDino;
+        }
+        final int counter = index;
+        return () -> Long.bitCount(owned[color] & withMinDinos[counter]) >= numTerritories;
+    }
+
+    private BooleanSupplier compileDestroyArmy(final DestroyArmyObjective objective, final GameColor playerColor) {
+        final var armyColor = objective.getArmyColor();
+        // If the player must destroy theirself, the objective becomes the default one
+        if (armyColor.equals(playerColor)) {
+            return compileConquerTerritories(defaultObjective.getNumTerritories(), defaultObjective.getMinDinos(),
+                    playerColor);
+        }
+        final int army = armyColor.ordinal();
+        return () -> owned[army] == 0;
+    }
+
+}
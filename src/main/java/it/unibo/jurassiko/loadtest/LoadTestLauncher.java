@@ -0,0 +1,76 @@
+package it.unibo.jurassiko.loadtest;
+
+import java.util.Locale;
+import java.util.function.LongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.bot.impl.MctsBot;
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.loadtest.api.LoadTest;
+import it.unibo.jurassiko.loadtest.impl.LoadTestImpl;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+
+/**
+ * Main class of the load test of the engine, playing the same seeded games on
+ * a single thread and then on many threads.
+ */
+public final class LoadTestLauncher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestLauncher.class);
+    private static final int DEFAULT_GAMES = 1000;
+    private static final int WARMUP_GAMES = 200;
+    private static final int MAX_TURNS = 300;
+    private static final int MCTS_ITERATIONS = 200;
+    private static final long SEED = 42;
+    private static final double NANOS_PER_MICRO = 1000;
+
+    /**
+     * Private constructor to protect the main class.
+     */
+    private LoadTestLauncher() {
+    }
+
+    /**
+     * Main method to launch the load test.
+     *
+     * @param args optionally the amount of games, the amount of threads, every
+     *             core of the machine by default, and the bot playing the games,
+     *             "random" by default or "mcts"
+     */
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final String bot = args.length > 2 ? args[2] : "random";
+        final LongFunction<Bot> factory = switch (bot) {
+            case "random" -> RandomBot::new;
+            case "mcts" -> seed -> new MctsBot(MCTS_ITERATIONS, 0, 1, seed);
+            default -> throw new IllegalArgumentException("Unknown bot: " + bot);
+        };
+        final BoardCatalog catalog = BoardCatalogImpl.getDefault();
+        // The games of the warm-up let the JIT compile the engine before the measures
+        new LoadTestImpl(catalog, factory, new LoadTest.Settings(WARMUP_GAMES, MAX_TURNS, threads, SEED)).run();
+        measure(new LoadTestImpl(catalog, factory, new LoadTest.Settings(games, MAX_TURNS, 1, SEED)));
+        if (threads > 1) {
+            measure(new LoadTestImpl(catalog, factory, new LoadTest.Settings(games, MAX_TURNS, threads, SEED)));
+        }
+    }
+
+    /**
+     * Runs a load test and logs its measures.
+     *
+     * @param loadTest the load test
+     */
+    private static void measure(final LoadTest loadTest) {
+        final var result = loadTest.run();
+        LOGGER.info("{} threads: {} games/s, {} actions/s, latency p50 {} us p99 {} us, {} bytes per game",
+                result.threads(), String.format(Locale.ROOT, "%.1f", result.getGamesPerSecond()),
+                String.format(Locale.ROOT, "%.0f", result.getActionsPerSecond()),
+                result.medianLatency() / NANOS_PER_MICRO, result.p99Latency() / NANOS_PER_MICRO,
+                result.getBytesPerGame());
+    }
+
+}
@@ -0,0 +1,39 @@
+package it.unibo.jurassiko.loadtest.api;
+
+/**
+ * Distribution of latencies, kept in buckets of bounded relative width so that
+ * recording a value never allocates memory.
+ */
+public interface LatencyHistogram {
+
+    /**
+     * Adds a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     * @throws IllegalArgumentException if the latency is negative
+     */
+    void record(long nanos);
+
+    /**
+     * Adds all the latencies of another histogram.
+     *
+     * @param other the histogram to add
+     */
+    void add(LatencyHistogram other);
+
+    /**
+     * @return the amount of recorded latencies
+     */
+    long getCount();
+
+    /**
+     * Gets the latency below which the given fraction of the recorded ones
+     * falls, rounded up to the bound of its bucket.
+     *
+     * @param fraction the fraction of the latencies, from 0 to 1
+     * @return the latency in nanoseconds, 0 if there are none
+     * @throws IllegalArgumentException if the fraction is not valid
+     */
+    long getPercentile(double fraction);
+
+}
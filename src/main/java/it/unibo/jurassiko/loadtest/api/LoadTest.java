@@ -0,0 +1,70 @@
+package it.unibo.jurassiko.loadtest.api;
+
+/**
+ * A macro benchmark playing complete seeded games between bots without any
+ * view, measuring the throughput of the engine and the latency of every
+ * action.
+ */
+public interface LoadTest {
+
+    /**
+     * The limits of the load test.
+     *
+     * @param games    the amount of games
+     * @param maxTurns the amount of turns after which a game is stopped
+     * @param threads  the amount of games played at the same time
+     * @param seed     the seed from which the seeds of the games are derived
+     */
+    record Settings(int games, int maxTurns, int threads, long seed) {
+    }
+
+    /**
+     * The measures of a load test.
+     *
+     * @param threads        the amount of threads playing the games
+     * @param games          the amount of games played
+     * @param actions        the amount of actions done in all the games
+     * @param nanos          the elapsed time in nanoseconds
+     * @param allocatedBytes the memory allocated by the threads playing the
+     *                       games, -1 if the JVM does not measure it
+     * @param medianLatency  the median latency of an action in nanoseconds,
+     *                       including the choice of the bot
+     * @param p99Latency     the 99th percentile of the latency of an action in
+     *                       nanoseconds
+     */
+    record Result(int threads, int games, long actions, long nanos, long allocatedBytes, long medianLatency,
+            long p99Latency) {
+
+        private static final double NANOS_PER_SECOND = 1e9;
+
+        /**
+         * @return the amount of games played per second
+         */
+        public double getGamesPerSecond() {
+            return games * NANOS_PER_SECOND / nanos;
+        }
+
+        /**
+         * @return the amount of actions done per second
+         */
+        public double getActionsPerSecond() {
+            return actions * NANOS_PER_SECOND / nanos;
+        }
+
+        /**
+         * @return the mean memory allocated by a game, -1 if it is not measured
+         */
+        public long getBytesPerGame() {
+            return allocatedBytes < 0 ? -1 : allocatedBytes / games;
+        }
+
+    }
+
+    /**
+     * Plays all the games, waiting for them to end.
+     *
+     * @return the measures of the games
+     */
+    Result run();
+
+}
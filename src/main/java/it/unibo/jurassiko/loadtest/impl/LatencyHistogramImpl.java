@@ -0,0 +1,112 @@
+package it.unibo.jurassiko.loadtest.impl;
+
+import it.unibo.jurassiko.loadtest.api.LatencyHistogram;
+
+/**
+ * Implementation of {@link LatencyHistogram} with log-linear buckets: the
+ * values below 2 * {@value #SUB_BUCKETS} have a bucket each, then every power
+ * of two is split into {@value #SUB_BUCKETS} buckets, so the bound of a bucket
+ * is at most about 1.6% above its values.
+ */
+public final class LatencyHistogramImpl implements LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogramImpl() {
+        this.counts = new long[BUCKETS];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Invalid latency: " + nanos);
+        }
+        counts[bucketOf(nanos)]++;
+        count++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final LatencyHistogram other) {
+        if (other instanceof LatencyHistogramImpl histogram) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += histogram.counts[i];
+            }
+            count += histogram.count;
+        } else {
+            throw new IllegalArgumentException("Unsupported histogram: " + other.getClass().getName());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPercentile(final double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Invalid fraction: " + fraction);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        throw new IllegalStateException("The counts do not match the total");
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value the non-negative value
+     * @return the index of the bucket
+     */
+    private static int bucketOf(final long value) {
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the greatest value of a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the greatest value falling in the bucket
+     */
+    private static long upperBound(final int bucket) {
+        final int shift = bucket / SUB_BUCKETS - 1;
+        if (shift <= 0) {
+            return bucket;
+        }
+        return ((long) (bucket % SUB_BUCKETS + SUB_BUCKETS + 1) << shift) - 1;
+    }
+
+}
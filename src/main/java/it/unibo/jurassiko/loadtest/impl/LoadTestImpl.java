@@ -0,0 +1,240 @@
+package it.unibo.jurassiko.loadtest.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.core.api.CommandListener;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.AttackOutcome;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.loadtest.api.LatencyHistogram;
+import it.unibo.jurassiko.loadtest.api.LoadTest;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Implementation of {@link LoadTest} playing the games on a fixed pool of
+ * threads, every thread taking the next game as soon as it ends one.
+ * The games are seeded as in a tournament and played by the same kind of bot
+ * on every seat, without history since bots never undo. The latency of an
+ * action is the time elapsed since the previous command of the game was
+ * applied, so it includes the choice of the bot; the allocated memory is read
+ * from the counters of the JVM for the threads playing the games.
+ */
+public class LoadTestImpl implements LoadTest {
+
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+
+    private final BoardCatalog catalog;
+    private final LongFunction<Bot> factory;
+    private final Settings settings;
+
+    /**
+     * Creates a load test.
+     *
+     * @param catalog  the catalog of the board of the games
+     * @param factory  creates a new bot from a seed, for every seat of every
+     *                 game
+     * @param settings the limits of the load test
+     * @throws IllegalArgumentException if the settings are not valid
+     */
+    public LoadTestImpl(final BoardCatalog catalog, final LongFunction<Bot> factory, final Settings settings) {
+        if (settings.games() < 1 || settings.maxTurns() < 1 || settings.threads() < 1) {
+            throw new IllegalArgumentException("Invalid settings of the load test");
+        }
+        this.catalog = catalog;
+        this.factory = factory;
+        this.settings = settings;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Result run() {
+        final AtomicInteger nextGame = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        final List<Future<Worker>> workers = new ArrayList<>();
+        final long start = System.nanoTime();
+        try {
+            for (int i = 0; i < settings.threads(); i++) {
+                workers.add(executor.submit(() -> {
+                    final Worker worker = new Worker();
+                    for (int game = nextGame.getAndIncrement(); game < settings.games();
+                            game = nextGame.getAndIncrement()) {
+                        worker.play(game);
+                    }
+                    return worker;
+                }));
+            }
+            final LatencyHistogram latencies = new LatencyHistogramImpl();
+            long allocatedBytes = 0;
+            for (final var future : workers) {
+                final Worker worker = future.get();
+                latencies.add(worker.latencies);
+                allocatedBytes = allocatedBytes < 0 || worker.allocatedBytes < 0 ? -1
+                        : allocatedBytes + worker.allocatedBytes;
+            }
+            return new Result(settings.threads(), settings.games(), latencies.getCount(), System.nanoTime() - start,
+                    allocatedBytes, latencies.getPercentile(MEDIAN), latencies.getPercentile(P99));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The load test has been interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A game of the load test has failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the memory allocated so far by the current thread.
+     *
+     * @return the allocated bytes, -1 if the JVM does not measure them
+     */
+    private static long getAllocatedBytes() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * The measures of the games played by a thread, also timing the commands
+     * of the game being played.
+     */
+    private final class Worker implements CommandListener {
+
+        private final LatencyHistogram latencies = new LatencyHistogramImpl();
+        private long allocatedBytes;
+        private long lastCommand;
+
+        /**
+         * Plays a game of the load test.
+         *
+         * @param game the index of the game
+         */
+        private void play(final int game) {
+            final long allocatedBefore = getAllocatedBytes();
+            final long seed = new SplittableRandom(settings.seed() + game).nextLong();
+            final SplittableRandom random = new SplittableRandom(seed);
+            final HeadlessEngine engine = new HeadlessEngineImpl(catalog, seed);
+            final Map<GameColor, Bot> bots = new EnumMap<>(GameColor.class);
+            for (final var player : engine.getPlayers()) {
+                bots.put(player.getColor(), factory.apply(random.nextLong()));
+            }
+            engine.setHistoryLimit(0);
+            engine.addCommandListener(this);
+            lastCommand = System.nanoTime();
+            try {
+                for (int turns = 0; engine.getWinner().isEmpty() && turns < settings.maxTurns(); turns++) {
+                    bots.get(engine.getCurrentPlayer().getColor()).playTurn(engine);
+                }
+            } finally {
+                bots.values().forEach(Bot::close);
+            }
+            allocatedBytes = allocatedBefore < 0 ? -1 : allocatedBytes + getAllocatedBytes() - allocatedBefore;
+        }
+
+        /**
+         * Records the latency of a command.
+         */
+        private void commandApplied() {
+            final long now = System.nanoTime();
+            latencies.record(now - lastCommand);
+            lastCommand = now;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void placed(final String areaName) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void placedAll(final List<Placement> plan) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void attacked(final String attacker, final String defender, final AttackOutcome outcome) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void moved(final String source, final String target, final int amount) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void movedAll(final List<Movement> movements) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void turnEnded() {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void phaseSet(final Phase phase) {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void undone() {
+            commandApplied();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void redone() {
+            commandApplied();
+        }
+
+    }
+
+}
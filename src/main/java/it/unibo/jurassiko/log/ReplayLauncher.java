@@ -0,0 +1,51 @@
+package it.unibo.jurassiko.log;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.log.impl.CommandLogImpl;
+import it.unibo.jurassiko.log.impl.ReplayImpl;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.view.gamescreen.impl.ReplayView;
+
+/**
+ * Main class of the viewer of a recorded game.
+ */
+public final class ReplayLauncher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayLauncher.class);
+    private static final int DEFAULT_INTERVAL = 64;
+
+    /**
+     * Private constructor to protect the main class.
+     */
+    private ReplayLauncher() {
+    }
+
+    /**
+     * Main method to launch the viewer. The log stays open while the viewer is
+     * shown.
+     *
+     * @param args the path of the command log, then optionally the amount of
+     *             commands between two snapshots
+     * @throws IOException if the log cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            LOGGER.error("Usage: ReplayLauncher <game.log> [interval]");
+            return;
+        }
+        final int interval = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_INTERVAL;
+        final BoardCatalog catalog = BoardCatalogImpl.getDefault();
+        final CommandLog log = CommandLogImpl.openReadOnly(Path.of(args[0]), catalog.getRegistry());
+        final var replay = new ReplayImpl(log, catalog, interval);
+        LOGGER.info("{} commands in {} turns", replay.size(), replay.getTurnCount());
+        new ReplayView(replay).display();
+    }
+
+}
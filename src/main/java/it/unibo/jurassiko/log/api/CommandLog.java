@@ -0,0 +1,79 @@
+package it.unibo.jurassiko.log.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import it.unibo.jurassiko.core.api.CommandListener;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+
+/**
+ * An append-only log of the commands of a game, kept in a binary file. Added as
+ * listener of a game, it records every command that changes the game, so after
+ * a crash the game can be rebuilt by replaying the commands on a new game with
+ * the same seed.
+ * The commands are written in batches: a command is safe on the storage device
+ * only after the log has been synchronized, which happens every few commands,
+ * on {@link #sync()} and on {@link #close()}. A closed log stops listening to
+ * the game it has been created for, and ignores the commands of any other game
+ * it has been added to.
+ */
+public interface CommandLog extends CommandListener, Closeable {
+
+    /**
+     * Gets the seed of the game, from which a new game can be created to replay
+     * the commands.
+     *
+     * @return the seed of the game
+     */
+    long getSeed();
+
+    /**
+     * Gets the amount of commands recorded, including the ones not synchronized
+     * yet.
+     *
+     * @return the amount of commands
+     */
+    int size();
+
+    /**
+     * Writes the commands recorded so far and forces them to the storage device.
+     *
+     * @throws IOException if the commands cannot be written
+     */
+    void sync() throws IOException;
+
+    /**
+     * Applies the recorded commands to a game, starting from the given one. To
+     * rebuild the whole game, the commands are applied from 0 to a new game
+     * created with the seed of the log; to rebuild it from a saved state, they
+     * are applied to the restored game from the amount of commands recorded when
+     * the state has been saved. Attacks apply the recorded losses, so the dice
+     * of the game are not used. The log must not be listening to the game while
+     * the commands are applied.
+     *
+     * @param engine the game
+     * @param from   the index of the first command to apply
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the index is not valid
+     * @throws IllegalStateException    if a command cannot be applied to the game,
+     *                                  which is not the one of the log
+     */
+    void replay(HeadlessEngine engine, int from) throws IOException;
+
+    /**
+     * Applies the recorded commands in a range to a game, as
+     * {@link #replay(HeadlessEngine, int)} does. The commands are read from the
+     * file only when new ones have been recorded, so applying a few commands at
+     * a time does not read the whole log every time.
+     *
+     * @param engine the game
+     * @param from   the index of the first command to apply
+     * @param to     the index after the last command to apply
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the range is not valid
+     * @throws IllegalStateException    if a command cannot be applied to the game,
+     *                                  which is not the one of the log
+     */
+    void replay(HeadlessEngine engine, int from, int to) throws IOException;
+
+}
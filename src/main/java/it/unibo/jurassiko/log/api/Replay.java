@@ -0,0 +1,69 @@
+package it.unibo.jurassiko.log.api;
+
+import java.io.IOException;
+
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+
+/**
+ * A recorded game that can be reviewed at any point. The game is simulated
+ * once, keeping a snapshot every few commands; then seeking restores the
+ * nearest snapshot and applies only the commands after it.
+ */
+public interface Replay {
+
+    /**
+     * Gets the amount of recorded commands.
+     *
+     * @return the amount of commands
+     */
+    int size();
+
+    /**
+     * Gets the amount of turns of the game. Every recorded end of a turn starts
+     * a new one, the first one being the initial placement of every player.
+     *
+     * @return the amount of turns
+     */
+    int getTurnCount();
+
+    /**
+     * Gets the amount of commands applied to the game.
+     *
+     * @return the current position
+     */
+    int getPosition();
+
+    /**
+     * Gets the turn of the current position.
+     *
+     * @return the index of the turn
+     */
+    int getTurn();
+
+    /**
+     * Brings the game to the state after the given amount of commands.
+     *
+     * @param position the amount of commands to apply, from 0 to the size
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the position is not valid
+     */
+    void seek(int position) throws IOException;
+
+    /**
+     * Brings the game to the start of the given turn.
+     *
+     * @param turn the index of the turn
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the turn is not valid
+     */
+    void seekTurn(int turn) throws IOException;
+
+    /**
+     * Gets the game at the current position. It must only be read, since every
+     * seek changes it.
+     *
+     * @return the game
+     */
+    HeadlessEngine getEngine();
+
+}
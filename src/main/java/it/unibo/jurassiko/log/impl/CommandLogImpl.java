@@ -0,0 +1,564 @@
+package it.unibo.jurassiko.log.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.AttackOutcome;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Implementation of the interface {@link CommandLog}.
+ * The file starts with a header holding the version of the format, the seed of
+ * the game and the size of the board. Every command follows as a record made
+ * of the length of its payload, the payload and its CRC-32: the payload is the
+ * kind of command followed by its arguments, with territories and oceans
+ * written as the ids of the registry. A record cut by a crash fails the
+ * check, so it is dropped when the log is opened again.
+ */
+public final class CommandLogImpl implements CommandLog {
+
+    private static final int MAGIC = 0x4A4C4F47;
+    private static final short VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + 2;
+    // Length, kind, two areas, two amounts, conquest and CRC of the largest record of a single command
+    private static final int RECORD_SIZE = Short.BYTES + 1 + 2 + 2 * Integer.BYTES + 1 + Integer.BYTES;
+    private static final int MAX_PAYLOAD = 0xFFFF;
+    private static final int PLACEMENT_SIZE = 1 + Integer.BYTES;
+    private static final int MOVEMENT_SIZE = 2 + Integer.BYTES;
+    private static final int OCEAN_FLAG = 0x80;
+    private static final int BUFFER_SIZE = 4096;
+    private static final int UNSIGNED_BYTE = 0xFF;
+
+    private static final byte PLACE_TERRITORY = 1;
+    private static final byte PLACE_OCEAN = 2;
+    private static final byte ATTACK = 3;
+    private static final byte MOVE = 4;
+    private static final byte END_TURN = 5;
+    private static final byte SET_PHASE = 6;
+    private static final byte UNDO = 7;
+    private static final byte REDO = 8;
+    private static final byte PLACE_ALL = 9;
+    private static final byte MOVE_ALL = 10;
+
+    private final FileChannel channel;
+    private final Optional<HeadlessEngine> engine;
+    private final TerritoryRegistry registry;
+    private final long seed;
+    private final int syncInterval;
+    private final boolean readOnly;
+    private final ByteBuffer pending;
+    private ByteBuffer entry;
+    private final CRC32 checksum;
+    private List<ByteBuffer> records;
+    private int size;
+    private int unsynced;
+    private boolean closed;
+
+    private CommandLogImpl(final FileChannel channel, final Optional<HeadlessEngine> engine,
+            final TerritoryRegistry registry, final long seed, final int syncInterval, final int size,
+            final boolean readOnly) {
+        this.channel = channel;
+        this.engine = engine;
+        this.registry = registry;
+        this.seed = seed;
+        this.syncInterval = syncInterval;
+        this.readOnly = readOnly;
+        this.pending = ByteBuffer.allocate(BUFFER_SIZE);
+        this.entry = ByteBuffer.allocate(RECORD_SIZE);
+        this.checksum = new CRC32();
+        this.records = List.of();
+        this.size = size;
+    }
+
+    /**
+     * Creates the log of a new game in a new file, and adds it as listener of
+     * the game until the log is closed.
+     *
+     * @param path         the file of the log, which must not exist
+     * @param engine       the game, on which no command has been executed yet
+     * @param syncInterval the amount of commands after which the log is
+     *                     synchronized
+     * @return the log
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public static CommandLog create(final Path path, final HeadlessEngine engine, final int syncInterval)
+            throws IOException {
+        checkInterval(syncInterval);
+        final var registry = engine.getRegistry();
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.READ);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .putLong(engine.getSeed())
+                .put((byte) registry.getTerritoryCount())
+                .put((byte) registry.getOceanCount())
+                .flip();
+        writeFully(channel, header);
+        channel.force(true);
+        final CommandLogImpl log = new CommandLogImpl(channel, Optional.of(engine), registry, engine.getSeed(),
+                syncInterval, 0, false);
+        engine.addCommandListener(log);
+        return log;
+    }
+
+    /**
+     * Opens the log of a game to append new commands, dropping the last record
+     * if it has been cut by a crash. The log must be replayed on a game and
+     * then added as its listener.
+     *
+     * @param path         the file of the log
+     * @param registry     the registry of the board of the game
+     * @param syncInterval the amount of commands after which the log is
+     *                     synchronized
+     * @return the log
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not the log of a game on
+     *                                  the given board, or the interval is not
+     *                                  positive
+     */
+    public static CommandLog open(final Path path, final TerritoryRegistry registry, final int syncInterval)
+            throws IOException {
+        checkInterval(syncInterval);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        try {
+            final Contents contents = read(channel, registry);
+            channel.truncate(contents.end());
+            channel.position(contents.end());
+            return new CommandLogImpl(channel, Optional.empty(), registry, contents.seed(), syncInterval,
+                    contents.records().size(), false);
+        } catch (final IOException | IllegalArgumentException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the log of a game only to replay its commands, leaving the file as
+     * it is: a last record cut by a crash is ignored but not dropped. The log
+     * cannot record new commands.
+     *
+     * @param path     the file of the log
+     * @param registry the registry of the board of the game
+     * @return the log
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not the log of a game on
+     *                                  the given board
+     */
+    public static CommandLog openReadOnly(final Path path, final TerritoryRegistry registry) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final Contents contents = read(channel, registry);
+            final CommandLogImpl log = new CommandLogImpl(channel, Optional.empty(), registry, contents.seed(), 1,
+                    contents.records().size(), true);
+            log.records = contents.records();
+            return log;
+        } catch (final IOException | IllegalArgumentException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sync() throws IOException {
+        if (readOnly) {
+            return;
+        }
+        pending.flip();
+        writeFully(channel, pending);
+        pending.clear();
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replay(final HeadlessEngine engine, final int from) throws IOException {
+        replay(engine, from, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replay(final HeadlessEngine engine, final int from, final int to) throws IOException {
+        if (from < 0 || from > to || to > size) {
+            throw new IllegalArgumentException("Invalid range of commands: " + from + ", " + to);
+        }
+        if (records.size() != size) {
+            sync();
+            records = read(channel, registry).records();
+        }
+        for (int i = from; i < to; i++) {
+            try {
+                apply(engine, records.get(i).duplicate());
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalStateException("The command " + i + " cannot be applied to the game", e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        engine.ifPresent(game -> game.removeCommandListener(this));
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void placed(final String areaName) {
+        final var oceanId = registry.findOceanId(areaName);
+        if (oceanId.isPresent()) {
+            begin(PLACE_OCEAN).put((byte) oceanId.getAsInt());
+        } else {
+            begin(PLACE_TERRITORY).put((byte) registry.getTerritoryId(areaName));
+        }
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void placedAll(final List<Placement> plan) {
+        final ByteBuffer payload = begin(PLACE_ALL, Short.BYTES + plan.size() * PLACEMENT_SIZE)
+                .putShort((short) plan.size());
+        for (final var placement : plan) {
+            final var oceanId = registry.findOceanId(placement.areaName());
+            payload.put((byte) (oceanId.isPresent() ? OCEAN_FLAG | oceanId.getAsInt()
+                    : registry.getTerritoryId(placement.areaName())))
+                    .putInt(placement.amount());
+        }
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attacked(final String attacker, final String defender, final AttackOutcome outcome) {
+        begin(ATTACK).put((byte) registry.getTerritoryId(attacker))
+                .put((byte) registry.getTerritoryId(defender))
+                .putInt(outcome.attackerLosses())
+                .putInt(outcome.defenderLosses())
+                .put((byte) (outcome.conquered() ? 1 : 0));
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moved(final String source, final String target, final int amount) {
+        begin(MOVE).put((byte) registry.getTerritoryId(source))
+                .put((byte) registry.getTerritoryId(target))
+                .putInt(amount);
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void movedAll(final List<Movement> movements) {
+        final ByteBuffer payload = begin(MOVE_ALL, Short.BYTES + movements.size() * MOVEMENT_SIZE)
+                .putShort((short) movements.size());
+        for (final var movement : movements) {
+            payload.put((byte) registry.getTerritoryId(movement.source()))
+                    .put((byte) registry.getTerritoryId(movement.target()))
+                    .putInt(movement.amount());
+        }
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnEnded() {
+        begin(END_TURN);
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void phaseSet(final Phase phase) {
+        begin(SET_PHASE).put((byte) phase.ordinal());
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void undone() {
+        begin(UNDO);
+        append();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redone() {
+        begin(REDO);
+        append();
+    }
+
+    /**
+     * Starts a new record, leaving room for its length.
+     *
+     * @param kind the kind of command
+     * @return the buffer of the record, where the arguments are written
+     */
+    private ByteBuffer begin(final byte kind) {
+        return entry.clear().putShort((short) 0).put(kind);
+    }
+
+    /**
+     * Starts a new record of a command with a variable amount of arguments,
+     * enlarging the buffer of the records if needed.
+     *
+     * @param kind the kind of command
+     * @param size the size of the arguments
+     * @return the buffer of the record, where the arguments are written
+     * @throws IllegalArgumentException if the arguments do not fit in a record
+     */
+    private ByteBuffer begin(final byte kind, final int size) {
+        if (1 + size > MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Too many arguments to log: " + size + " bytes");
+        }
+        if (entry.capacity() < Short.BYTES + 1 + size + Integer.BYTES) {
+            entry = ByteBuffer.allocate(Short.BYTES + 1 + size + Integer.BYTES);
+        }
+        return begin(kind);
+    }
+
+    /**
+     * Completes the record with its length and CRC and adds it to the batch,
+     * which is written and synchronized when it holds enough commands.
+     */
+    private void append() {
+        if (closed) {
+            return;
+        }
+        if (readOnly) {
+            throw new IllegalStateException("The log is read-only");
+        }
+        final int length = entry.position() - Short.BYTES;
+        entry.putShort(0, (short) length);
+        checksum.reset();
+        checksum.update(entry.array(), Short.BYTES, length);
+        entry.putInt((int) checksum.getValue()).flip();
+        try {
+            if (pending.remaining() < entry.remaining()) {
+                pending.flip();
+                writeFully(channel, pending);
+                pending.clear();
+            }
+            if (entry.remaining() > pending.capacity()) {
+                writeFully(channel, entry);
+            } else {
+                pending.put(entry);
+            }
+            size++;
+            unsynced++;
+            if (unsynced >= syncInterval) {
+                sync();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot write the command log", e);
+        }
+    }
+
+    /**
+     * Applies a recorded command to a game.
+     *
+     * @param engine  the game
+     * @param payload the payload of the record
+     */
+    private void apply(final HeadlessEngine engine, final ByteBuffer payload) {
+        final byte kind = payload.get();
+        switch (kind) {
+            case PLACE_TERRITORY -> engine.placeDino(territory(payload));
+            case PLACE_OCEAN -> engine.placeDino(registry.getOcean(payload.get() & UNSIGNED_BYTE).getName());
+            case ATTACK -> {
+                final String attacker = territory(payload);
+                final String defender = territory(payload);
+                final var outcome = engine.applyAttack(attacker, defender, payload.getInt(), payload.getInt());
+                if (outcome.conquered() != (payload.get() != 0)) {
+                    throw new IllegalStateException("The attack from " + attacker + " to " + defender
+                            + " does not match the log");
+                }
+            }
+            case MOVE -> engine.moveDino(territory(payload), territory(payload), payload.getInt());
+            case END_TURN -> engine.endTurn();
+            case SET_PHASE -> engine.setGamePhase(Phase.values()[payload.get()]);
+            case UNDO -> engine.undo();
+            case REDO -> engine.redo();
+            case PLACE_ALL -> {
+                final List<Placement> plan = new ArrayList<>();
+                for (int i = payload.getShort() & MAX_PAYLOAD; i > 0; i--) {
+                    final int area = payload.get() & UNSIGNED_BYTE;
+                    plan.add(new Placement((area & OCEAN_FLAG) != 0
+                            ? registry.getOcean(area & ~OCEAN_FLAG).getName()
+                            : registry.getTerritory(area).getName(), payload.getInt()));
+                }
+                engine.placeAll(plan);
+            }
+            case MOVE_ALL -> {
+                final List<Movement> movements = new ArrayList<>();
+                for (int i = payload.getShort() & MAX_PAYLOAD; i > 0; i--) {
+                    movements.add(new Movement(territory(payload), territory(payload), payload.getInt()));
+                }
+                engine.moveAll(movements);
+            }
+            default -> throw new IllegalArgumentException("Unknown command in the log: " + kind);
+        }
+    }
+
+    /**
+     * Reads the name of a territory from a payload.
+     *
+     * @param payload the payload of the record
+     * @return the name of the territory
+     */
+    private String territory(final ByteBuffer payload) {
+        return registry.getTerritory(payload.get() & UNSIGNED_BYTE).getName();
+    }
+
+    /**
+     * Reads the whole file of a log, keeping the records up to the first one
+     * that is incomplete or fails the check.
+     *
+     * @param channel  the file of the log
+     * @param registry the registry of the board of the game
+     * @return the contents of the log
+     * @throws IOException if the file cannot be read
+     */
+    private static Contents read(final FileChannel channel, final TerritoryRegistry registry) throws IOException {
+        final ByteBuffer data = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+        int read = 0;
+        while (data.hasRemaining() && read >= 0) {
+            read = channel.read(data, data.position());
+        }
+        data.flip();
+        if (data.remaining() < HEADER_SIZE || data.getInt() != MAGIC) {
+            throw new IllegalArgumentException("The file is not a command log");
+        }
+        final short version = data.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of the command log: " + version);
+        }
+        final long seed = data.getLong();
+        if (data.get() != registry.getTerritoryCount() || data.get() != registry.getOceanCount()) {
+            throw new IllegalArgumentException("The log belongs to a game on another board");
+        }
+        final CRC32 checksum = new CRC32();
+        final List<ByteBuffer> records = new ArrayList<>();
+        while (data.hasRemaining()) {
+            if (data.remaining() < Short.BYTES) {
+                break;
+            }
+            final int length = data.getShort(data.position()) & MAX_PAYLOAD;
+            if (length == 0 || data.remaining() < Short.BYTES + length + Integer.BYTES) {
+                break;
+            }
+            final ByteBuffer payload = data.slice(data.position() + Short.BYTES, length);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != data.getInt(data.position() + Short.BYTES + length)) {
+                break;
+            }
+            records.add(payload);
+            data.position(data.position() + Short.BYTES + length + Integer.BYTES);
+        }
+        return new Contents(seed, records, data.position());
+    }
+
+    /**
+     * Writes the whole buffer to a file.
+     *
+     * @param channel the file
+     * @param buffer  the buffer
+     * @throws IOException if the buffer cannot be written
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Checks the interval of synchronization.
+     *
+     * @param syncInterval the amount of commands after which the log is
+     *                     synchronized
+     */
+    private static void checkInterval(final int syncInterval) {
+        if (syncInterval < 1) {
+            throw new IllegalArgumentException("Invalid interval of synchronization: " + syncInterval);
+        }
+    }
+
+    /**
+     * The valid part of a log.
+     *
+     * @param seed    the seed of the game
+     * @param records the payloads of the valid records
+     * @param end     the position after the last valid record
+     */
+    private record Contents(long seed, List<ByteBuffer> records, long end) {
+    }
+
+}
@@ -0,0 +1,276 @@
+package it.unibo.jurassiko.log.impl;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jurassiko.core.api.CommandListener;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.AttackOutcome;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.log.api.Replay;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+
+/**
+ * Implementation of the interface {@link Replay}.
+ * A restored snapshot has no history, so an undo cannot go back before the
+ * snapshot the seek started from: for every command the replay records the
+ * oldest command it depends on, which is the command itself but for an undo or
+ * a redo, and a seek starts from the nearest snapshot no command to apply
+ * depends on.
+ */
+public final class ReplayImpl implements Replay {
+
+    private static final int HISTORY_LIMIT = 1000;
+
+    private final CommandLog log;
+    private final int interval;
+    private final HeadlessEngine engine;
+    private final List<HeadlessEngine.Snapshot> keyframes;
+    private final int[] dependencies;
+    private final List<Integer> turnStarts;
+    private int position;
+    private int base;
+
+    /**
+     * Simulates a recorded game, keeping a snapshot every given amount of
+     * commands.
+     *
+     * @param log      the log of the game, opened with
+     *                 {@link CommandLogImpl#openReadOnly} to watch a saved game
+     * @param catalog  the catalog of the board of the game
+     * @param interval the amount of commands between two snapshots
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the interval is not positive
+     * @throws IllegalStateException    if the log does not belong to a game on
+     *                                  the board
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The log is read by the replay by design")
+    public ReplayImpl(final CommandLog log, final BoardCatalog catalog, final int interval) throws IOException {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Invalid interval of the snapshots: " + interval);
+        }
+        this.log = log;
+        this.interval = interval;
+        this.engine = new HeadlessEngineImpl(catalog, log.getSeed());
+        this.engine.setHistoryLimit(HISTORY_LIMIT);
+        this.keyframes = new ArrayList<>();
+        this.dependencies = new int[log.size()];
+        this.turnStarts = new ArrayList<>(List.of(0));
+        this.keyframes.add(engine.snapshot());
+        final Tracker tracker = new Tracker();
+        this.engine.addCommandListener(tracker);
+        for (int i = 0; i < dependencies.length; i++) {
+            log.replay(engine, i, i + 1);
+            if ((i + 1) % interval == 0) {
+                keyframes.add(engine.snapshot());
+            }
+        }
+        this.engine.removeCommandListener(tracker);
+        this.position = dependencies.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return dependencies.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTurnCount() {
+        return turnStarts.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTurn() {
+        final int index = Collections.binarySearch(turnStarts, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seek(final int target) throws IOException {
+        if (target < 0 || target > dependencies.length) {
+            throw new IllegalArgumentException("Invalid position: " + target);
+        }
+        int keyframe = target / interval;
+        while (keyframe > 0 && !dependsOnlyAfter(keyframe * interval, keyframe * interval, target)) {
+            keyframe--;
+        }
+        // The game goes on from the current position only if no usable snapshot is nearer to the target
+        if (target < position || keyframe * interval > position || !dependsOnlyAfter(base, position, target)) {
+            engine.restore(keyframes.get(keyframe));
+            // The history of the previous seek does not belong to the restored state
+            engine.setHistoryLimit(0);
+            engine.setHistoryLimit(HISTORY_LIMIT);
+            base = keyframe * interval;
+            position = base;
+        }
+        log.replay(engine, position, target);
+        position = target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTurn(final int turn) throws IOException {
+        if (turn < 0 || turn >= turnStarts.size()) {
+            throw new IllegalArgumentException("Invalid turn: " + turn);
+        }
+        seek(turnStarts.get(turn));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The game is shown by the viewers by design")
+    public HeadlessEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Checks that the commands in a range depend only on commands applied after
+     * a snapshot.
+     *
+     * @param snapshot the position of the snapshot
+     * @param from     the index of the first command
+     * @param to       the index after the last command
+     * @return true if no command depends on a command before the snapshot
+     */
+    private boolean dependsOnlyAfter(final int snapshot, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (dependencies[i] < snapshot) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the dependencies of the commands and the start of the turns while
+     * the game is simulated, following the history of the game.
+     */
+    private final class Tracker implements CommandListener {
+
+        private final Deque<Integer> undoable = new ArrayDeque<>();
+        private final Deque<Integer> redoable = new ArrayDeque<>();
+        private int index;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void placed(final String areaName) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void placedAll(final List<Placement> plan) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void attacked(final String attacker, final String defender, final AttackOutcome outcome) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void moved(final String source, final String target, final int amount) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void movedAll(final List<Movement> movements) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void turnEnded() {
+            executed();
+            turnStarts.add(index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void phaseSet(final Phase phase) {
+            executed();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void undone() {
+            final int command = undoable.pop();
+            redoable.push(command);
+            dependencies[index++] = command;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void redone() {
+            final int command = redoable.pop();
+            undoable.push(command);
+            dependencies[index++] = command;
+        }
+
+        /**
+         * Records a new command, which makes the undone ones impossible to redo.
+         */
+        private void executed() {
+            undoable.push(index);
+            redoable.clear();
+            dependencies[index] = index;
+            index++;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package it.unibo.jurassiko.model.battle.api;
+
+import java.util.random.RandomGenerator;
+
+import it.unibo.jurassiko.common.Pair;
+
+/**
+ * Exact distribution of the outcome of a territory attacking another one
+ * again and again, until the defender is conquered or the attacker stops.
+ */
+public interface AttackOdds {
+
+    /**
+     * @return the dino of the attacking territory at the start of the attack
+     */
+    int getAttackers();
+
+    /**
+     * @return the dino of the defending territory at the start of the attack
+     */
+    int getDefenders();
+
+    /**
+     * @return the probability that the defending territory is conquered
+     */
+    double getConquestProbability();
+
+    /**
+     * Gets the probability that the defending territory is conquered with the
+     * given amount of dino left in the attacking territory, before any dino is
+     * moved into the conquered territory.
+     * 
+     * @param attackersLeft the dino left in the attacking territory
+     * @return the probability of the outcome, 0 if it is impossible
+     */
+    double getConquestProbability(int attackersLeft);
+
+    /**
+     * Gets the probability that the attacker stops with the given amount of
+     * dino left in the defending territory.
+     * 
+     * @param defendersLeft the dino left in the defending territory
+     * @return the probability of the outcome, 0 if it is impossible
+     */
+    double getStopProbability(int defendersLeft);
+
+    /**
+     * Gets the probability that the attacker stops with the given amount of
+     * dino left in both territories.
+     * 
+     * @param attackersLeft the dino left in the attacking territory
+     * @param defendersLeft the dino left in the defending territory
+     * @return the probability of the outcome, 0 if it is impossible
+     */
+    double getStopProbability(int attackersLeft, int defendersLeft);
+
+    /**
+     * @return the expected amount of dino lost by the attacking territory
+     */
+    double getExpectedAttackerLosses();
+
+    /**
+     * @return the expected amount of dino lost by the defending territory
+     */
+    double getExpectedDefenderLosses();
+
+    /**
+     * Draws a final state of the attack following its distribution, in
+     * constant time whatever the amount of dino.
+     * 
+     * @param random the source of the draw
+     * @return the dino left in the attacking and in the defending territory,
+     *         the latter being 0 if the defending territory is conquered
+     */
+    Pair<Integer, Integer> sample(RandomGenerator random);
+
+}
@@ -19,6 +19,16 @@ public interface Battle {
      */
     Pair<Integer, Integer> attack(int nTroopsAttack, int nTroopsDefence, int nDiceAttack, int nDiceDefence);
 
+    /**
+     * Rolls the dice of a battle without allocating. The defence loses the
+     * compared dice not lost by the attack.
+     * 
+     * @param nDiceAttack  number of dice rolled by the attack, at most 3
+     * @param nDiceDefence number of dice rolled by the defence, at most 3
+     * @return the number of deaths of the attack
+     */
+    int rollAttackerLosses(int nDiceAttack, int nDiceDefence);
+
     /**
      * Calculate the dino to combat and to move when the territory is conquered.
      * 
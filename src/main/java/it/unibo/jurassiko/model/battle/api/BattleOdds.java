@@ -0,0 +1,51 @@
+package it.unibo.jurassiko.model.battle.api;
+
+/**
+ * Exact odds of the battles, following the same rules of {@link Battle}: the
+ * attacking territory rolls one die per dino but one, the defending territory
+ * one die per dino, both up to three dice, and ties are won by the defence.
+ */
+public interface BattleOdds {
+
+    /**
+     * The maximum amount of dice rolled by each side.
+     */
+    int MAX_DICE = 3;
+
+    /**
+     * Gets the probability of a single roll ending with the given losses for
+     * the attack. The defence loses the other compared dice.
+     * 
+     * @param nDiceAttack    number of dice rolled by the attack, from 1 to 3
+     * @param nDiceDefence   number of dice rolled by the defence, from 1 to 3
+     * @param attackerLosses dino lost by the attack
+     * @return the probability of the outcome, 0 if it is impossible
+     * @throws IllegalArgumentException if the amount of dice is not valid
+     */
+    double getRollProbability(int nDiceAttack, int nDiceDefence, int attackerLosses);
+
+    /**
+     * Gets the odds of attacking until the defending territory is conquered or
+     * the attacking territory is left with a single dino.
+     * 
+     * @param attackers dino of the attacking territory
+     * @param defenders dino of the defending territory
+     * @return the odds of the attack
+     * @throws IllegalArgumentException if any amount of dino is less than 1
+     */
+    AttackOdds getAttackOdds(int attackers, int defenders);
+
+    /**
+     * Gets the odds of attacking until the defending territory is conquered or
+     * the attacking territory is left with at most the given amount of dino.
+     * 
+     * @param attackers    dino of the attacking territory
+     * @param defenders    dino of the defending territory
+     * @param minAttackers the attack stops when the attacking territory has
+     *                     this amount of dino or less, at least 1
+     * @return the odds of the attack
+     * @throws IllegalArgumentException if any amount of dino is less than 1
+     */
+    AttackOdds getAttackOdds(int attackers, int defenders, int minAttackers);
+
+}
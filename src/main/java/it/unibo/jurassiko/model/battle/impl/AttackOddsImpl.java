@@ -0,0 +1,216 @@
+package it.unibo.jurassiko.model.battle.impl;
+
+import java.util.random.RandomGenerator;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.model.battle.api.AttackOdds;
+
+/**
+ * Immutable implementation of {@link AttackOdds}, storing the probability of
+ * every final state of the attack. The possible final states are also kept in
+ * an alias table, so that drawing one takes a single uniform index and a
+ * single comparison.
+ */
+final class AttackOddsImpl implements AttackOdds {
+
+    private final int attackers;
+    private final int defenders;
+    private final double[] conquest;
+    private final double[][] stop;
+    private final int[] attackersLeft;
+    private final int[] defendersLeft;
+    private final double[] threshold;
+    private final int[] alias;
+
+    /**
+     * Creates the odds from the probabilities of the final states. The arrays
+     * become owned by this object.
+     * 
+     * @param attackers dino of the attacking territory at the start
+     * @param defenders dino of the defending territory at the start
+     * @param conquest  probability of conquering, indexed by the attackers left
+     * @param stop      probability of stopping, indexed by the attackers left
+     *                  and then by the defenders left
+     */
+    AttackOddsImpl(final int attackers, final int defenders, final double[] conquest, final double[][] stop) {
+        this.attackers = attackers;
+        this.defenders = defenders;
+        this.conquest = conquest;
+        this.stop = stop;
+        int outcomes = 0;
+        for (final double p : conquest) {
+            outcomes += p > 0 ? 1 : 0;
+        }
+        for (final double[] row : stop) {
+            for (final double p : row) {
+                outcomes += p > 0 ? 1 : 0;
+            }
+        }
+        this.attackersLeft = new int[outcomes];
+        this.defendersLeft = new int[outcomes];
+        this.threshold = new double[outcomes];
+        this.alias = new int[outcomes];
+        buildAliasTable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAttackers() {
+        return attackers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDefenders() {
+        return defenders;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConquestProbability() {
+        double result = 0;
+        for (final double p : conquest) {
+            result += p;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getConquestProbability(final int attackersLeft) {
+        return attackersLeft >= 0 && attackersLeft < conquest.length ? conquest[attackersLeft] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStopProbability(final int defendersLeft) {
+        double result = 0;
+        for (int a = 0; a < stop.length; a++) {
+            result += getStopProbability(a, defendersLeft);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStopProbability(final int attackersLeft, final int defendersLeft) {
+        return attackersLeft >= 0 && attackersLeft < stop.length
+                && defendersLeft >= 0 && defendersLeft < stop[attackersLeft].length
+                        ? stop[attackersLeft][defendersLeft]
+                        : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExpectedAttackerLosses() {
+        double result = 0;
+        for (int a = 0; a < conquest.length; a++) {
+            result += conquest[a] * (attackers - a);
+        }
+        for (int a = 0; a < stop.length; a++) {
+            for (final double p : stop[a]) {
+                result += p * (attackers - a);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExpectedDefenderLosses() {
+        double result = getConquestProbability() * defenders;
+        for (final double[] row : stop) {
+            for (int d = 0; d < row.length; d++) {
+                result += row[d] * (defenders - d);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Pair<Integer, Integer> sample(final RandomGenerator random) {
+        final int index = random.nextInt(threshold.length);
+        final int outcome = random.nextDouble() < threshold[index] ? index : alias[index];
+        return new Pair<>(attackersLeft[outcome], defendersLeft[outcome]);
+    }
+
+    /**
+     * Lists the possible final states and pairs them with Vose's method: every
+     * slot of the table holds the probability of its own state, scaled by the
+     * amount of states, and gives the rest of the slot to a more likely state.
+     */
+    private void buildAliasTable() {
+        final int outcomes = threshold.length;
+        final double[] scaled = new double[outcomes];
+        double total = 0;
+        int index = 0;
+        for (int a = 0; a < conquest.length; a++) {
+            if (conquest[a] > 0) {
+                attackersLeft[index] = a;
+                scaled[index++] = conquest[a];
+                total += conquest[a];
+            }
+        }
+        for (int a = 0; a < stop.length; a++) {
+            for (int d = 0; d < stop[a].length; d++) {
+                if (stop[a][d] > 0) {
+                    attackersLeft[index] = a;
+                    defendersLeft[index] = d;
+                    scaled[index++] = stop[a][d];
+                    total += stop[a][d];
+                }
+            }
+        }
+        // Scaled by the sum rather than by 1, which absorbs the rounding of the odds
+        final int[] small = new int[outcomes];
+        final int[] large = new int[outcomes];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < outcomes; i++) {
+            scaled[i] = scaled[i] * outcomes / total;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] += scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        while (largeSize > 0) {
+            threshold[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            threshold[small[--smallSize]] = 1;
+        }
+    }
+
+}
@@ -1,7 +1,5 @@
 package it.unibo.jurassiko.model.battle.impl;
 
-import java.util.List;
-
 import it.unibo.jurassiko.common.Pair;
 import it.unibo.jurassiko.model.battle.api.Battle;
 import it.unibo.jurassiko.model.dice.api.Dice;
@@ -12,7 +10,27 @@ import it.unibo.jurassiko.model.dice.impl.DiceImpl;
  */
 public class BattleImpl implements Battle {
 
-    private final Dice dice = new DiceImpl();
+    private static final int MAX_DICE = 3;
+
+    private final Dice dice;
+    private final int[] rollAttack = new int[MAX_DICE];
+    private final int[] rollDefence = new int[MAX_DICE];
+
+    /**
+     * Creates a battle rolling the given dice.
+     * 
+     * @param dice the dice
+     */
+    public BattleImpl(final Dice dice) {
+        this.dice = dice;
+    }
+
+    /**
+     * Creates a battle with randomly seeded dice.
+     */
+    public BattleImpl() {
+        this(new DiceImpl());
+    }
 
     /**
      * {@inheritDoc}
@@ -20,21 +38,27 @@ public class BattleImpl implements Battle {
     @Override
     public Pair<Integer, Integer> attack(final int nTroopsAttack, final int nTroopsDefence, final int nDiceAttack,
             final int nDiceDefence) {
-        final List<Integer> listRollAttack = dice.rollMultiple(nDiceAttack);
-        final List<Integer> listRollDefence = dice.rollMultiple(nDiceDefence);
+        final int nTroopsAttackDeath = rollAttackerLosses(nDiceAttack, nDiceDefence);
+        return new Pair<Integer, Integer>(nTroopsAttackDeath,
+                Math.min(nDiceAttack, nDiceDefence) - nTroopsAttackDeath);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rollAttackerLosses(final int nDiceAttack, final int nDiceDefence) {
+        dice.rollMultiple(rollAttack, nDiceAttack);
+        dice.rollMultiple(rollDefence, nDiceDefence);
         final int nDiceLower = Math.min(nDiceAttack, nDiceDefence);
 
         int nTroopsAttackDeath = 0;
-        int nTroopsDefenceDeath = 0;
-
         for (int i = 0; i < nDiceLower; i++) {
-            if (listRollDefence.get(i) >= listRollAttack.get(i)) {
+            if (rollDefence[i] >= rollAttack[i]) {
                 nTroopsAttackDeath++;
-            } else {
-                nTroopsDefenceDeath++;
             }
         }
-        return new Pair<Integer, Integer>(nTroopsAttackDeath, nTroopsDefenceDeath);
+        return nTroopsAttackDeath;
     }
 
     /**
@@ -0,0 +1,273 @@
+package it.unibo.jurassiko.model.battle.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import it.unibo.jurassiko.model.battle.api.AttackOdds;
+import it.unibo.jurassiko.model.battle.api.BattleOdds;
+
+/**
+ * Implementation of {@link BattleOdds}.
+ * The odds of a single roll are computed once, enumerating every combination
+ * of the dice. For every starting amount of dino, the probability of visiting
+ * each state (attackers, defenders) of an attack that never stops is computed
+ * by dynamic programming in time proportional to their product. The odds of
+ * the attacks stopping at any amount of attackers are derived from it in
+ * linear time, since such an attack follows the same states until it stops.
+ * Both are kept in bounded caches that discard the least recently used
+ * entries.
+ */
+public class BattleOddsImpl implements BattleOdds {
+
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final int DICE_FACES = 6;
+    private static final double[][][] ROLL_ODDS = computeRollOdds();
+
+    private final Map<OddsKey, AttackOdds> cache;
+    private final Map<StatesKey, double[][]> states;
+
+    /**
+     * Creates the odds engine with a cache of the given size.
+     * 
+     * @param cacheSize the maximum amount of attack odds to keep
+     */
+    public BattleOddsImpl(final int cacheSize) {
+        this.cache = createCache(cacheSize);
+        this.states = createCache(cacheSize);
+    }
+
+    /**
+     * Creates the odds engine with the default cache size.
+     */
+    public BattleOddsImpl() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getRollProbability(final int nDiceAttack, final int nDiceDefence, final int attackerLosses) {
+        if (nDiceAttack < 1 || nDiceAttack > MAX_DICE || nDiceDefence < 1 || nDiceDefence > MAX_DICE) {
+            throw new IllegalArgumentException("Invalid amount of dice");
+        }
+        final double[] odds = ROLL_ODDS[nDiceAttack][nDiceDefence];
+        return attackerLosses >= 0 && attackerLosses < odds.length ? odds[attackerLosses] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttackOdds getAttackOdds(final int attackers, final int defenders) {
+        return getAttackOdds(attackers, defenders, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttackOdds getAttackOdds(final int attackers, final int defenders, final int minAttackers) {
+        if (attackers < 1 || defenders < 1 || minAttackers < 1) {
+            throw new IllegalArgumentException("Invalid amount of dino");
+        }
+        final OddsKey key = new OddsKey(attackers, defenders, minAttackers);
+        synchronized (cache) {
+            final AttackOdds cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final AttackOdds odds = computeAttackOdds(attackers, defenders, minAttackers,
+                getStates(attackers, defenders));
+        synchronized (cache) {
+            cache.put(key, odds);
+        }
+        return odds;
+    }
+
+    /**
+     * Gets the probability of visiting every state of an attack that goes on
+     * until the defending territory is conquered or the attacking territory
+     * cannot attack anymore.
+     *
+     * @param attackers dino of the attacking territory
+     * @param defenders dino of the defending territory
+     * @return the probabilities indexed by attackers and then by defenders
+     */
+    private double[][] getStates(final int attackers, final int defenders) {
+        final StatesKey key = new StatesKey(attackers, defenders);
+        synchronized (states) {
+            final double[][] cached = states.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final double[][] visits = computeStates(attackers, defenders);
+        synchronized (states) {
+            states.put(key, visits);
+        }
+        return visits;
+    }
+
+    /**
+     * Propagates the probability of the starting state until every state is
+     * final. Every roll decreases the dino of at least one territory, so the
+     * states are visited in decreasing order of attackers and then of
+     * defenders.
+     *
+     * @param attackers dino of the attacking territory
+     * @param defenders dino of the defending territory
+     * @return the probability of visiting every state
+     */
+    private static double[][] computeStates(final int attackers, final int defenders) {
+        final double[][] visits = new double[attackers + 1][defenders + 1];
+        visits[attackers][defenders] = 1;
+        for (int a = attackers; a > 1; a--) {
+            for (int d = defenders; d > 0; d--) {
+                final double p = visits[a][d];
+                if (p == 0) {
+                    continue;
+                }
+                final double[] odds = ROLL_ODDS[Math.min(MAX_DICE, a - 1)][Math.min(MAX_DICE, d)];
+                final int compared = odds.length - 1;
+                for (int losses = 0; losses <= compared; losses++) {
+                    visits[a - losses][d - compared + losses] += p * odds[losses];
+                }
+            }
+        }
+        return visits;
+    }
+
+    /**
+     * Derives the odds of an attack that stops at the given amount of attackers.
+     * Until then it visits the same states of an attack that never stops, so the
+     * conquests with more attackers are the same, and the other final states are
+     * reached by the rolls of the few states with more attackers that can lose
+     * enough dino at once.
+     *
+     * @param attackers    dino of the attacking territory
+     * @param defenders    dino of the defending territory
+     * @param minAttackers the attack stops at this amount of dino or less
+     * @param visits       the probability of visiting every state of an attack
+     *                     that never stops
+     * @return the odds of the attack
+     */
+    private static AttackOdds computeAttackOdds(final int attackers, final int defenders, final int minAttackers,
+            final double[][] visits) {
+        final double[] conquest = new double[attackers + 1];
+        final double[][] stop = new double[Math.min(attackers, minAttackers) + 1][defenders + 1];
+        if (attackers <= minAttackers) {
+            stop[attackers][defenders] = 1;
+            return new AttackOddsImpl(attackers, defenders, conquest, stop);
+        }
+        for (int a = attackers; a > minAttackers; a--) {
+            conquest[a] = visits[a][0];
+        }
+        for (int a = minAttackers + 1; a <= Math.min(attackers, minAttackers + MAX_DICE); a++) {
+            for (int d = 1; d <= defenders; d++) {
+                final double p = visits[a][d];
+                if (p == 0) {
+                    continue;
+                }
+                final double[] odds = ROLL_ODDS[Math.min(MAX_DICE, a - 1)][Math.min(MAX_DICE, d)];
+                final int compared = odds.length - 1;
+                for (int losses = a - minAttackers; losses <= compared; losses++) {
+                    final int defendersLeft = d - compared + losses;
+                    if (defendersLeft == 0) {
+                        conquest[a - losses] += p * odds[losses];
+                    } else {
+                        stop[a - losses][defendersLeft] += p * odds[losses];
+                    }
+                }
+            }
+        }
+        return new AttackOddsImpl(attackers, defenders, conquest, stop);
+    }
+
+    /**
+     * Creates a cache that discards the least recently used entries.
+     *
+     * @param <K>       the type of the keys
+     * @param <V>       the type of the values
+     * @param cacheSize the maximum amount of entries to keep
+     * @return the cache
+     */
+    private static <K, V> Map<K, V> createCache(final int cacheSize) {
+        return new LinkedHashMap<>(cacheSize, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > cacheSize;
+            }
+
+        };
+    }
+
+    /**
+     * Enumerates every combination of the dice for every amount of dice.
+     * 
+     * @return the odds indexed by the dice of the attack, the dice of the
+     *         defence and the losses of the attack
+     */
+    private static double[][][] computeRollOdds() {
+        final double[][][] odds = new double[MAX_DICE + 1][MAX_DICE + 1][];
+        for (int nAttack = 1; nAttack <= MAX_DICE; nAttack++) {
+            for (int nDefence = 1; nDefence <= MAX_DICE; nDefence++) {
+                final int compared = Math.min(nAttack, nDefence);
+                final long[] count = new long[compared + 1];
+                final int combinations = (int) Math.pow(DICE_FACES, nAttack + nDefence);
+                final int[] attack = new int[nAttack];
+                final int[] defence = new int[nDefence];
+                for (int c = 0; c < combinations; c++) {
+                    int rest = c;
+                    for (int i = 0; i < nAttack; i++) {
+                        attack[i] = rest % DICE_FACES;
+                        rest /= DICE_FACES;
+                    }
+                    for (int i = 0; i < nDefence; i++) {
+                        defence[i] = rest % DICE_FACES;
+                        rest /= DICE_FACES;
+                    }
+                    Arrays.sort(attack);
+                    Arrays.sort(defence);
+                    int losses = 0;
+                    for (int i = 1; i <= compared; i++) {
+                        if (defence[nDefence - i] >= attack[nAttack - i]) {
+                            losses++;
+                        }
+                    }
+                    count[losses]++;
+                }
+                odds[nAttack][nDefence] = new double[compared + 1];
+                for (int losses = 0; losses <= compared; losses++) {
+                    odds[nAttack][nDefence][losses] = (double) count[losses] / combinations;
+                }
+            }
+        }
+        return odds;
+    }
+
+    /**
+     * Key of the cache of the attack odds.
+     * 
+     * @param attackers    dino of the attacking territory
+     * @param defenders    dino of the defending territory
+     * @param minAttackers the attack stops at this amount of dino or less
+     */
+    private record OddsKey(int attackers, int defenders, int minAttackers) {
+    }
+
+    /**
+     * Key of the cache of the states visited by the attacks.
+     *
+     * @param attackers dino of the attacking territory
+     * @param defenders dino of the defending territory
+     */
+    private record StatesKey(int attackers, int defenders) {
+    }
+
+}
@@ -0,0 +1,51 @@
+package it.unibo.jurassiko.model.board.api;
+
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Compact representation of the owner and the amount of dino of every
+ * territory of the board, which can be changed.
+ */
+public interface Board extends BoardView {
+
+    /**
+     * Sets the owner of a territory.
+     * 
+     * @param id    id of the territory
+     * @param color the color of the new owner
+     */
+    void setOwner(int id, GameColor color);
+
+    /**
+     * Sets the amount of dino in a territory.
+     * 
+     * @param id     id of the territory
+     * @param amount the new amount of dino
+     */
+    void setDino(int id, int amount);
+
+    /**
+     * Adds the specified amount of dino to a territory.
+     * 
+     * @param id     id of the territory
+     * @param amount amount of dino to add, negative to remove them
+     */
+    void addDino(int id, int amount);
+
+    /**
+     * Overwrites the content of this board with the content of another board of
+     * the same size, without allocating.
+     * 
+     * @param other the board to copy
+     * @throws IllegalArgumentException if the boards have different sizes
+     */
+    void copyFrom(Board other);
+
+    /**
+     * Creates an independent copy of the board.
+     * 
+     * @return the copy of the board
+     */
+    Board copy();
+
+}
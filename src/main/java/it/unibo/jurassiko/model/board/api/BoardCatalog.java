@@ -0,0 +1,52 @@
+package it.unibo.jurassiko.model.board.api;
+
+import java.util.List;
+import java.util.Set;
+
+import it.unibo.jurassiko.model.borders.api.Border;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
+import it.unibo.jurassiko.model.territory.api.ContinentBonus;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Immutable description of the board read from the configuration files:
+ * territories, oceans, continents, objectives and cards.
+ * A catalog can be shared by any number of games, so that a new game does not
+ * read any file.
+ */
+public interface BoardCatalog {
+
+    /**
+     * @return the registry of the territories and the oceans
+     */
+    TerritoryRegistry getRegistry();
+
+    /**
+     * @return the borders between the territories of the registry
+     */
+    Border getBorder();
+
+    /**
+     * @return the continents of the registry with their bonus
+     */
+    ContinentBonus getContinentBonus();
+
+    /**
+     * @return the objectives that can be assigned to the players
+     */
+    Set<Objective> getObjectives();
+
+    /**
+     * @return the objective of conquering territories without a minimum of dino,
+     *         which replaces the objective of destroying one's own army
+     */
+    ConquerTerritoriesObjective getDefaultObjective();
+
+    /**
+     * @return the cards of the deck, in the order they have been read
+     */
+    List<Card> getCards();
+
+}
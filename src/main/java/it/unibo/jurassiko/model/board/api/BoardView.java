@@ -0,0 +1,33 @@
+package it.unibo.jurassiko.model.board.api;
+
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Read-only access to the owner and the amount of dino of every territory of
+ * the board. Territories are identified by a dense id, going from 0 to
+ * {@link #size()} excluded.
+ */
+public interface BoardView {
+
+    /**
+     * @return the amount of territories on the board
+     */
+    int size();
+
+    /**
+     * Gets the owner of a territory.
+     * 
+     * @param id id of the territory
+     * @return the color of the owner
+     */
+    GameColor getOwner(int id);
+
+    /**
+     * Gets the amount of dino in a territory.
+     * 
+     * @param id id of the territory
+     * @return the amount of dino
+     */
+    int getDino(int id);
+
+}
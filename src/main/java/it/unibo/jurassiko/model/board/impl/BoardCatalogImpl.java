@@ -0,0 +1,139 @@
+package it.unibo.jurassiko.model.board.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.borders.api.Border;
+import it.unibo.jurassiko.model.borders.impl.BorderImpl;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
+import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
+import it.unibo.jurassiko.model.territory.api.Continent;
+import it.unibo.jurassiko.model.territory.api.ContinentBonus;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+import it.unibo.jurassiko.model.territory.impl.ContinentBonusImpl;
+import it.unibo.jurassiko.model.territory.impl.ContinentFactoryImpl;
+import it.unibo.jurassiko.model.territory.impl.OceanFactoryImpl;
+import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
+import it.unibo.jurassiko.model.territory.impl.TerritoryRegistryImpl;
+import it.unibo.jurassiko.reader.impl.DeckDataReader;
+
+/**
+ * Implementation of {@link BoardCatalog}.
+ * The catalog of the configuration files is read only once, the first time it
+ * is requested, and then shared by the whole application.
+ */
+public final class BoardCatalogImpl implements BoardCatalog {
+
+    private static final String DECK_PATH = "config/deck.json";
+
+    private final TerritoryRegistry registry;
+    private final Border border;
+    private final ContinentBonus continentBonus;
+    private final Set<Objective> objectives;
+    private final ConquerTerritoriesObjective defaultObjective;
+    private final List<Card> cards;
+
+    /**
+     * Creates a catalog from the given data.
+     * 
+     * @param territories the territories of the board
+     * @param oceans      the oceans of the board
+     * @param continents  the continents of the territories
+     * @param objectives  the objectives of the players
+     * @param cards       the cards of the deck
+     * @throws IllegalArgumentException if no objective is about conquering
+     *                                  territories without a minimum of dino
+     */
+    public BoardCatalogImpl(final Collection<Territory> territories,
+            final Collection<Ocean> oceans,
+            final Collection<Continent> continents,
+            final Collection<Objective> objectives,
+            final List<Card> cards) {
+        this.registry = new TerritoryRegistryImpl(territories, oceans);
+        this.border = new BorderImpl(this.registry);
+        this.continentBonus = new ContinentBonusImpl(this.registry, continents);
+        this.objectives = Set.copyOf(objectives);
+        this.defaultObjective = ConquerTerritoriesObjective.findDefault(this.objectives)
+                .orElseThrow(() -> new IllegalArgumentException("Missing the objective of conquering territories"));
+        this.cards = List.copyOf(cards);
+    }
+
+    /**
+     * Gets the catalog of the configuration files.
+     * 
+     * @return the shared catalog
+     */
+    public static BoardCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TerritoryRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Border getBorder() {
+        return border;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ContinentBonus getContinentBonus() {
+        return continentBonus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Objective> getObjectives() {
+        return objectives;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConquerTerritoriesObjective getDefaultObjective() {
+        return defaultObjective;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    /**
+     * Lazily reads the configuration files, the class loader guarantees that it
+     * happens only once.
+     */
+    private static final class DefaultHolder {
+
+        private static final BoardCatalog INSTANCE = new BoardCatalogImpl(
+                new TerritoryFactoryImpl().createTerritories(),
+                new OceanFactoryImpl().createOceans(),
+                new ContinentFactoryImpl().createContinents(),
+                new ObjectiveFactoryImpl().createObjectives(),
+                new DeckDataReader().readFileData(DECK_PATH));
+
+    }
+
+}
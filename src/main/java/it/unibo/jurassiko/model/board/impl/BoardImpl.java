@@ -0,0 +1,116 @@
+package it.unibo.jurassiko.model.board.impl;
+
+import java.util.Arrays;
+
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Implementation of {@link Board} using parallel arrays for the owners and the
+ * amount of dino, so reads and writes never allocate.
+ */
+public final class BoardImpl implements Board {
+
+    private static final GameColor[] COLORS = GameColor.values();
+
+    private final byte[] owners;
+    private final int[] dino;
+
+    /**
+     * Creates a board of the given size, where every territory is owned by
+     * {@link GameColor#DEFAULT} and has no dino.
+     * 
+     * @param size the amount of territories
+     */
+    public BoardImpl(final int size) {
+        this.owners = new byte[size];
+        this.dino = new int[size];
+        Arrays.fill(this.owners, (byte) GameColor.DEFAULT.ordinal());
+    }
+
+    /**
+     * Constructor used to create a copy of a board.
+     * 
+     * @param other the board to copy
+     */
+    public BoardImpl(final Board other) {
+        this(other.size());
+        copyFrom(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return owners.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameColor getOwner(final int id) {
+        return COLORS[owners[id]];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setOwner(final int id, final GameColor color) {
+        owners[id] = (byte) color.ordinal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDino(final int id) {
+        return dino[id];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDino(final int id, final int amount) {
+        dino[id] = amount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addDino(final int id, final int amount) {
+        dino[id] += amount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copyFrom(final Board other) {
+        if (other.size() != size()) {
+            throw new IllegalArgumentException("Cannot copy a board of a different size");
+        }
+        if (other instanceof BoardImpl impl) {
+            System.arraycopy(impl.owners, 0, owners, 0, owners.length);
+            System.arraycopy(impl.dino, 0, dino, 0, dino.length);
+            return;
+        }
+        for (int id = 0; id < size(); id++) {
+            setOwner(id, other.getOwner(id));
+            setDino(id, other.getDino(id));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board copy() {
+        return new BoardImpl(this);
+    }
+
+}
@@ -7,9 +7,17 @@ import it.unibo.jurassiko.model.territory.api.Territory;
 
 /**
  * Interface of BorderImpl class.
+ * The id based methods work on sets of territories represented as bitmasks,
+ * where the bit in position i is set if the territory with id i of the
+ * registry is in the set.
  */
 public interface Border {
 
+    /**
+     * The ocean id to use when no ocean has been selected.
+     */
+    int NO_OCEAN = -1;
+
     /**
      * Get a Set of String, territory Name, that is Adj to the input terr.
      * 
@@ -18,4 +26,34 @@ public interface Border {
      * @return a Set of String containg the name of the territory thats Adj to terr
      */
     Set<String> getTerritoriesBorder(Territory terr, Ocean ocean);
+
+    /**
+     * Gets the territories adjacent to a territory, the territory itself
+     * excluded.
+     * 
+     * @param territoryId id of the territory
+     * @param oceanId     id of the selected ocean, or {@link #NO_OCEAN}
+     * @return the bitmask of the adjacent territories
+     */
+    long getNeighbours(int territoryId, int oceanId);
+
+    /**
+     * Gets all the territories adjacent to at least one territory of a set.
+     * The result can contain territories of the set itself.
+     * 
+     * @param territories bitmask of the territories
+     * @param oceanId     id of the selected ocean, or {@link #NO_OCEAN}
+     * @return the bitmask of the adjacent territories
+     */
+    long getNeighboursOf(long territories, int oceanId);
+
+    /**
+     * Checks if two territories are adjacent.
+     * 
+     * @param first   id of the first territory
+     * @param second  id of the second territory
+     * @param oceanId id of the selected ocean, or {@link #NO_OCEAN}
+     * @return true if the territories are adjacent, false otherwise
+     */
+    boolean isAdjacent(int first, int second, int oceanId);
 }
@@ -3,15 +3,65 @@ package it.unibo.jurassiko.model.borders.impl;
 import java.util.HashSet;
 import java.util.Set;
 
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.borders.api.Border;
 import it.unibo.jurassiko.model.territory.api.Ocean;
 import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
 
 /**
  * Implementation of the interface {@link Border}.
+ * The adjacency of every territory is precomputed for every ocean state, so
+ * that the id based queries do not allocate.
  */
 public class BorderImpl implements Border {
 
+    private final long[][] adjacency;
+
+    /**
+     * Precomputes the adjacency of the areas of the given registry.
+     * 
+     * @param registry the registry of the territories and the oceans
+     * @throws IllegalArgumentException if there are more territories than the
+     *                                  bits of a long, or if a neighbour is not
+     *                                  a territory of the registry
+     */
+    public BorderImpl(final TerritoryRegistry registry) {
+        if (registry.getTerritoryCount() > Long.SIZE) {
+            throw new IllegalArgumentException("Too many territories");
+        }
+        final long[] base = new long[registry.getTerritoryCount()];
+        for (int id = 0; id < base.length; id++) {
+            for (final var name : registry.getTerritory(id).getNeighbours()) {
+                final int neighbour = registry.getTerritoryId(name);
+                base[id] |= 1L << neighbour;
+                base[neighbour] |= 1L << id;
+            }
+        }
+        this.adjacency = new long[registry.getOceanCount() + 1][];
+        this.adjacency[0] = base;
+        for (int oceanId = 0; oceanId < registry.getOceanCount(); oceanId++) {
+            long coast = 0;
+            for (final var name : registry.getOcean(oceanId).getAdjTerritories()) {
+                coast |= 1L << registry.getTerritoryId(name);
+            }
+            final long[] withOcean = base.clone();
+            for (int id = 0; id < withOcean.length; id++) {
+                if ((coast & 1L << id) != 0) {
+                    withOcean[id] |= coast & ~(1L << id);
+                }
+            }
+            this.adjacency[oceanId + 1] = withOcean;
+        }
+    }
+
+    /**
+     * Precomputes the adjacency of the areas of the shared board catalog.
+     */
+    public BorderImpl() {
+        this(BoardCatalogImpl.getDefault().getRegistry());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -25,4 +75,33 @@ public class BorderImpl implements Border {
         }
         return terr.getNeighbours();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNeighbours(final int territoryId, final int oceanId) {
+        return adjacency[oceanId + 1][territoryId];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNeighboursOf(final long territories, final int oceanId) {
+        final long[] row = adjacency[oceanId + 1];
+        long result = 0;
+        for (long set = territories; set != 0; set &= set - 1) {
+            result |= row[Long.numberOfTrailingZeros(set)];
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAdjacent(final int first, final int second, final int oceanId) {
+        return (adjacency[oceanId + 1][first] & 1L << second) != 0;
+    }
 }
@@ -0,0 +1,64 @@
+package it.unibo.jurassiko.model.card.api;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents the deck of cards shared by the players of a game.
+ */
+public interface Deck {
+
+    /**
+     * The content of a deck. It is immutable, so saving it never copies the
+     * cards.
+     *
+     * @param cards the cards, immutable, including the ones already drawn
+     * @param next  the index of the card on top of the deck
+     */
+    record State(List<Card> cards, int next) {
+    }
+
+    /**
+     * Draws the card on top of the deck, removing it.
+     * 
+     * @return an Optional containing the drawn card, or an empty Optional if the
+     *         deck is empty
+     */
+    Optional<Card> draw();
+
+    /**
+     * Adds a card to the bottom of the deck.
+     * 
+     * @param card the card to add
+     */
+    void addCard(Card card);
+
+    /**
+     * Retrieves the card at the specified index in the deck, if present.
+     * 
+     * @param index the index of the card to retrieve
+     * @return an Optional containing the card at the specified index, or an empty
+     *         Optional if the index is out of range
+     */
+    Optional<Card> getCard(int index);
+
+    /**
+     * @return the amount of cards in the deck
+     */
+    int size();
+
+    /**
+     * Gets the current content of the deck, in constant time.
+     *
+     * @return the state of the deck
+     */
+    State getState();
+
+    /**
+     * Restores a state previously returned by {@link #getState()}.
+     *
+     * @param state the state to restore
+     */
+    void setState(State state);
+
+}
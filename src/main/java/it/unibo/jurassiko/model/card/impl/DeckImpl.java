@@ -0,0 +1,88 @@
+package it.unibo.jurassiko.model.card.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.card.api.Deck;
+
+/**
+ * Implementation of the {@link Deck} interface backed by an immutable list of
+ * cards and the index of the top card. Drawing only moves the index, adding a
+ * card replaces the list, so a state can share the list with the deck.
+ */
+public class DeckImpl implements Deck {
+
+    private List<Card> cards;
+    private int next;
+
+    /**
+     * Creates a deck containing the given cards, in the same order.
+     * 
+     * @param cards the initial cards of the deck
+     */
+    public DeckImpl(final List<Card> cards) {
+        this.cards = List.copyOf(cards);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> draw() {
+        return size() == 0 ? Optional.empty() : Optional.of(this.cards.get(next++));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCard(final Card card) {
+        final List<Card> newCards = new ArrayList<>(this.cards.subList(next, this.cards.size()));
+        newCards.add(Objects.requireNonNull(card));
+        this.cards = List.copyOf(newCards);
+        this.next = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> getCard(final int index) {
+        if (index >= 0 && index < size()) {
+            return Optional.of(this.cards.get(next + index));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.cards.size() - next;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public State getState() {
+        return new State(cards, next);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setState(final State state) {
+        if (state.next() < 0 || state.next() > state.cards().size()) {
+            throw new IllegalArgumentException("Invalid state of the deck");
+        }
+        this.cards = List.copyOf(state.cards());
+        this.next = state.next();
+    }
+
+}
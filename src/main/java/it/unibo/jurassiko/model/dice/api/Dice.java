@@ -21,4 +21,15 @@ public interface Dice {
      * @return a list of integers
      */
     List<Integer> rollMultiple(int amount);
+
+    /**
+     * Rolls the dice for 'amount' of times without allocating, writing the
+     * results in the first 'amount' positions of the array sorted in
+     * descending order.
+     * 
+     * @param results the array to fill
+     * @param amount  is the amount of rolls
+     * @throws IllegalArgumentException if the array is shorter than the amount
+     */
+    void rollMultiple(int[] results, int amount);
 }
@@ -1,19 +1,40 @@
 package it.unibo.jurassiko.model.dice.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import it.unibo.jurassiko.model.dice.api.Dice;
 
 /**
  * Implementation of {@link Dice} interface.
+ * Up to three dice, the amount rolled in a battle, are sorted with a fixed
+ * sorting network.
  */
 public class DiceImpl implements Dice {
 
     private static final int DICE_FACES = 6;
-    private final Random random = new Random(System.currentTimeMillis());
+    private static final int NETWORK_SIZE = 3;
+    private final RandomGenerator random;
+
+    /**
+     * Creates the dice using the given generator, which is not shared with
+     * other threads by the dice.
+     * 
+     * @param random the random number generator
+     */
+    public DiceImpl(final RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates the dice with a randomly seeded generator.
+     */
+    public DiceImpl() {
+        this(new SplittableRandom());
+    }
 
     /**
      * {@inheritDoc}
@@ -28,11 +49,50 @@ public class DiceImpl implements Dice {
      */
     @Override
     public List<Integer> rollMultiple(final int amount) {
-        return IntStream.range(0, amount)
-                .mapToObj(e -> roll())
-                .sorted((o1, o2) -> o2 - o1)
-                .collect(Collectors.toList());
+        final int[] results = new int[amount];
+        rollMultiple(results, amount);
+        final List<Integer> list = new ArrayList<>(amount);
+        for (final int result : results) {
+            list.add(result);
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollMultiple(final int[] results, final int amount) {
+        if (amount > results.length) {
+            throw new IllegalArgumentException("The array is shorter than the amount of rolls");
+        }
+        for (int i = 0; i < amount; i++) {
+            results[i] = roll();
+        }
+        if (amount > NETWORK_SIZE) {
+            Arrays.sort(results, 0, amount);
+            for (int i = 0, j = amount - 1; i < j; i++, j--) {
+                swap(results, i, j);
+            }
+        } else if (amount == NETWORK_SIZE) {
+            compareAndSwap(results, 0, 1);
+            compareAndSwap(results, 1, 2);
+            compareAndSwap(results, 0, 1);
+        } else if (amount == 2) {
+            compareAndSwap(results, 0, 1);
+        }
+    }
+
+    private static void compareAndSwap(final int[] array, final int i, final int j) {
+        if (array[i] < array[j]) {
+            swap(array, i, j);
+        }
+    }
 
+    private static void swap(final int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
     }
 
 }
@@ -9,7 +9,8 @@ import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
 import it.unibo.jurassiko.model.objective.impl.DestroyArmyObjective;
 
 /**
- * Interface for game objectives.
+ * Interface for game objectives. Objectives are immutable, so they are shared
+ * by every game and player without copying them.
  */
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
 @JsonSubTypes({
@@ -25,21 +26,17 @@ public interface Objective {
     String getType();
 
     /**
-     * Processes the description of the objective using data parsed from the
-     * configuration file.
-     */
-    void writeDescription();
-
-    /**
-     * @return the description of the objective
+     * @return the description of the objective, computed when it is created
      */
     String getDescription();
 
     /**
-     * Creates a copy of the objective using object serialization.
+     * Applies the operation matching the kind of this objective.
      * 
-     * @return a clone of the objective
+     * @param <R>     the type of the result of the operation
+     * @param visitor the operation
+     * @return the result of the operation
      */
-    Objective getClone();
+    <R> R accept(ObjectiveVisitor<R> visitor);
 
 }
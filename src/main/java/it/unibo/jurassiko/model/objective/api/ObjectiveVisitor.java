@@ -0,0 +1,33 @@
+package it.unibo.jurassiko.model.objective.api;
+
+import it.unibo.jurassiko.model.objective.impl.ConquerContinentsObjective;
+import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
+import it.unibo.jurassiko.model.objective.impl.DestroyArmyObjective;
+
+/**
+ * Operation depending on the kind of an objective, dispatched by
+ * {@link Objective#accept(ObjectiveVisitor)} without checking its type.
+ *
+ * @param <R> the type of the result of the operation
+ */
+public interface ObjectiveVisitor<R> {
+
+    /**
+     * @param objective an objective based on conquest of continents
+     * @return the result of the operation
+     */
+    R visit(ConquerContinentsObjective objective);
+
+    /**
+     * @param objective an objective based on conquest of a number of territories
+     * @return the result of the operation
+     */
+    R visit(ConquerTerritoriesObjective objective);
+
+    /**
+     * @param objective an objective based on destroying an enemy army
+     * @return the result of the operation
+     */
+    R visit(DestroyArmyObjective objective);
+
+}
@@ -1,21 +1,44 @@
 package it.unibo.jurassiko.model.objective.impl;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
+
 /**
  * Implementation of objectives based on conquest of continents.
  */
-public class ConquerContinentsObjective extends AbstractObjective {
+public final class ConquerContinentsObjective implements Objective {
 
-    private static final long serialVersionUID = -2525216873039367492L;
     private static final String TYPE = "conquerContinents";
 
-    @JsonProperty("value")
-    private Set<String> continents;
-    @JsonProperty("selectable")
-    private boolean selectableContinent;
+    private final Set<String> continents;
+    private final boolean selectableContinent;
+    private final String description;
+
+    /**
+     * Creates an objective, also used by Jackson JSON parser.
+     * 
+     * @param continents          the continents to conquer
+     * @param selectableContinent true if any additional continent must be
+     *                            conquered
+     */
+    @JsonCreator
+    public ConquerContinentsObjective(@JsonProperty("value") final Collection<String> continents,
+            @JsonProperty("selectable") final boolean selectableContinent) {
+        // Keeps the order of the configuration file, so the description never changes
+        this.continents = Collections.unmodifiableSet(new LinkedHashSet<>(Objects.requireNonNull(continents)));
+        this.selectableContinent = selectableContinent;
+        this.description = "Conquista interamente i seguenti continenti: " + String.join(", ", this.continents)
+                + (selectableContinent ? " e un continente a scelta." : ".");
+    }
 
     /**
      * {@inheritDoc}
@@ -26,10 +49,10 @@ public class ConquerContinentsObjective extends AbstractObjective {
     }
 
     /**
-     * @return a copy of the continents to conquer
+     * @return the continents to conquer, unmodifiable
      */
     public Set<String> getContinents() {
-        return Set.copyOf(continents);
+        return continents;
     }
 
     /**
@@ -45,10 +68,33 @@ public class ConquerContinentsObjective extends AbstractObjective {
      * {@inheritDoc}
      */
     @Override
-    public void writeDescription() {
-        String result = "Conquista interamente i seguenti continenti: " + String.join(", ", this.continents);
-        result = result.concat(selectableContinent ? " e un continente a scelta." : ".");
-        setDescription(result);
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R accept(final ObjectiveVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ConquerContinentsObjective other
+                && continents.equals(other.continents) && selectableContinent == other.selectableContinent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(continents, selectableContinent);
     }
 
 }
@@ -1,18 +1,57 @@
 package it.unibo.jurassiko.model.objective.impl;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
+
 /**
  * Implementation of objectives based on conquest of a number of territories.
  */
-public class ConquerTerritoriesObjective extends AbstractObjective {
+public final class ConquerTerritoriesObjective implements Objective {
 
-    private static final long serialVersionUID = 4319485590237283359L;
     private static final String TYPE = "conquerTerritories";
 
-    @JsonProperty("value")
-    private int numTerritories;
-    private int minDinos;
+    private final int numTerritories;
+    private final int minDinos;
+    private final String description;
+
+    /**
+     * Creates an objective, also used by Jackson JSON parser.
+     * 
+     * @param numTerritories the amount of territories to conquer
+     * @param minDinos       the amount of dinos each territory must have (0 if
+     *                       there is no such restriction)
+     */
+    @JsonCreator
+    public ConquerTerritoriesObjective(@JsonProperty("value") final int numTerritories,
+            @JsonProperty("minDinos") final int minDinos) {
+        this.numTerritories = numTerritories;
+        this.minDinos = minDinos;
+        this.description = "Conquista " + numTerritories + " territori"
+                + (minDinos > 1 ? " con almeno " + minDinos + " Dino ciascuno" : "") + ".";
+    }
+
+    /**
+     * Finds the objective replacing the one of destroying one's own army: the
+     * conquest of the most territories without a minimum of dino.
+     * 
+     * @param objectives the objectives of the game
+     * @return the default objective, if any
+     */
+    public static Optional<ConquerTerritoriesObjective> findDefault(final Collection<Objective> objectives) {
+        return objectives.stream()
+                .filter(ConquerTerritoriesObjective.class::isInstance)
+                .map(ConquerTerritoriesObjective.class::cast)
+                .filter(o -> o.getMinDinos() == 0)
+                .max(Comparator.comparingInt(ConquerTerritoriesObjective::getNumTerritories));
+    }
 
     /**
      * {@inheritDoc}
@@ -25,7 +64,7 @@ public class ConquerTerritoriesObjective extends AbstractObjective {
     /**
      * @return the amount of territories to conquer
      */
-    public final int getNumTerritories() {
+    public int getNumTerritories() {
         return numTerritories;
     }
 
@@ -41,14 +80,33 @@ public class ConquerTerritoriesObjective extends AbstractObjective {
      * {@inheritDoc}
      */
     @Override
-    public void writeDescription() {
-        String result = "Conquista " + this.numTerritories + " territori";
-        if (this.minDinos > 1) {
-            result = result.concat(" con almeno " + this.minDinos + " Dino ciascuno");
-        }
-        result = result.concat(".");
-
-        setDescription(result);
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R accept(final ObjectiveVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ConquerTerritoriesObjective other
+                && numTerritories == other.numTerritories && minDinos == other.minDinos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(numTerritories, minDinos);
     }
 
 }
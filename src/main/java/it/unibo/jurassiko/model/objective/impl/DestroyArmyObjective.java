@@ -1,20 +1,63 @@
 package it.unibo.jurassiko.model.objective.impl;
 
 import java.util.Locale;
+import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
 
 /**
  * Implementation of objectives based on destroying an enemy army.
  */
-public class DestroyArmyObjective extends AbstractObjective {
+public final class DestroyArmyObjective implements Objective {
 
-    private static final long serialVersionUID = -598498354779098964L;
     private static final String TYPE = "destroyArmy";
-    @JsonProperty("value")
-    private String armyColor;
+
+    private final GameColor armyColor;
+    private final String description;
+
+    /**
+     * Creates an objective, described without the objective that replaces it for
+     * the player owning the army.
+     * 
+     * @param armyColor the color of the army to destroy
+     */
+    public DestroyArmyObjective(final GameColor armyColor) {
+        this.armyColor = Objects.requireNonNull(armyColor);
+        this.description = "Distruggi l'armata di colore " + colorToString(armyColor) + ".";
+    }
+
+    /**
+     * Creates an objective.
+     * 
+     * @param armyColor the color of the army to destroy
+     * @param fallback  the objective of the player owning the army
+     */
+    public DestroyArmyObjective(final GameColor armyColor, final ConquerTerritoriesObjective fallback) {
+        this.armyColor = Objects.requireNonNull(armyColor);
+        this.description = "Distruggi l'armata di colore "
+                + colorToString(armyColor)
+                + ". In caso di armata non nemica, "
+                + fallback.getDescription().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates an objective from the name of the color, used by Jackson JSON
+     * parser. Its description is completed by {@link #withFallback}, once the
+     * other objectives are known.
+     * 
+     * @param armyColor the name of the color of the army to destroy
+     * @return the objective
+     * @throws IllegalArgumentException if the color is not valid
+     */
+    @JsonCreator
+    public static DestroyArmyObjective fromColorName(@JsonProperty("value") final String armyColor) {
+        return new DestroyArmyObjective(GameColor.valueOf(armyColor.toUpperCase(Locale.ROOT)));
+    }
 
     /**
      * {@inheritDoc}
@@ -24,28 +67,53 @@ public class DestroyArmyObjective extends AbstractObjective {
         return TYPE;
     }
 
+    /**
+     * Describes the objective of the player owning the army.
+     * 
+     * @param fallback the objective of the player owning the army
+     * @return an equal objective with the complete description
+     */
+    public DestroyArmyObjective withFallback(final ConquerTerritoriesObjective fallback) {
+        return new DestroyArmyObjective(armyColor, fallback);
+    }
+
     /**
      * @return the color of the army to destroy
      */
     public GameColor getArmyColor() {
-        try {
-            return GameColor.valueOf(this.armyColor.toUpperCase(Locale.ROOT));
-        } catch (final IllegalArgumentException e) {
-            throw new IllegalStateException("Invalid army color", e);
-        }
+        return armyColor;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void writeDescription() {
-        final String description = "Distruggi l'armata di colore "
-                + colorToString(getArmyColor())
-                + ". In caso di armata non nemica, "
-                + super.getDefaultObjectiveDescription().toLowerCase(Locale.ROOT);
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R accept(final ObjectiveVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
 
-        setDescription(description);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof DestroyArmyObjective other && armyColor == other.armyColor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return armyColor.hashCode();
     }
 
     /**
@@ -55,7 +123,7 @@ public class DestroyArmyObjective extends AbstractObjective {
      * @param color the color to transform
      * @return the translation in Italian of the color
      */
-    private String colorToString(final GameColor color) {
+    private static String colorToString(final GameColor color) {
         return switch (color) {
             case RED -> "ROSSO";
             case BLUE -> "BLU";
@@ -2,6 +2,7 @@ package it.unibo.jurassiko.model.objective.impl;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import it.unibo.jurassiko.model.objective.api.Objective;
 import it.unibo.jurassiko.model.objective.api.ObjectiveFactory;
@@ -21,19 +22,11 @@ public class ObjectiveFactoryImpl implements ObjectiveFactory {
     public Set<Objective> createObjectives() {
         final var objectiveReader = new BoardDataReader<>(Objective.class);
         final Set<Objective> objectives = objectiveReader.readFileData(PATH);
-        writeDescriptions(objectives);
-        return new HashSet<>(objectives);
-    }
-
-    /**
-     * Sets the description on each objective.
-     * 
-     * @param objectives the set containing the objectives
-     */
-    private void writeDescriptions(final Set<Objective> objectives) {
-        for (final var objective : objectives) {
-            objective.writeDescription();
-        }
+        final var fallback = ConquerTerritoriesObjective.findDefault(objectives)
+                .orElseThrow(() -> new IllegalStateException("Missing the objective of conquering territories"));
+        return objectives.stream()
+                .map(o -> o instanceof DestroyArmyObjective army ? army.withFallback(fallback) : o)
+                .collect(Collectors.toCollection(HashSet::new));
     }
 
 }
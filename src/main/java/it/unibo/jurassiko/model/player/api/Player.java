@@ -1,11 +1,12 @@
 package it.unibo.jurassiko.model.player.api;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import it.unibo.jurassiko.controller.api.MainController;
 import it.unibo.jurassiko.model.card.api.Card;
 import it.unibo.jurassiko.model.card.api.Card.CardType;
+import it.unibo.jurassiko.model.card.api.Deck;
 import it.unibo.jurassiko.model.objective.api.Objective;
 import it.unibo.jurassiko.model.territory.api.Territory;
 
@@ -106,12 +107,37 @@ public interface Player {
     int getBonusWaterDino();
 
     /**
-     * Get a copy of the player.
+     * The state of a player that changes during a game. It is immutable, so
+     * saving it never copies the state.
+     *
+     * @param territories the bitmask of the ids of the owned territories
+     * @param cards       the cards of the player, immutable
+     * @param assigned    true if a card has been assigned during the turn
+     */
+    record State(long territories, List<Card> cards, boolean assigned) {
+    }
+
+    /**
+     * Gets the current state of the player, in constant time.
+     *
+     * @return the state of the player
+     */
+    State getState();
+
+    /**
+     * Restores a state previously returned by {@link #getState()}.
+     *
+     * @param state the state to restore
+     */
+    void setState(State state);
+
+    /**
+     * Get a copy of the player, which can be changed without affecting this
+     * player.
      * 
      * @return the copy of the player
-     * @throws CloneNotSupportedException
      */
-    Player getPlayer() throws CloneNotSupportedException;
+    Player getPlayer();
 
     /**
      * Calculates the combination score with a destination deck based on a set of
@@ -122,7 +148,7 @@ public interface Player {
      * @param territories     the set of territories to consider for the bonus
      * @return the combination score
      */
-    int combination(MainController destinationDeck, Set<Territory> territories);
+    int combination(Deck destinationDeck, Set<Territory> territories);
 
         /**
      * @return a map containing the count of each card type in the deck
@@ -1,31 +1,28 @@
 package it.unibo.jurassiko.model.player.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import it.unibo.jurassiko.common.Pair;
-import it.unibo.jurassiko.controller.api.MainController;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.card.api.Card;
 import it.unibo.jurassiko.model.card.api.Card.CardType;
+import it.unibo.jurassiko.model.card.api.Deck;
 import it.unibo.jurassiko.model.objective.api.Objective;
 import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.territory.api.ContinentBonus;
 import it.unibo.jurassiko.model.territory.api.Territory;
-import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
 
 /**
  * Implementation of the interface {@link Player}.
  */
-public class PlayerImpl implements Player, Cloneable {
+public class PlayerImpl implements Player {
 
     private static final int MIN_CARDS_FOR_COMBINATION = 3;
     private static final int RESULT_COMBINATION_WITH_TREE_DIFFERENT = 5;
@@ -34,16 +31,13 @@ public class PlayerImpl implements Player, Cloneable {
     private static final int COMBINATION_WITH_TREE_DIFFERENT = 1;
     private static final int MIN_JOLLY = 1;
     private static final int COMBINATION_WITH_JOLLY = 2;
-    private final Logger logger = LoggerFactory.getLogger(PlayerImpl.class);
     private final GameColor color;
     private final Objective objective;
-    private final Set<Territory> territories;
-    private final List<Card> deck;
-    private final Set<Territory> totalTerritories = new TerritoryFactoryImpl().createTerritories();
-    private static final Pair<String, Integer> NORD_AMERICA = new Pair<>("Nord America", 3);
-    private static final Pair<String, Integer> GONDWANA_OCCIDENTALE = new Pair<>("Gondwana Occidentale", 5);
-    private static final Pair<String, Integer> GONDWANA_ORIENTALE = new Pair<>("Gondwana Orientale", 3);
-    private static final Pair<String, Integer> EUROASIA = new Pair<>("Eurasia", 6);
+    private long territoryMask;
+    // Never changed in place, so a state can share it
+    private List<Card> deck;
+    private final TerritoryRegistry registry;
+    private final ContinentBonus continentBonus;
     private final Map<CardType, Integer> typeMap;
     private boolean assigned;
 
@@ -53,16 +47,49 @@ public class PlayerImpl implements Player, Cloneable {
      * @param color       player's color
      * @param objective   player's objective
      * @param territories player's owned territories
+     * @param catalog     the catalog of the board
      */
     public PlayerImpl(final GameColor color,
             final Objective objective,
-            final Set<Territory> territories) {
+            final Set<Territory> territories,
+            final BoardCatalog catalog) {
+        this.registry = catalog.getRegistry();
+        this.continentBonus = catalog.getContinentBonus();
         this.color = color;
-        Objects.requireNonNull(objective);
-        this.objective = objective.getClone();
-        this.territories = new HashSet<>(Objects.requireNonNull(territories));
-        this.typeMap = new HashMap<>();
-        this.deck = new ArrayList<>();
+        this.objective = Objects.requireNonNull(objective);
+        this.territoryMask = toMask(Objects.requireNonNull(territories));
+        this.typeMap = new EnumMap<>(CardType.class);
+        this.deck = List.of();
+    }
+
+    /**
+     * Constructor used to create a copy of a player, sharing nothing that can
+     * change with the original.
+     * 
+     * @param other the player to copy
+     */
+    private PlayerImpl(final PlayerImpl other) {
+        this.registry = other.registry;
+        this.continentBonus = other.continentBonus;
+        this.color = other.color;
+        this.objective = other.objective;
+        this.territoryMask = other.territoryMask;
+        this.typeMap = new EnumMap<>(other.typeMap);
+        this.deck = other.deck;
+        this.assigned = other.assigned;
+    }
+
+    /**
+     * Constructor for the player on the board of the configuration files.
+     * 
+     * @param color       player's color
+     * @param objective   player's objective
+     * @param territories player's owned territories
+     */
+    public PlayerImpl(final GameColor color,
+            final Objective objective,
+            final Set<Territory> territories) {
+        this(color, objective, territories, BoardCatalogImpl.getDefault());
     }
 
     /**
@@ -78,7 +105,7 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public Objective getObjective() {
-        return objective.getClone();
+        return objective;
     }
 
     /**
@@ -86,7 +113,7 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public void addPlayerTerritory(final Territory territory) {
-        territories.add(territory);
+        territoryMask |= 1L << registry.getTerritoryId(territory.getName());
     }
 
     /**
@@ -94,9 +121,7 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public void removePlayerTerritory(final Territory territory) {
-        if (territories.contains(territory)) {
-            territories.remove(territory);
-        }
+        registry.findTerritoryId(territory.getName()).ifPresent(id -> territoryMask &= ~(1L << id));
     }
 
     /**
@@ -104,6 +129,10 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public Set<Territory> getOwnedTerritories() {
+        final Set<Territory> territories = new HashSet<>();
+        for (long set = territoryMask; set != 0; set &= set - 1) {
+            territories.add(registry.getTerritory(Long.numberOfTrailingZeros(set)));
+        }
         return Set.copyOf(territories);
     }
 
@@ -112,52 +141,37 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public int getBonusGroundDino() {
-        int result = 0;
-        result += bonusContinent(
-                new Pair<Set<Territory>, Integer>(getContinent(NORD_AMERICA.x()), NORD_AMERICA.y()));
-        result += bonusContinent(
-                new Pair<Set<Territory>, Integer>(getContinent(GONDWANA_OCCIDENTALE.x()), GONDWANA_OCCIDENTALE.y()));
-        result += bonusContinent(
-                new Pair<Set<Territory>, Integer>(getContinent(GONDWANA_ORIENTALE.x()), GONDWANA_ORIENTALE.y()));
-        result += bonusContinent(
-                new Pair<Set<Territory>, Integer>(getContinent(EUROASIA.x()), EUROASIA.y()));
-        return territories.size() / 2 + result;
+        return Long.bitCount(territoryMask) / 2 + continentBonus.getBonus(territoryMask);
     }
 
     /**
-     * Used to check if the player has all the territory of a certain continent.
-     * 
-     * @param pair Pair of a Set or Territory and integer
-     * @return the value of the bonus ground dino based on the continent you have
+     * {@inheritDoc}
      */
-    private int bonusContinent(final Pair<Set<Territory>, Integer> pair) {
-        int result = 0;
-        final Set<String> temp = territories.stream().map(t -> t.getName().toLowerCase(Locale.ROOT))
-                .collect(Collectors.toSet());
-        if (temp.containsAll(pair.x().stream()
-                .map(t -> t.getName().toLowerCase(Locale.ROOT))
-                .collect(Collectors.toSet()))) {
-            result = result + pair.y();
-        }
-        return result;
+    @Override
+    public int getBonusWaterDino() {
+        return 1;
     }
 
     /**
-     * @param name name of the continent
-     * @return Set of the territory with the same continent name
+     * {@inheritDoc}
      */
-    private Set<Territory> getContinent(final String name) {
-        return totalTerritories.stream()
-                .filter(e -> e.getContinent().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT)))
-                .collect(Collectors.toSet());
+    @Override
+    public State getState() {
+        return new State(territoryMask, deck, assigned);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int getBonusWaterDino() {
-        return 1;
+    public void setState(final State state) {
+        this.territoryMask = state.territories();
+        this.deck = List.copyOf(state.cards());
+        this.assigned = state.assigned();
+        this.typeMap.clear();
+        for (final var card : this.deck) {
+            updateTypeMap(card.getType(), true);
+        }
     }
 
     /**
@@ -165,12 +179,7 @@ public class PlayerImpl implements Player, Cloneable {
      */
     @Override
     public Player getPlayer() {
-        try {
-            return (Player) this.clone();
-        } catch (final CloneNotSupportedException e) {
-            this.logger.error("Cannot create a copy of the player");
-        }
-        throw new IllegalStateException("Failed to create a copy of the player");
+        return new PlayerImpl(this);
     }
 
     /**
@@ -179,14 +188,16 @@ public class PlayerImpl implements Player, Cloneable {
     @Override
     public void addCard(final Card card) {
         updateTypeMap(card.getType(), true);
-        this.deck.add(card);
+        final List<Card> cards = new ArrayList<>(this.deck);
+        cards.add(card);
+        this.deck = List.copyOf(cards);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public int combination(final MainController destinationDeck, final Set<Territory> territories) {
+    public int combination(final Deck destinationDeck, final Set<Territory> territories) {
         final int bonusTerritory = calculateBonusTerritory(territories);
         final int nJack = typeMap.getOrDefault(CardType.JACK, 0);
         final int nHorse = typeMap.getOrDefault(CardType.HORSE, 0);
@@ -236,17 +247,31 @@ public class PlayerImpl implements Player, Cloneable {
      * @return the bonus territory score
      */
     private int calculateBonusTerritory(final Set<Territory> territories) {
-        final Set<String> temp = territories.stream().map(t -> t.getName().toLowerCase(Locale.ROOT))
-                .collect(Collectors.toSet());
+        final long mask = toMask(territories);
         int i = 0;
         for (final var element : deck) {
-            if (temp.contains(element.getTerritory())) {
+            final var id = registry.findTerritoryId(element.getTerritory());
+            if (id.isPresent() && (mask & 1L << id.getAsInt()) != 0) {
                 i++;
             }
         }
         return i;
     }
 
+    /**
+     * Resolves a set of territories to the bitmask of their ids.
+     * 
+     * @param territories the territories
+     * @return the bitmask of the ids of the territories
+     */
+    private long toMask(final Set<Territory> territories) {
+        long mask = 0;
+        for (final var territory : territories) {
+            mask |= 1L << registry.getTerritoryId(territory.getName());
+        }
+        return mask;
+    }
+
     /**
      * Method to update the count of cards of a specific type in the deck.
      * 
@@ -271,8 +296,9 @@ public class PlayerImpl implements Player, Cloneable {
      * @param type            the type of cards to move
      * @param n               the number of cards to move
      */
-    private void moveBetweenDeck(final MainController destinationDeck, final CardType type, final int n) {
-        final var iterator = this.deck.iterator();
+    private void moveBetweenDeck(final Deck destinationDeck, final CardType type, final int n) {
+        final List<Card> cards = new ArrayList<>(this.deck);
+        final var iterator = cards.iterator();
         int cardsMoved = 0;
         while (iterator.hasNext() && cardsMoved < n) {
             final Card card = iterator.next();
@@ -283,6 +309,7 @@ public class PlayerImpl implements Player, Cloneable {
                 cardsMoved++;
             }
         }
+        this.deck = List.copyOf(cards);
     }
 
     /**
@@ -0,0 +1,24 @@
+package it.unibo.jurassiko.model.territory.api;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import it.unibo.jurassiko.model.territory.impl.ContinentImpl;
+
+/**
+ * Interface that represents a continent, a group of territories that gives a
+ * bonus to the player who owns all of them.
+ */
+@JsonDeserialize(as = ContinentImpl.class)
+public interface Continent {
+
+    /**
+     * @return the name of the continent
+     */
+    String getName();
+
+    /**
+     * @return the amount of bonus dino given by the continent
+     */
+    int getBonus();
+
+}
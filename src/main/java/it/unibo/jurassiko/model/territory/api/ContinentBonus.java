@@ -0,0 +1,35 @@
+package it.unibo.jurassiko.model.territory.api;
+
+import java.util.List;
+
+/**
+ * Computes the bonus given by the continents. Every continent is stored as the
+ * bitmask of the ids of its territories, where the ids are the ones of a
+ * {@link TerritoryRegistry}.
+ */
+public interface ContinentBonus {
+
+    /**
+     * @return the continents, sorted by name
+     */
+    List<Continent> getContinents();
+
+    /**
+     * Gets the territories of a continent.
+     * 
+     * @param continentName name of the continent
+     * @return the bitmask of the territories of the continent
+     * @throws IllegalArgumentException if there is no continent with that name
+     */
+    long getTerritories(String continentName);
+
+    /**
+     * Computes the total bonus of the continents completely owned.
+     * 
+     * @param ownedTerritories bitmask of the owned territories
+     * @return the sum of the bonus of every continent whose territories are all
+     *         owned
+     */
+    int getBonus(long ownedTerritories);
+
+}
@@ -0,0 +1,17 @@
+package it.unibo.jurassiko.model.territory.api;
+
+import java.util.Set;
+
+/**
+ * Factory interface to create the game continents.
+ */
+public interface ContinentFactory {
+
+    /**
+     * Produces the game continents from the configuration file.
+     * 
+     * @return a copy of the set containing the continents
+     */
+    Set<Continent> createContinents();
+
+}
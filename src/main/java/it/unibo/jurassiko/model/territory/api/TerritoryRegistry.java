@@ -0,0 +1,87 @@
+package it.unibo.jurassiko.model.territory.api;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Canonical registry of the territories and the oceans of the board.
+ * Every territory and every ocean is identified by a dense id, assigned in
+ * alphabetical order of the names, so that names are resolved to ids in
+ * constant time and areas are compared by id.
+ * Names are matched ignoring case.
+ */
+public interface TerritoryRegistry {
+
+    /**
+     * @return the amount of territories
+     */
+    int getTerritoryCount();
+
+    /**
+     * @return the amount of oceans
+     */
+    int getOceanCount();
+
+    /**
+     * Gets the territory with the given id.
+     * 
+     * @param id id of the territory
+     * @return the territory
+     */
+    Territory getTerritory(int id);
+
+    /**
+     * Gets the ocean with the given id.
+     * 
+     * @param id id of the ocean
+     * @return the ocean
+     */
+    Ocean getOcean(int id);
+
+    /**
+     * Resolves the name of a territory to its id.
+     * 
+     * @param territoryName name of the territory
+     * @return id of the territory
+     * @throws IllegalArgumentException if there is no territory with that name
+     */
+    int getTerritoryId(String territoryName);
+
+    /**
+     * Resolves the name of an ocean to its id.
+     * 
+     * @param oceanName name of the ocean
+     * @return id of the ocean
+     * @throws IllegalArgumentException if there is no ocean with that name
+     */
+    int getOceanId(String oceanName);
+
+    /**
+     * Resolves the name of a territory to its id, if it exists.
+     * 
+     * @param territoryName name of the territory, can be null
+     * @return an OptionalInt containing the id, or an empty OptionalInt if there
+     *         is no territory with that name
+     */
+    OptionalInt findTerritoryId(String territoryName);
+
+    /**
+     * Resolves the name of an ocean to its id, if it exists.
+     * 
+     * @param oceanName name of the ocean, can be null
+     * @return an OptionalInt containing the id, or an empty OptionalInt if there
+     *         is no ocean with that name
+     */
+    OptionalInt findOceanId(String oceanName);
+
+    /**
+     * @return the territories sorted by id
+     */
+    List<Territory> getTerritories();
+
+    /**
+     * @return the oceans sorted by id
+     */
+    List<Ocean> getOceans();
+
+}
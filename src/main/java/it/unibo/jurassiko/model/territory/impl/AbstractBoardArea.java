@@ -1,5 +1,6 @@
 package it.unibo.jurassiko.model.territory.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -42,4 +43,29 @@ public abstract class AbstractBoardArea<T extends BoardArea<T>> implements Board
         return Set.copyOf(neighbours);
     }
 
+    /**
+     * Two areas are equal if they are of the same type and have the same name.
+     * 
+     * @param obj the object to compare
+     * @return true if the object is an area of the same type with the same name
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return Objects.equals(name, ((AbstractBoardArea<?>) obj).name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+
 }
@@ -0,0 +1,90 @@
+package it.unibo.jurassiko.model.territory.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import it.unibo.jurassiko.model.territory.api.Continent;
+import it.unibo.jurassiko.model.territory.api.ContinentBonus;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Implementation of {@link ContinentBonus}.
+ * Continent names are matched with the continent of the territories ignoring
+ * case.
+ */
+public class ContinentBonusImpl implements ContinentBonus {
+
+    private final List<Continent> continents;
+    private final long[] masks;
+    private final int[] bonus;
+
+    /**
+     * Creates the bitmasks of the given continents.
+     * 
+     * @param registry   the registry of the territories
+     * @param continents the continents
+     * @throws IllegalArgumentException if there are more territories than the
+     *                                  bits of a long, or if a continent has no
+     *                                  territory
+     */
+    public ContinentBonusImpl(final TerritoryRegistry registry, final Collection<Continent> continents) {
+        if (registry.getTerritoryCount() > Long.SIZE) {
+            throw new IllegalArgumentException("Too many territories");
+        }
+        this.continents = continents.stream()
+                .sorted(Comparator.comparing(Continent::getName))
+                .toList();
+        this.masks = new long[this.continents.size()];
+        this.bonus = new int[this.continents.size()];
+        for (int i = 0; i < masks.length; i++) {
+            final String name = this.continents.get(i).getName().toLowerCase(Locale.ROOT);
+            for (int id = 0; id < registry.getTerritoryCount(); id++) {
+                if (registry.getTerritory(id).getContinent().toLowerCase(Locale.ROOT).equals(name)) {
+                    masks[i] |= 1L << id;
+                }
+            }
+            if (masks[i] == 0) {
+                throw new IllegalArgumentException("Continent without territories: " + name);
+            }
+            bonus[i] = this.continents.get(i).getBonus();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Continent> getContinents() {
+        return continents;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTerritories(final String continentName) {
+        for (int i = 0; i < masks.length; i++) {
+            if (continents.get(i).getName().equalsIgnoreCase(continentName)) {
+                return masks[i];
+            }
+        }
+        throw new IllegalArgumentException("Invalid continent name");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBonus(final long ownedTerritories) {
+        int result = 0;
+        for (int i = 0; i < masks.length; i++) {
+            if ((ownedTerritories & masks[i]) == masks[i]) {
+                result += bonus[i];
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,26 @@
+package it.unibo.jurassiko.model.territory.impl;
+
+import java.util.Set;
+
+import it.unibo.jurassiko.model.territory.api.Continent;
+import it.unibo.jurassiko.model.territory.api.ContinentFactory;
+import it.unibo.jurassiko.reader.impl.BoardDataReader;
+
+/**
+ * Implementation of the factory for the game continents.
+ */
+public class ContinentFactoryImpl implements ContinentFactory {
+
+    private static final String PATH = "config/continents.json";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Continent> createContinents() {
+        final var continentReader = new BoardDataReader<>(Continent.class);
+        final Set<Continent> continents = continentReader.readFileData(PATH);
+        return Set.copyOf(continents);
+    }
+
+}
@@ -0,0 +1,38 @@
+package it.unibo.jurassiko.model.territory.impl;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import it.unibo.jurassiko.model.territory.api.Continent;
+
+/**
+ * Implementation of the continent.
+ */
+@SuppressWarnings("PMD") // This class is used by the Jackson deserializer for the factory
+public final class ContinentImpl implements Continent {
+
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("bonus")
+    private int bonus;
+
+    private ContinentImpl() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBonus() {
+        return bonus;
+    }
+
+}
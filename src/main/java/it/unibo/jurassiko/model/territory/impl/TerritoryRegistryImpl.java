@@ -0,0 +1,163 @@
+package it.unibo.jurassiko.model.territory.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import it.unibo.jurassiko.model.territory.api.BoardArea;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Implementation of {@link TerritoryRegistry} backed by hash maps from the
+ * names to the ids.
+ */
+public class TerritoryRegistryImpl implements TerritoryRegistry {
+
+    private final List<Territory> territories;
+    private final List<Ocean> oceans;
+    private final Map<String, Integer> territoryIds;
+    private final Map<String, Integer> oceanIds;
+
+    /**
+     * Creates the registry of the given areas.
+     * 
+     * @param territories the territories of the board
+     * @param oceans      the oceans of the board
+     */
+    public TerritoryRegistryImpl(final Collection<Territory> territories, final Collection<Ocean> oceans) {
+        this.territories = territories.stream()
+                .sorted(Comparator.comparing(Territory::getName))
+                .toList();
+        this.oceans = oceans.stream()
+                .sorted(Comparator.comparing(Ocean::getName))
+                .toList();
+        this.territoryIds = indexByName(this.territories);
+        this.oceanIds = indexByName(this.oceans);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTerritoryCount() {
+        return territories.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOceanCount() {
+        return oceans.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Territory getTerritory(final int id) {
+        return territories.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Ocean getOcean(final int id) {
+        return oceans.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTerritoryId(final String territoryName) {
+        return findTerritoryId(territoryName)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid territory name"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOceanId(final String oceanName) {
+        return findOceanId(oceanName)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid ocean name"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalInt findTerritoryId(final String territoryName) {
+        return find(territoryIds, territoryName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalInt findOceanId(final String oceanName) {
+        return find(oceanIds, oceanName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Territory> getTerritories() {
+        return territories;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Ocean> getOceans() {
+        return oceans;
+    }
+
+    /**
+     * Looks for a name, first as it is and then ignoring case.
+     * 
+     * @param ids  the map from the names to the ids
+     * @param name the name to look for
+     * @return the id, if present
+     */
+    private OptionalInt find(final Map<String, Integer> ids, final String name) {
+        if (name == null) {
+            return OptionalInt.empty();
+        }
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = ids.get(name.toLowerCase(Locale.ROOT));
+        }
+        return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    /**
+     * Maps both the name and the lowercase name of every area to its position in
+     * the list.
+     * 
+     * @param <T>   the type of the area
+     * @param areas the areas sorted by id
+     * @return the map from the names to the ids
+     */
+    private static <T extends BoardArea<T>> Map<String, Integer> indexByName(final List<T> areas) {
+        final Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < areas.size(); id++) {
+            ids.put(areas.get(id).getName().toLowerCase(Locale.ROOT), id);
+        }
+        for (int id = 0; id < areas.size(); id++) {
+            ids.put(areas.get(id).getName(), id);
+        }
+        return Map.copyOf(ids);
+    }
+
+}
@@ -2,7 +2,6 @@ package it.unibo.jurassiko.reader.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -47,7 +46,6 @@ public class DeckDataReader implements JSONFileReader<List<Card>> {
             throw new IllegalStateException("Failed to read " + filePath + " file", e);
         }
 
-        Collections.shuffle(deck);
         return new ArrayList<>(deck);
     }
 
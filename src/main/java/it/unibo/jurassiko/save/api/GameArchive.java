@@ -0,0 +1,66 @@
+package it.unibo.jurassiko.save.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+
+/**
+ * Saves games in a compact binary format and loads them back. A file is an
+ * archive of saved games, to which new games are appended, so every finished
+ * game can be kept in the same file.
+ */
+public interface GameArchive {
+
+    /**
+     * Encodes the current state of a game: the owner and the dino of every
+     * territory, the selected ocean, the cards and the objective of every
+     * player, the order of the deck, the current player and the phase.
+     * The history of the commands is not saved.
+     *
+     * @param engine the game
+     * @return the saved game, ready to be read
+     */
+    ByteBuffer encode(HeadlessEngine engine);
+
+    /**
+     * Rebuilds a game from its saved state.
+     *
+     * @param saved the saved game, as returned by {@link #encode(HeadlessEngine)}
+     *              or {@link #read(Path)}
+     * @return a new game in the saved state
+     * @throws IllegalArgumentException if the saved game is not valid or belongs
+     *                                  to another board
+     */
+    HeadlessEngine decode(ByteBuffer saved);
+
+    /**
+     * Appends a game to an archive, creating the file if it does not exist. The
+     * games already saved are not read, and a game cut by a crash is
+     * overwritten.
+     *
+     * @param path   the file of the archive
+     * @param engine the game to save
+     * @throws IOException              if the game cannot be written
+     * @throws IllegalArgumentException if the file is not an archive of this
+     *                                  version
+     */
+    void append(Path path, HeadlessEngine engine) throws IOException;
+
+    /**
+     * Reads the games of an archive. The file is mapped in memory, so the games
+     * are not copied until they are decoded. A game cut by a crash while it was
+     * being appended is ignored.
+     *
+     * @param path the file of the archive
+     * @return the saved games, in the order they have been appended, as read-only
+     *         buffers
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not an archive of this
+     *                                  version
+     */
+    List<ByteBuffer> read(Path path) throws IOException;
+
+}
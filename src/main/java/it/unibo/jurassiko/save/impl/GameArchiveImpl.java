@@ -0,0 +1,358 @@
+package it.unibo.jurassiko.save.impl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.TurnContext;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardImpl;
+import it.unibo.jurassiko.model.card.api.Card;
+import it.unibo.jurassiko.model.card.api.Deck;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.save.api.GameArchive;
+
+/**
+ * Implementation of the interface {@link GameArchive}.
+ * An archive starts with a header holding the version of the format and the
+ * end of the last saved game, followed by the saved games, each one made of its
+ * length, its contents and their CRC-32. A game is written after the end in the
+ * header, which is moved after it only once the game is on the disk, so a game
+ * cut by a crash is never part of the archive and is overwritten by the next
+ * one. A saved game holds the seed of the game and its state, where colors,
+ * phases, areas, cards and objectives are written as small indexes: cards as
+ * the indexes of the catalog, objectives as the indexes of the objectives of
+ * the catalog sorted like the setup of the game does. The game is rebuilt from
+ * the seed, which must assign the saved objectives, and then restored.
+ */
+public final class GameArchiveImpl implements GameArchive {
+
+    private static final int MAGIC = 0x4A534156;
+    private static final short VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int NO_OCEAN = -1;
+    private static final int TURN_SIZE = 4 * Short.BYTES;
+
+    private final BoardCatalog catalog;
+    private final List<Objective> objectives;
+    private final Map<Card, Integer> cardIndexes;
+
+    /**
+     * Creates an archive of games on the given board.
+     *
+     * @param catalog the catalog of the board
+     */
+    public GameArchiveImpl(final BoardCatalog catalog) {
+        this.catalog = catalog;
+        this.objectives = catalog.getObjectives().stream()
+                .sorted(Comparator.comparing(Objective::getType).thenComparing(Objective::getDescription))
+                .toList();
+        this.cardIndexes = new IdentityHashMap<>();
+        final var cards = catalog.getCards();
+        for (int i = 0; i < cards.size(); i++) {
+            this.cardIndexes.put(cards.get(i), i);
+        }
+    }
+
+    /**
+     * Creates an archive of games on the board of the configuration files.
+     */
+    public GameArchiveImpl() {
+        this(BoardCatalogImpl.getDefault());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer encode(final HeadlessEngine engine) {
+        final var snapshot = engine.snapshot();
+        final var board = snapshot.board();
+        final var players = engine.getPlayers();
+        final var deck = snapshot.deck().cards().subList(snapshot.deck().next(), snapshot.deck().cards().size());
+        int size = Long.BYTES + 2 + 1 + board.size() * (1 + Integer.BYTES) + 1 + 1 + 1 + 1 + 1 + 1 + TURN_SIZE
+                + Short.BYTES + deck.size() * Short.BYTES;
+        for (final var state : snapshot.players()) {
+            size += 1 + 1 + Long.BYTES + 1 + Short.BYTES + state.cards().size() * Short.BYTES;
+        }
+        final ByteBuffer data = ByteBuffer.allocate(size);
+        data.putLong(engine.getSeed())
+                .put((byte) board.size())
+                .put((byte) engine.getRegistry().getOceanCount())
+                .put((byte) players.size());
+        for (int id = 0; id < board.size(); id++) {
+            data.put((byte) board.getOwner(id).ordinal()).putInt(board.getDino(id));
+        }
+        final int oceanId = snapshot.ocean().map(o -> engine.getRegistry().getOceanId(o.x().getName()))
+                .orElse(NO_OCEAN);
+        final int oceanOwner = snapshot.ocean().map(o -> o.y().ordinal()).orElse(0);
+        data.put((byte) oceanId)
+                .put((byte) oceanOwner)
+                .put((byte) snapshot.currentColor().ordinal())
+                .put((byte) snapshot.phase().ordinal())
+                .put((byte) (snapshot.firstTurn() ? 1 : 0))
+                .put((byte) snapshot.playersReady())
+                .putShort((short) snapshot.turn().groundBonus())
+                .putShort((short) snapshot.turn().cardBonus())
+                .putShort((short) snapshot.turn().waterBonus())
+                .putShort((short) snapshot.turn().placed());
+        for (int i = 0; i < players.size(); i++) {
+            final Player.State state = snapshot.players().get(i);
+            data.put((byte) players.get(i).getColor().ordinal())
+                    .put((byte) objectives.indexOf(players.get(i).getObjective()))
+                    .putLong(state.territories())
+                    .put((byte) (state.assigned() ? 1 : 0));
+            putCards(data, state.cards());
+        }
+        putCards(data, deck);
+        return data.flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeadlessEngine decode(final ByteBuffer saved) {
+        final ByteBuffer data = saved.duplicate();
+        final var registry = catalog.getRegistry();
+        try {
+            final HeadlessEngine engine = new HeadlessEngineImpl(catalog, data.getLong());
+            final var players = engine.getPlayers();
+            if (data.get() != registry.getTerritoryCount() || data.get() != registry.getOceanCount()
+                    || data.get() != players.size()) {
+                throw new IllegalArgumentException("The game has been saved on another board");
+            }
+            final Board board = new BoardImpl(registry.getTerritoryCount());
+            for (int id = 0; id < board.size(); id++) {
+                board.setOwner(id, getColor(data));
+                board.setDino(id, data.getInt());
+            }
+            final int oceanId = data.get();
+            final GameColor oceanOwner = getColor(data);
+            final Optional<Pair<Ocean, GameColor>> ocean = oceanId == NO_OCEAN ? Optional.empty()
+                    : Optional.of(new Pair<>(registry.getOcean(oceanId), oceanOwner));
+            final GameColor currentColor = getColor(data);
+            final Phase phase = Phase.values()[data.get()];
+            final boolean firstTurn = data.get() != 0;
+            final int playersReady = data.get();
+            final TurnContext turn = new TurnContext(data.getShort(), data.getShort(), data.getShort(),
+                    data.getShort());
+            final List<Player.State> states = new ArrayList<>();
+            for (final var player : players) {
+                if (getColor(data) != player.getColor()
+                        || !objectives.get(data.get()).equals(player.getObjective())) {
+                    throw new IllegalArgumentException("The players do not match the seed of the game");
+                }
+                final long territories = data.getLong();
+                final boolean assigned = data.get() != 0;
+                states.add(new Player.State(territories, getCards(data), assigned));
+            }
+            final Deck.State deck = new Deck.State(getCards(data), 0);
+            if (data.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected data after the saved game");
+            }
+            engine.restore(new HeadlessEngine.Snapshot(board, List.copyOf(states), currentColor, phase, ocean, deck,
+                    firstTurn, playersReady, turn));
+            return engine;
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The saved game is not valid", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(final Path path, final HeadlessEngine engine) throws IOException {
+        final ByteBuffer saved = encode(engine);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ)) {
+            final long end;
+            if (channel.size() == 0) {
+                end = HEADER_SIZE;
+                writeHeader(channel, end);
+            } else {
+                end = readEnd(channel);
+                if (end < channel.size()) {
+                    channel.truncate(end);
+                }
+            }
+            final CRC32 checksum = new CRC32();
+            checksum.update(saved.duplicate());
+            final ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + saved.remaining() + Integer.BYTES);
+            entry.putInt(saved.remaining())
+                    .put(saved.duplicate())
+                    .putInt((int) checksum.getValue())
+                    .flip();
+            writeFully(channel, entry, end);
+            channel.force(false);
+            writeHeader(channel, end + entry.limit());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ByteBuffer> read(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return scan(channel);
+        }
+    }
+
+    /**
+     * Writes a list of cards as their amount followed by their indexes.
+     *
+     * @param data  the buffer
+     * @param cards the cards
+     */
+    private void putCards(final ByteBuffer data, final List<Card> cards) {
+        data.putShort((short) cards.size());
+        for (final var card : cards) {
+            data.putShort(cardIndexes.get(card).shortValue());
+        }
+    }
+
+    /**
+     * Reads a list of cards written by {@link #putCards(ByteBuffer, List)}.
+     *
+     * @param data the buffer
+     * @return the cards
+     */
+    private List<Card> getCards(final ByteBuffer data) {
+        final int amount = data.getShort();
+        final List<Card> cards = new ArrayList<>(Math.max(amount, 0));
+        for (int i = 0; i < amount; i++) {
+            cards.add(catalog.getCards().get(data.getShort()));
+        }
+        return List.copyOf(cards);
+    }
+
+    /**
+     * Reads a color.
+     *
+     * @param data the buffer
+     * @return the color
+     */
+    private static GameColor getColor(final ByteBuffer data) {
+        return GameColor.values()[data.get()];
+    }
+
+    /**
+     * Maps the file of an archive in memory and finds its games, up to the end
+     * written in the header or to the first game that fails the check.
+     *
+     * @param channel the file of the archive
+     * @return the saved games
+     * @throws IOException if the file cannot be read
+     */
+    private static List<ByteBuffer> scan(final FileChannel channel) throws IOException {
+        final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        data.limit((int) checkHeader(data, channel.size()));
+        final CRC32 checksum = new CRC32();
+        final List<ByteBuffer> games = new ArrayList<>();
+        while (data.remaining() >= Integer.BYTES) {
+            final int length = data.getInt(data.position());
+            if (length <= 0 || data.remaining() - 2 * Integer.BYTES < length) {
+                break;
+            }
+            final ByteBuffer game = data.slice(data.position() + Integer.BYTES, length);
+            checksum.reset();
+            checksum.update(game.duplicate());
+            if ((int) checksum.getValue() != data.getInt(data.position() + Integer.BYTES + length)) {
+                break;
+            }
+            games.add(game);
+            data.position(data.position() + 2 * Integer.BYTES + length);
+        }
+        return List.copyOf(games);
+    }
+
+    /**
+     * Reads the end of the last saved game from the header of an archive,
+     * without reading the games.
+     *
+     * @param channel the file of the archive
+     * @return the position after the last saved game
+     * @throws IOException if the file cannot be read
+     */
+    private static long readEnd(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int read = 0;
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header, header.position());
+        }
+        return checkHeader(header.flip(), channel.size());
+    }
+
+    /**
+     * Checks the header of an archive, leaving the buffer after it.
+     *
+     * @param header the buffer starting with the header
+     * @param size   the size of the file
+     * @return the position after the last saved game
+     */
+    private static long checkHeader(final ByteBuffer header, final long size) {
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("The file is not an archive of games");
+        }
+        final short version = header.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of the archive: " + version);
+        }
+        final long end = header.getLong();
+        if (end < HEADER_SIZE || end > size) {
+            throw new IllegalArgumentException("The archive is damaged, it ends at " + end + " of " + size);
+        }
+        return end;
+    }
+
+    /**
+     * Writes the header of an archive and waits for it to reach the disk.
+     *
+     * @param channel the file of the archive
+     * @param end     the position after the last saved game
+     * @throws IOException if the header cannot be written
+     */
+    private static void writeHeader(final FileChannel channel, final long end) throws IOException {
+        writeFully(channel, ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putLong(end).flip(), 0);
+        channel.force(false);
+    }
+
+    /**
+     * Writes the whole buffer to a file.
+     *
+     * @param channel  the file
+     * @param buffer   the buffer
+     * @param position the position in the file
+     * @throws IOException if the buffer cannot be written
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+            throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+}
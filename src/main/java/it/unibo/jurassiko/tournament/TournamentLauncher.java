@@ -0,0 +1,68 @@
+package it.unibo.jurassiko.tournament;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.jurassiko.bot.impl.MctsBot;
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.tournament.api.Tournament;
+import it.unibo.jurassiko.tournament.impl.SprtImpl;
+import it.unibo.jurassiko.tournament.impl.TournamentImpl;
+
+/**
+ * Main class of the headless tournament between the Monte Carlo tree search bot
+ * and the random bot, using every core of the machine.
+ */
+public final class TournamentLauncher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TournamentLauncher.class);
+    private static final int DEFAULT_GAMES = 1000;
+    private static final int DEFAULT_ITERATIONS = 200;
+    private static final int MAX_TURNS = 300;
+    private static final double ELO0 = 0;
+    private static final double ELO1 = 50;
+    private static final double ERROR = 0.05;
+
+    /**
+     * Private constructor to protect the main class.
+     */
+    private TournamentLauncher() {
+    }
+
+    /**
+     * Main method to launch the tournament.
+     *
+     * @param args the path of the CSV file, then optionally the maximum amount
+     *             of games and the iterations of the search per move
+     * @throws IOException if the results cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            LOGGER.error("Usage: TournamentLauncher <results.csv> [games] [iterations]");
+            return;
+        }
+        final int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        final int iterations = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ITERATIONS;
+        final var settings = new Tournament.Settings(games, MAX_TURNS, Runtime.getRuntime().availableProcessors(),
+                System.nanoTime());
+        try (Writer output = Files.newBufferedWriter(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            final var summary = new TournamentImpl(BoardCatalogImpl.getDefault(),
+                    new Tournament.Entry("mcts", seed -> new MctsBot(iterations, 0, 1, seed)),
+                    new Tournament.Entry("random", RandomBot::new),
+                    settings,
+                    Optional.of(new SprtImpl(ELO0, ELO1, ERROR, ERROR)),
+                    output).run();
+            LOGGER.info("{} games: +{} ={} -{}, Elo {} +/- {}, {}", summary.games(), summary.wins(),
+                    summary.draws(), summary.losses(), summary.elo(), summary.eloError(), summary.decision());
+        }
+    }
+
+}
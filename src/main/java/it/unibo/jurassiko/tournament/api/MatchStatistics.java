@@ -0,0 +1,83 @@
+package it.unibo.jurassiko.tournament.api;
+
+/**
+ * Results of a bot against another one, from the point of view of the first
+ * bot, with the estimate of the difference of their Elo ratings.
+ */
+public interface MatchStatistics {
+
+    /**
+     * Score of a won game.
+     */
+    double WIN = 1;
+
+    /**
+     * Score of a game without a winner.
+     */
+    double DRAW = 0.5;
+
+    /**
+     * Score of a lost game.
+     */
+    double LOSS = 0;
+
+    /**
+     * Adds the result of a game.
+     *
+     * @param score {@link #WIN}, {@link #DRAW} or {@link #LOSS}
+     * @throws IllegalArgumentException if the score is not one of them
+     */
+    void add(double score);
+
+    /**
+     * @return the amount of games
+     */
+    int getGames();
+
+    /**
+     * @return the amount of won games
+     */
+    int getWins();
+
+    /**
+     * @return the amount of games without a winner
+     */
+    int getDraws();
+
+    /**
+     * @return the amount of lost games
+     */
+    int getLosses();
+
+    /**
+     * @return the mean score of the games, 0.5 if there are none
+     */
+    double getScore();
+
+    /**
+     * Gets the estimated difference of the Elo ratings of the bots.
+     *
+     * @return the Elo difference, positive if the first bot is stronger
+     */
+    double getElo();
+
+    /**
+     * Gets the half width of the 95% confidence interval of the Elo difference.
+     *
+     * @return the error of the Elo difference, infinite if it cannot be
+     *         estimated yet
+     */
+    double getEloError();
+
+    /**
+     * Gets the log-likelihood ratio of the hypothesis that the Elo difference
+     * is elo1 against the hypothesis that it is elo0, using the normal
+     * approximation of the distribution of the score.
+     *
+     * @param elo0 the Elo difference of the null hypothesis
+     * @param elo1 the Elo difference of the alternative hypothesis
+     * @return the log-likelihood ratio, 0 if it cannot be estimated yet
+     */
+    double getLogLikelihoodRatio(double elo0, double elo1);
+
+}
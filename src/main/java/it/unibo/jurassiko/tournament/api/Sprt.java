@@ -0,0 +1,35 @@
+package it.unibo.jurassiko.tournament.api;
+
+/**
+ * Sequential probability ratio test, deciding as soon as possible between two
+ * hypotheses on the Elo difference of two bots.
+ */
+public interface Sprt {
+
+    /**
+     * The outcome of the test.
+     */
+    enum Decision {
+        /**
+         * More games are needed.
+         */
+        CONTINUE,
+        /**
+         * The Elo difference is elo0 or less.
+         */
+        ACCEPT_H0,
+        /**
+         * The Elo difference is elo1 or more.
+         */
+        ACCEPT_H1
+    }
+
+    /**
+     * Tests the results of the games played so far.
+     *
+     * @param statistics the results
+     * @return the outcome of the test
+     */
+    Decision test(MatchStatistics statistics);
+
+}
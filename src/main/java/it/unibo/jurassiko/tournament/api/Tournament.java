@@ -0,0 +1,75 @@
+package it.unibo.jurassiko.tournament.api;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * A match between a candidate bot and a baseline bot, played as many seeded
+ * games without any view.
+ */
+public interface Tournament {
+
+    /**
+     * A bot taking part in the tournament.
+     *
+     * @param name    the name of the bot, written in the results
+     * @param factory creates a new bot from a seed, for every seat of every game
+     */
+    record Entry(String name, LongFunction<Bot> factory) {
+    }
+
+    /**
+     * The limits of the tournament.
+     *
+     * @param maxGames the maximum amount of games
+     * @param maxTurns the amount of turns after which a game ends in a draw
+     * @param threads  the amount of games played at the same time
+     * @param seed     the seed from which the seeds of the games are derived
+     */
+    record Settings(int maxGames, int maxTurns, int threads, long seed) {
+    }
+
+    /**
+     * The result of a game.
+     *
+     * @param game   the index of the game
+     * @param seed   the seed of the game
+     * @param seats  the names of the bots, in the order of the colors
+     * @param winner the color of the winner, empty if the game ended in a draw
+     * @param turns  the amount of turns played
+     * @param score  the score of the candidate
+     */
+    record GameResult(int game, long seed, List<String> seats, Optional<GameColor> winner, int turns,
+            double score) {
+    }
+
+    /**
+     * The result of the tournament.
+     *
+     * @param games    the amount of games played
+     * @param wins     the amount of games won by the candidate
+     * @param draws    the amount of games without a winner
+     * @param losses   the amount of games won by the baseline
+     * @param elo      the Elo difference of the candidate
+     * @param eloError the half width of the 95% confidence interval
+     * @param decision the outcome of the sequential test
+     */
+    record Summary(int games, int wins, int draws, int losses, double elo, double eloError,
+            Sprt.Decision decision) {
+    }
+
+    /**
+     * Plays the games until the maximum amount is reached or the sequential
+     * test decides, writing the result of every game as soon as it ends.
+     *
+     * @return the result of the tournament
+     * @throws IOException if the results cannot be written
+     */
+    Summary run() throws IOException;
+
+}
@@ -0,0 +1,148 @@
+package it.unibo.jurassiko.tournament.impl;
+
+import it.unibo.jurassiko.tournament.api.MatchStatistics;
+
+/**
+ * Implementation of {@link MatchStatistics} counting the wins, draws and
+ * losses. The Elo difference follows the logistic model, its error the normal
+ * approximation of the mean score.
+ */
+public final class MatchStatisticsImpl implements MatchStatistics {
+
+    private static final double ELO_SCALE = 400;
+    private static final double Z_95 = 1.959_964;
+
+    private int wins;
+    private int draws;
+    private int losses;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final double score) {
+        if (score == WIN) {
+            wins++;
+        } else if (score == DRAW) {
+            draws++;
+        } else if (score == LOSS) {
+            losses++;
+        } else {
+            throw new IllegalArgumentException("Invalid score: " + score);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGames() {
+        return wins + draws + losses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getScore() {
+        return getGames() == 0 ? DRAW : (wins * WIN + draws * DRAW) / getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getElo() {
+        return toElo(getScore());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEloError() {
+        final double variance = getVariance();
+        if (variance == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final double error = Z_95 * Math.sqrt(variance / getGames());
+        return (toElo(getScore() + error) - toElo(getScore() - error)) / 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getLogLikelihoodRatio(final double elo0, final double elo1) {
+        final double variance = getVariance();
+        if (variance == 0) {
+            return 0;
+        }
+        final double score0 = toScore(elo0);
+        final double score1 = toScore(elo1);
+        return getGames() * (score1 - score0) * (2 * getScore() - score0 - score1) / (2 * variance);
+    }
+
+    /**
+     * @return the variance of the score of a single game
+     */
+    private double getVariance() {
+        if (getGames() == 0) {
+            return 0;
+        }
+        final double score = getScore();
+        return (wins * Math.pow(WIN - score, 2) + draws * Math.pow(DRAW - score, 2)
+                + losses * Math.pow(LOSS - score, 2)) / getGames();
+    }
+
+    /**
+     * Converts a mean score to an Elo difference, infinite for a score of 0 or 1.
+     *
+     * @param score the mean score
+     * @return the Elo difference
+     */
+    private static double toElo(final double score) {
+        if (score <= LOSS) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (score >= WIN) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -ELO_SCALE * Math.log10(1 / score - 1);
+    }
+
+    /**
+     * Converts an Elo difference to the expected mean score.
+     *
+     * @param elo the Elo difference
+     * @return the mean score
+     */
+    private static double toScore(final double elo) {
+        return 1 / (1 + Math.pow(10, -elo / ELO_SCALE));
+    }
+
+}
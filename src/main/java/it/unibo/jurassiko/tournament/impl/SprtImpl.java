@@ -0,0 +1,52 @@
+package it.unibo.jurassiko.tournament.impl;
+
+import it.unibo.jurassiko.tournament.api.MatchStatistics;
+import it.unibo.jurassiko.tournament.api.Sprt;
+
+/**
+ * Implementation of {@link Sprt} comparing the log-likelihood ratio of the
+ * results with the bounds given by the error probabilities.
+ */
+public final class SprtImpl implements Sprt {
+
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    /**
+     * Creates a test between two Elo differences.
+     *
+     * @param elo0  the Elo difference of the null hypothesis
+     * @param elo1  the Elo difference of the alternative hypothesis, greater
+     *              than elo0
+     * @param alpha the probability of accepting H1 when H0 is true
+     * @param beta  the probability of accepting H0 when H1 is true
+     * @throws IllegalArgumentException if the parameters are not valid
+     */
+    public SprtImpl(final double elo0, final double elo1, final double alpha, final double beta) {
+        if (elo1 <= elo0 || alpha <= 0 || alpha >= 1 || beta <= 0 || beta >= 1) {
+            throw new IllegalArgumentException("Invalid parameters of the test");
+        }
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Decision test(final MatchStatistics statistics) {
+        final double llr = statistics.getLogLikelihoodRatio(elo0, elo1);
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        }
+        if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+}
@@ -0,0 +1,204 @@
+package it.unibo.jurassiko.tournament.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.tournament.api.MatchStatistics;
+import it.unibo.jurassiko.tournament.api.Sprt;
+import it.unibo.jurassiko.tournament.api.Tournament;
+
+/**
+ * Implementation of {@link Tournament} playing the games on a fixed pool of
+ * threads.
+ * The games are played in pairs with the same seed, so the same territories
+ * and objectives: in the first game of a pair the candidate plays a single
+ * color against the baseline, in the second one the roles are swapped. The
+ * single color rotates over the colors of the players from a pair to the next,
+ * so equal bots have an expected score of 0.5.
+ * The results are written as CSV lines in the order the games end. The
+ * statistics and the sequential test, if any, only take the pairs whose games
+ * have both ended, in the order of the pairs, so the two games of a seed are
+ * always counted together and the decision does not depend on the timing of
+ * the threads. An unpaired last game is counted at the end of the tournament.
+ */
+public class TournamentImpl implements Tournament {
+
+    private static final String SEPARATOR = ",";
+
+    private final BoardCatalog catalog;
+    private final Entry candidate;
+    private final Entry baseline;
+    private final Settings settings;
+    private final Optional<Sprt> sprt;
+    private final Writer output;
+
+    /**
+     * Creates a tournament between two bots.
+     *
+     * @param catalog   the catalog of the board of the games
+     * @param candidate the bot under test
+     * @param baseline  the bot it is compared to
+     * @param settings  the limits of the tournament
+     * @param sprt      the sequential test stopping the tournament, if any
+     * @param output    where the results are written, not closed by the
+     *                  tournament
+     * @throws IllegalArgumentException if the settings are not valid
+     */
+    public TournamentImpl(final BoardCatalog catalog, final Entry candidate, final Entry baseline,
+            final Settings settings, final Optional<Sprt> sprt, final Writer output) {
+        if (settings.maxGames() < 1 || settings.maxTurns() < 1 || settings.threads() < 1) {
+            throw new IllegalArgumentException("Invalid settings of the tournament");
+        }
+        this.catalog = catalog;
+        this.candidate = candidate;
+        this.baseline = baseline;
+        this.settings = settings;
+        this.sprt = sprt;
+        this.output = output;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Summary run() throws IOException {
+        final List<GameColor> colors = getColors();
+        output.write("game" + SEPARATOR + "seed" + SEPARATOR
+                + colors.stream().map(c -> c.name().toLowerCase(Locale.ROOT)).collect(Collectors.joining(SEPARATOR))
+                + SEPARATOR + "winner" + SEPARATOR + "turns" + SEPARATOR + "score" + System.lineSeparator());
+        output.flush();
+        final MatchStatistics statistics = new MatchStatisticsImpl();
+        Sprt.Decision decision = Sprt.Decision.CONTINUE;
+        final ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        try {
+            final CompletionService<GameResult> games = new ExecutorCompletionService<>(executor);
+            int submitted = 0;
+            int running = 0;
+            while (submitted < Math.min(settings.threads(), settings.maxGames())) {
+                final int game = submitted++;
+                games.submit(() -> play(game, colors));
+                running++;
+            }
+            final Map<Integer, GameResult> ended = new HashMap<>();
+            int nextGame = 0;
+            while (running > 0 && decision == Sprt.Decision.CONTINUE) {
+                final GameResult result = games.take().get();
+                running--;
+                write(result);
+                ended.put(result.game(), result);
+                while (ended.containsKey(nextGame) && ended.containsKey(nextGame + 1)) {
+                    statistics.add(ended.remove(nextGame).score());
+                    statistics.add(ended.remove(nextGame + 1).score());
+                    nextGame += 2;
+                    decision = sprt.map(test -> test.test(statistics)).orElse(Sprt.Decision.CONTINUE);
+                    if (decision != Sprt.Decision.CONTINUE) {
+                        break;
+                    }
+                }
+                if (decision == Sprt.Decision.CONTINUE && submitted < settings.maxGames()) {
+                    final int game = submitted++;
+                    games.submit(() -> play(game, colors));
+                    running++;
+                }
+            }
+            if (decision == Sprt.Decision.CONTINUE && ended.containsKey(nextGame)) {
+                statistics.add(ended.remove(nextGame).score());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The tournament has been interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A game of the tournament has failed", e);
+        } finally {
+            // The games still running after the decision are not needed
+            executor.shutdownNow();
+        }
+        return new Summary(statistics.getGames(), statistics.getWins(), statistics.getDraws(),
+                statistics.getLosses(), statistics.getElo(), statistics.getEloError(), decision);
+    }
+
+    /**
+     * Plays a game of the tournament.
+     *
+     * @param game   the index of the game
+     * @param colors the colors of the players, in the order of the seats
+     * @return the result of the game
+     */
+    private GameResult play(final int game, final List<GameColor> colors) {
+        final int pair = game / 2;
+        final long seed = new SplittableRandom(settings.seed() + pair).nextLong();
+        final boolean candidateAlone = game % 2 == 0;
+        final GameColor alone = colors.get(pair % colors.size());
+        final SplittableRandom random = new SplittableRandom(seed);
+        final Map<GameColor, Bot> bots = new EnumMap<>(GameColor.class);
+        final List<String> seats = new ArrayList<>();
+        for (final var color : colors) {
+            final Entry entry = color.equals(alone) == candidateAlone ? candidate : baseline;
+            bots.put(color, entry.factory().apply(random.nextLong()));
+            seats.add(entry.name());
+        }
+        final HeadlessEngine engine = new HeadlessEngineImpl(catalog, seed);
+        engine.setHistoryLimit(0);
+        int turns = 0;
+        try {
+            while (engine.getWinner().isEmpty() && turns < settings.maxTurns()) {
+                bots.get(engine.getCurrentPlayer().getColor()).playTurn(engine);
+                turns++;
+            }
+        } finally {
+            bots.values().forEach(Bot::close);
+        }
+        final Optional<GameColor> winner = engine.getWinner().map(Player::getColor);
+        final double score = winner
+                .map(color -> color.equals(alone) == candidateAlone ? MatchStatistics.WIN : MatchStatistics.LOSS)
+                .orElse(MatchStatistics.DRAW);
+        return new GameResult(game, seed, seats, winner, turns, score);
+    }
+
+    /**
+     * Writes the result of a game as a CSV line.
+     *
+     * @param result the result of the game
+     * @throws IOException if the line cannot be written
+     */
+    private void write(final GameResult result) throws IOException {
+        output.write(result.game() + SEPARATOR + result.seed() + SEPARATOR
+                + String.join(SEPARATOR, result.seats()) + SEPARATOR
+                + result.winner().map(c -> c.name().toLowerCase(Locale.ROOT)).orElse("") + SEPARATOR
+                + result.turns() + SEPARATOR + result.score() + System.lineSeparator());
+        output.flush();
+    }
+
+    /**
+     * Gets the colors of the players of a game on the board of the tournament.
+     *
+     * @return the colors, sorted
+     */
+    private List<GameColor> getColors() {
+        return new HeadlessEngineImpl(catalog, settings.seed()).getPlayers().stream()
+                .map(Player::getColor)
+                .sorted()
+                .toList();
+    }
+
+}
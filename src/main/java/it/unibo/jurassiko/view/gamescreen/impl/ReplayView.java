@@ -0,0 +1,124 @@
+package it.unibo.jurassiko.view.gamescreen.impl;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.io.IOException;
+
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jurassiko.log.api.Replay;
+import it.unibo.jurassiko.view.gamescreen.api.View;
+import it.unibo.jurassiko.view.panels.MapPanel;
+
+/**
+ * Shows a recorded game on the map, moving through its turns and commands.
+ */
+public class ReplayView extends JFrame implements View {
+
+    private static final long serialVersionUID = -2871940286815622474L;
+    private static final String TITLE = "Jurassiko - Replay";
+
+    private final transient Replay replay;
+    private final MapPanel panel;
+    private final JSlider turns;
+    private final JLabel status;
+    private boolean updating;
+
+    /**
+     * Set up the map and the controls of the replay.
+     *
+     * @param replay the recorded game
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The replay is driven by this view by design")
+    public ReplayView(final Replay replay) {
+        this.replay = replay;
+        this.panel = new MapPanel(replay.getEngine());
+        this.turns = new JSlider(0, replay.getTurnCount() - 1, replay.getTurn());
+        this.status = new JLabel();
+        final JButton previousTurn = new JButton("<<");
+        final JButton previous = new JButton("<");
+        final JButton next = new JButton(">");
+        final JButton nextTurn = new JButton(">>");
+        previousTurn.addActionListener(e -> seekTurn(Math.max(0, replay.getTurn() - 1)));
+        previous.addActionListener(e -> seek(Math.max(0, replay.getPosition() - 1)));
+        next.addActionListener(e -> seek(Math.min(replay.size(), replay.getPosition() + 1)));
+        nextTurn.addActionListener(e -> seekTurn(Math.min(replay.getTurnCount() - 1, replay.getTurn() + 1)));
+        this.turns.addChangeListener(e -> {
+            if (!updating && !turns.getValueIsAdjusting()) {
+                seekTurn(turns.getValue());
+            }
+        });
+        final JPanel controls = new JPanel(new FlowLayout());
+        controls.add(previousTurn);
+        controls.add(previous);
+        controls.add(turns);
+        controls.add(next);
+        controls.add(nextTurn);
+        controls.add(status);
+        this.setTitle(TITLE);
+        this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        this.setResizable(false);
+        this.add(panel, BorderLayout.CENTER);
+        this.add(controls, BorderLayout.SOUTH);
+        updatePanel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void display() {
+        super.pack();
+        this.setLocationRelativeTo(null);
+        this.setVisible(true);
+    }
+
+    /**
+     * Update the map and the controls to the current position of the replay.
+     */
+    public final void updatePanel() {
+        final var engine = replay.getEngine();
+        this.panel.updateBoard();
+        this.updating = true;
+        this.turns.setValue(replay.getTurn());
+        this.updating = false;
+        this.status.setText("Turno " + (replay.getTurn() + 1) + "/" + replay.getTurnCount()
+                + " - Mossa " + replay.getPosition() + "/" + replay.size()
+                + " - " + engine.getCurrentPlayer().getColor().getColorName()
+                + " - " + engine.getGamePhase());
+    }
+
+    /**
+     * Moves the replay to the given amount of commands.
+     *
+     * @param position the amount of commands
+     */
+    private void seek(final int position) {
+        try {
+            replay.seek(position);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to read the log of the game", e);
+        }
+        updatePanel();
+    }
+
+    /**
+     * Moves the replay to the start of the given turn.
+     *
+     * @param turn the index of the turn
+     */
+    private void seekTurn(final int turn) {
+        try {
+            replay.seekTurn(turn);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to read the log of the game", e);
+        }
+        updatePanel();
+    }
+
+}
@@ -4,12 +4,15 @@ import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.Image;
 import java.awt.Toolkit;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
 
 import it.unibo.jurassiko.controller.api.MainController;
+import it.unibo.jurassiko.core.api.GameChanges;
 import it.unibo.jurassiko.view.gamescreen.api.View;
 import it.unibo.jurassiko.view.panels.MapPanel;
 import it.unibo.jurassiko.view.panels.TopBarPanel;
@@ -40,7 +43,14 @@ public class ViewImpl extends JFrame implements View {
         this.cardWindow = new CardWindow(mainContr);
         this.buttons = new TopBarPanel(mainContr, this.objectiveCard, this.cardWindow);
         this.setTitle(TITLE);
-        this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // The game is saved before the application exits
+        this.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent e) {
+                mainContr.closeGame();
+            }
+        });
         this.setResizable(false);
         this.add(panel, BorderLayout.CENTER);
         this.add(buttons, BorderLayout.NORTH);
@@ -81,13 +91,22 @@ public class ViewImpl extends JFrame implements View {
     }
 
     /**
-     * Update all the Panel, Label in the frame.
+     * Update the Panel, Label in the frame showing the changed parts of the
+     * game.
+     * 
+     * @param changes the parts of the game changed
      */
-    public void updatePanel() {
-        this.panel.updateBoard();
-        this.buttons.updateTopBar();
-        this.objectiveCard.updateObjective();
-        this.cardWindow.updateCard();
+    public void updatePanel(final GameChanges changes) {
+        this.panel.updateBoard(changes);
+        if (changes.phase() || changes.turn()) {
+            this.buttons.updateTopBar();
+        }
+        if (changes.turn()) {
+            this.objectiveCard.updateObjective();
+        }
+        if (changes.turn() || !changes.hands().isEmpty()) {
+            this.cardWindow.updateCard();
+        }
     }
 
     /**
@@ -6,17 +6,22 @@ import javax.swing.JLabel;
 import javax.swing.JLayeredPane;
 import javax.swing.JPanel;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import it.unibo.jurassiko.common.Pair;
 import it.unibo.jurassiko.controller.api.MainController;
+import it.unibo.jurassiko.core.api.GameChanges;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
 import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Ocean;
+import it.unibo.jurassiko.model.territory.api.Territory;
 import it.unibo.jurassiko.reader.impl.SpritePositionsReader;
 import it.unibo.jurassiko.view.gamescreen.impl.ViewImpl;
 
@@ -34,16 +39,38 @@ public class MapPanel extends JPanel {
 
     private final Map<String, DinoDisplay> territoryViews;
     private final Map<String, DinoDisplay> oceanViews;
-    private final transient MainController controller;
+    private final transient Supplier<Map<Territory, Pair<GameColor, Integer>>> territories;
+    private final transient Supplier<Optional<Pair<Ocean, GameColor>>> ocean;
 
     /**
      * Set the map in the relevant label and add it to the LayeredPane.
      * 
      * @param controller is the MainController
      */
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "MainController instance is needed on this class by design")
     public MapPanel(final MainController controller) {
-        this.controller = controller;
+        this(controller::getTerritoriesMap, controller::getCurrentOcean);
+    }
+
+    /**
+     * Set the map showing a game without any controller, for example a replayed
+     * one.
+     * 
+     * @param engine the game to show
+     */
+    public MapPanel(final HeadlessEngine engine) {
+        this(engine::getTerritoriesMap, engine::getCurrentOcean);
+    }
+
+    /**
+     * Set the map in the relevant label and add it to the LayeredPane.
+     * 
+     * @param territories supplies the owner and the dino of every territory
+     * @param ocean       supplies the selected ocean and its owner
+     */
+    private MapPanel(final Supplier<Map<Territory, Pair<GameColor, Integer>>> territories,
+            final Supplier<Optional<Pair<Ocean, GameColor>>> ocean) {
+        this.territories = territories;
+        this.ocean = ocean;
         this.territoryViews = new HashMap<>();
         this.oceanViews = new HashMap<>();
 
@@ -81,15 +108,33 @@ public class MapPanel extends JPanel {
      * Update this Panel in order to Display the Correct amount of dino and color.
      */
     public void updateBoard() {
-        final var territoriesMap = this.controller.getTerritoriesMap();
-        final var currentOcean = this.controller.getCurrentOcean();
-        territoriesMap.entrySet().stream().forEach(t -> {
-            final String territoryName = t.getKey().getName();
-            final DinoDisplay display = this.territoryViews.get(territoryName);
-            display.setSpriteColor(t.getValue().x());
-            display.setNumber(t.getValue().y());
-        });
+        this.territories.get().forEach(this::updateTerritory);
+        updateOcean();
+    }
+
+    /**
+     * Update only the territories and the ocean that changed.
+     * 
+     * @param changes the parts of the game changed
+     */
+    public void updateBoard(final GameChanges changes) {
+        if (!changes.territories().isEmpty()) {
+            final var territoriesMap = this.territories.get();
+            changes.territories().forEach(t -> updateTerritory(t, territoriesMap.get(t)));
+        }
+        if (changes.ocean()) {
+            updateOcean();
+        }
+    }
+
+    private void updateTerritory(final Territory territory, final Pair<GameColor, Integer> content) {
+        final DinoDisplay display = this.territoryViews.get(territory.getName());
+        display.setSpriteColor(content.x());
+        display.setNumber(content.y());
+    }
 
+    private void updateOcean() {
+        final var currentOcean = this.ocean.get();
         this.oceanViews.values().forEach(o -> o.setSpriteColor(GameColor.DEFAULT));
         if (currentOcean.isPresent()) {
             final var currentOceanContent = currentOcean.get();
@@ -37,6 +37,7 @@ public class MenuPanel extends JPanel {
     private static final long serialVersionUID = 1L;
 
     private static final String START = "Start";
+    private static final String RESUME = "Resume";
     private static final String QUIT = "Quit";
     private static final String RULE = "Rules";
     private static final String FONT_STYLE = "Serif";
@@ -75,6 +76,7 @@ public class MenuPanel extends JPanel {
         bgLabel.setOpaque(false);
 
         final JButton start = createButton(START, getButtonDimension());
+        final JButton resume = createButton(RESUME, getButtonDimension());
         final JButton quit = createButton(QUIT, getButtonDimension());
         final JPanel buttonPanel = new JPanel();
         buttonPanel.setLayout(new GridBagLayout());
@@ -88,6 +90,15 @@ public class MenuPanel extends JPanel {
             controller.startGame();
         });
 
+        resume.addActionListener(e -> {
+            if (controller.resumeGame()) {
+                frame.dispose();
+            } else {
+                JOptionPane.showMessageDialog(this, "There is no saved game to resume.", RESUME,
+                        JOptionPane.INFORMATION_MESSAGE);
+            }
+        });
+
         quit.addActionListener(e -> {
             final String[] options = { "Yes", "No" };
             final var result = JOptionPane.showOptionDialog(this, "Do you want to QUIT the game?",
@@ -114,6 +125,7 @@ public class MenuPanel extends JPanel {
         final JButton rules = createButton(RULE, getButtonDimension());
         rules.addActionListener(e -> JOptionPane.showMessageDialog(this, tempBuilder.toString()));
         addButton(buttonPanel, start, gbc);
+        addButton(buttonPanel, resume, gbc);
         addButton(buttonPanel, quit, gbc);
         addButton(buttonPanel, rules, gbc);
 
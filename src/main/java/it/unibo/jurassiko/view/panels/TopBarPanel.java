@@ -42,7 +42,10 @@ public class TopBarPanel extends JPanel {
     private static final String OBJ_BUTTON_NAME = "Obiettivo";
     private static final String PLACE_BUTTON_NAME = "Piazzamento";
     private static final String ATK_BUTTON_NAME = "Attacco";
+    private static final String BLITZ_BUTTON_NAME = "Blitz";
     private static final String ENDTURN_BUTTON_NAME = "Fine Turno";
+    private static final String UNDO_BUTTON_NAME = "Annulla";
+    private static final String REDO_BUTTON_NAME = "Ripeti";
     private static final String ENDTURN_DIALOG_QUESTION = "Vuoi effettuare uno spostamento prima di terminare il turno?";
 
     private final transient MainController controller;
@@ -54,7 +57,10 @@ public class TopBarPanel extends JPanel {
     private final JButton cards;
     private final JButton place;
     private final JButton attack;
+    private final JButton blitz;
     private final JButton endTurn;
+    private final JButton undo;
+    private final JButton redo;
 
     /**
      * Set the top-bar in the relevant label load the buttons in it,
@@ -88,7 +94,10 @@ public class TopBarPanel extends JPanel {
         this.cards = new JButton("Carte");
         this.place = new JButton(PLACE_BUTTON_NAME);
         this.attack = new JButton(ATK_BUTTON_NAME);
+        this.blitz = new JButton(BLITZ_BUTTON_NAME);
         this.endTurn = new JButton(ENDTURN_BUTTON_NAME);
+        this.undo = new JButton(UNDO_BUTTON_NAME);
+        this.redo = new JButton(REDO_BUTTON_NAME);
         this.loadLabel();
         this.topLabel.setBounds(0, 0, width, height);
         this.setLayout(new BorderLayout());
@@ -105,8 +114,10 @@ public class TopBarPanel extends JPanel {
         this.place.addActionListener(e -> this.controller.startGameLoop());
         this.cards.addActionListener(e -> this.cardWindow.showCards());
         this.attack.addActionListener(e -> this.controller.openTerritorySelector());
+        this.blitz.addActionListener(e -> this.controller.openBlitzSelector());
+        this.undo.addActionListener(e -> this.controller.undo());
+        this.redo.addActionListener(e -> this.controller.redo());
         this.endTurn.addActionListener(e -> {
-            controller.getCurrentPlayer().setAssigned(false);
             final String[] options = { "Si", "No" };
             final int result = JOptionPane.showOptionDialog(this,
                     ENDTURN_DIALOG_QUESTION,
@@ -132,7 +143,10 @@ public class TopBarPanel extends JPanel {
         this.objective.setFont(font);
         this.place.setFont(font);
         this.attack.setFont(font);
+        this.blitz.setFont(font);
         this.endTurn.setFont(font);
+        this.undo.setFont(font);
+        this.redo.setFont(font);
         this.currentPlayer.setFont(font);
         // CHECKSTYLE: MagicNumber OFF
         // Simple incremental grid x value
@@ -141,7 +155,10 @@ public class TopBarPanel extends JPanel {
         addComponent(objective, 2, 0);
         addComponent(place, 3, 0);
         addComponent(attack, 4, 0);
-        addComponent(endTurn, 5, 0);
+        addComponent(blitz, 5, 0);
+        addComponent(endTurn, 6, 0);
+        addComponent(undo, 7, 0);
+        addComponent(redo, 8, 0);
         // CHECKSTYLE: MagicNumber ON
     }
 
@@ -179,12 +196,18 @@ public class TopBarPanel extends JPanel {
             }
             case ATTACK_FIRST_PART -> {
                 this.attack.setEnabled(true);
+                this.blitz.setEnabled(true);
                 this.endTurn.setEnabled(true);
             }
-            case ATTACK_SECOND_PART -> this.attack.setEnabled(true);
+            case ATTACK_SECOND_PART -> {
+                this.attack.setEnabled(true);
+                this.blitz.setEnabled(true);
+            }
             case MOVEMENT_FIRST_PART, MOVEMENT_SECOND_PART -> this.endTurn.setEnabled(true);
             default -> throw new IllegalArgumentException("Invalid game phase");
         }
+        this.undo.setEnabled(controller.canUndo());
+        this.redo.setEnabled(controller.canRedo());
     }
 
     /**
@@ -193,7 +216,10 @@ public class TopBarPanel extends JPanel {
     private void disableAllJButtons() {
         this.place.setEnabled(false);
         this.attack.setEnabled(false);
+        this.blitz.setEnabled(false);
         this.endTurn.setEnabled(false);
+        this.undo.setEnabled(false);
+        this.redo.setEnabled(false);
     }
 
     /**
@@ -2,13 +2,11 @@ package it.unibo.jurassiko.view.windows;
 
 import java.awt.Dimension;
 import java.awt.GridLayout;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.swing.JButton;
@@ -18,10 +16,12 @@ import javax.swing.JPanel;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jurassiko.controller.api.MainController;
 import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.territory.api.Ocean;
 import it.unibo.jurassiko.model.territory.api.Territory;
-import it.unibo.jurassiko.model.territory.impl.OceanFactoryImpl;
-import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
 import it.unibo.jurassiko.view.gamescreen.api.View;
 import it.unibo.jurassiko.view.gamescreen.impl.ViewImpl;
 
@@ -44,7 +44,8 @@ public class TerritorySelector extends JFrame implements View {
     private final Map<String, JButton> oceanButtons;
 
     private final transient MainController mainContr;
-    private int totalClicks;
+    private final transient TerritoryRegistry registry;
+    private final transient MoveBuffer moves;
     @SuppressFBWarnings("SE_BAD_FIELD")
     private Optional<String> selectedTerritory;
 
@@ -59,8 +60,10 @@ public class TerritorySelector extends JFrame implements View {
         this.territoryButtons = new HashMap<>();
         this.oceanButtons = new HashMap<>();
         this.selectedTerritory = Optional.empty();
-        final Set<Territory> allTerritories = new TerritoryFactoryImpl().createTerritories();
-        final Set<Ocean> allOceans = new OceanFactoryImpl().createOceans();
+        this.registry = BoardCatalogImpl.getDefault().getRegistry();
+        this.moves = new MoveBufferImpl();
+        final Set<Territory> allTerritories = Set.copyOf(registry.getTerritories());
+        final Set<Ocean> allOceans = Set.copyOf(registry.getOceans());
 
         final Set<String> territoryNames = allTerritories.stream().map(Territory::getName).collect(Collectors.toSet());
         final Set<String> oceanNames = allOceans.stream().map(Ocean::getName).collect(Collectors.toSet());
@@ -153,9 +156,11 @@ public class TerritorySelector extends JFrame implements View {
     private JButton createJButton(final String name) {
         final var button = new JButton(name);
         button.addActionListener(e -> {
+            final Phase phase = mainContr.getGamePhase();
             mainContr.manageSelection(name);
-            switch (mainContr.getGamePhase()) {
-                case PLACEMENT -> totalClicks++;
+            switch (phase) {
+                case PLACEMENT -> {
+                }
                 case ATTACK_FIRST_PART -> {
                     selectedTerritory = Optional.of(name);
                     mainContr.setGamePhase(Phase.ATTACK_SECOND_PART);
@@ -181,22 +186,6 @@ public class TerritorySelector extends JFrame implements View {
         return button;
     }
 
-    /**
-     * Get the total amount of Clicks of the all the buttons.
-     * 
-     * @return total amount of clicks
-     */
-    public int getTotalClicks() {
-        return totalClicks;
-    }
-
-    /**
-     * Reset the total amount of Clicks of the all the buttons.
-     */
-    public void resetTotalClicks() {
-        totalClicks = 0;
-    }
-
     /**
      * Gets the Selected Territory.
      * 
@@ -223,47 +212,49 @@ public class TerritorySelector extends JFrame implements View {
     }
 
     /**
-     * Update the Enabled Buttons based on the Phase of the Game.
+     * Update the Enabled Buttons based on the legal actions of the current
+     * player. In the first part of the attack and of the movement the
+     * territories the action can start from are enabled, in the second part the
+     * ones reachable from the selected territory.
      */
     public void updateButtons() {
         disableAllJButtons();
-        switch (mainContr.getGamePhase()) {
-            case PLACEMENT -> {
-                if (totalClicks == 0 && !mainContr.isFirstTurn()) {
-                    activateButton(oceanButtons.values(), t -> true);
-                } else {
-                    activateButton(territoryButtons.values(), t -> mainContr.isAllyTerritory(t));
-                }
-            }
-            case ATTACK_FIRST_PART -> {
-                if (selectedTerritory.isEmpty()) {
-                    activateButton(territoryButtons.values(),
-                            t -> mainContr.isAllyTerritoryWithMoreThanOne(t) && mainContr.hasAdjEnemy(t));
-                }
-            }
-            case ATTACK_SECOND_PART -> {
-                if (selectedTerritory.isPresent()) {
-                    activateButton(territoryButtons.values(),
-                            t -> mainContr.getAdj(selectedTerritory.get()).contains(t)
-                                    && !mainContr.isAllyTerritory(t));
-                }
-            }
-            case MOVEMENT_FIRST_PART -> {
-                if (selectedTerritory.isEmpty()) {
-                    activateButton(territoryButtons.values(),
-                            t -> mainContr.isAllyTerritoryWithMoreThanOne(t) && mainContr.hasAdjAlly(t));
+        mainContr.generateMoves(moves);
+        final boolean firstPart = switch (mainContr.getGamePhase()) {
+            case PLACEMENT, ATTACK_FIRST_PART, MOVEMENT_FIRST_PART -> true;
+            case ATTACK_SECOND_PART, MOVEMENT_SECOND_PART -> false;
+            default -> throw new IllegalArgumentException("Invalid Phase");
+        };
+        if (firstPart == selectedTerritory.isPresent()) {
+            return;
+        }
+        final int selectedId = selectedTerritory.map(registry::getTerritoryId).orElse(-1);
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final int from = MoveBuffer.getFrom(move);
+            switch (MoveBuffer.getKind(move)) {
+                case MoveBuffer.PLACE_OCEAN -> oceanButtons.get(registry.getOcean(from).getName()).setEnabled(true);
+                case MoveBuffer.PLACE -> enableTerritory(from);
+                case MoveBuffer.ATTACK, MoveBuffer.MOVE -> {
+                    if (firstPart) {
+                        enableTerritory(from);
+                    } else if (from == selectedId) {
+                        enableTerritory(MoveBuffer.getTo(move));
+                    }
                 }
-            }
-            case MOVEMENT_SECOND_PART -> {
-                if (selectedTerritory.isPresent()) {
-                    activateButton(territoryButtons.values(),
-                            t -> mainContr.getAdj(selectedTerritory.get()).contains(t)
-                                    && mainContr.isAllyTerritory(t));
+                default -> {
                 }
             }
-            default -> throw new IllegalArgumentException("Invalid Phase");
         }
+    }
 
+    /**
+     * Enables the button of a territory.
+     * 
+     * @param id id of the territory
+     */
+    private void enableTerritory(final int id) {
+        territoryButtons.get(registry.getTerritory(id).getName()).setEnabled(true);
     }
 
     /**
@@ -277,18 +268,4 @@ public class TerritorySelector extends JFrame implements View {
             jb.setEnabled(false);
         }
     }
-
-    /**
-     * Given certain condition activate the button.
-     * 
-     * @param buttons   Collection of JButtons to modify
-     * @param condition if the condition is true will activate the button
-     */
-    private void activateButton(final Collection<JButton> buttons, final Predicate<String> condition) {
-        for (final var jb : buttons) {
-            if (condition.test(jb.getText())) {
-                jb.setEnabled(true);
-            }
-        }
-    }
 }
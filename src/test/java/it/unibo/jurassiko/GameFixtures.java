@@ -0,0 +1,88 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+
+/**
+ * Games and files shared by the tests that save and replay games.
+ */
+final class GameFixtures {
+
+    private GameFixtures() {
+    }
+
+    /**
+     * Gets a path for a new file, in a new temporary folder so that no other
+     * process can take it.
+     *
+     * @param name the name of the file
+     * @return the path of a file that does not exist
+     * @throws IOException if the folder cannot be created
+     */
+    static Path newPath(final String name) throws IOException {
+        return Files.createTempDirectory("jurassiko").resolve(name);
+    }
+
+    /**
+     * Deletes a file created by {@link #newPath(String)} together with its
+     * folder.
+     *
+     * @param path the file
+     * @throws IOException if the file cannot be deleted
+     */
+    static void delete(final Path path) throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(path.getParent());
+    }
+
+    /**
+     * Plays some turns of a game with a bot seeded like the game.
+     *
+     * @param engine the game
+     * @param turns  the maximum amount of turns, fewer if someone wins
+     */
+    static void play(final HeadlessEngine engine, final int turns) {
+        final Bot bot = new RandomBot(engine.getSeed());
+        for (int i = 0; i < turns && engine.getWinner().isEmpty(); i++) {
+            bot.playTurn(engine);
+        }
+    }
+
+    /**
+     * Checks that two games are in the same state, including the order of the
+     * deck and the cards in the hand of every player.
+     *
+     * @param expected the expected game
+     * @param actual   the game to check
+     */
+    static void assertSameGame(final HeadlessEngine expected, final HeadlessEngine actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getTerritoriesMap(), actual.getTerritoriesMap());
+        assertEquals(expected.getCurrentOcean(), actual.getCurrentOcean());
+        assertEquals(expected.getCurrentPlayer().getColor(), actual.getCurrentPlayer().getColor());
+        assertEquals(expected.getGamePhase(), actual.getGamePhase());
+        assertEquals(expected.isFirstTurn(), actual.isFirstTurn());
+        assertEquals(expected.getPlacedDino(), actual.getPlacedDino());
+        assertEquals(expected.getDeck().size(), actual.getDeck().size());
+        for (int i = 0; i < expected.getDeck().size(); i++) {
+            assertEquals(expected.getDeck().getCard(i), actual.getDeck().getCard(i));
+        }
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            final var player = expected.getPlayers().get(i);
+            final var other = actual.getPlayers().get(i);
+            assertEquals(player.getColor(), other.getColor());
+            assertEquals(player.getObjective(), other.getObjective());
+            assertEquals(player.getState(), other.getState());
+            assertEquals(player.getTypeMap(), other.getTypeMap());
+        }
+    }
+
+}
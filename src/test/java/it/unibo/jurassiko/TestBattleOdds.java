@@ -0,0 +1,125 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.model.battle.api.AttackOdds;
+import it.unibo.jurassiko.model.battle.api.BattleOdds;
+import it.unibo.jurassiko.model.battle.impl.BattleOddsImpl;
+
+/**
+ * Test for the exact odds of the battles.
+ */
+class TestBattleOdds {
+
+    private static final double DELTA = 1e-12;
+    private static final double ALL_DICE = 7776.0;
+    private static final int MAX_ARMY = 30;
+    private static final int LARGE_ARMY = 500;
+    private static final int SAMPLES = 100_000;
+    private static final double SAMPLE_DELTA = 0.01;
+    private static final long SEED = 7;
+
+    private BattleOdds battleOdds;
+
+    @BeforeEach
+    void init() {
+        this.battleOdds = new BattleOddsImpl();
+    }
+
+    @Test
+    void testRollOdds() {
+        assertEquals(15 / 36.0, battleOdds.getRollProbability(1, 1, 0), DELTA);
+        assertEquals(21 / 36.0, battleOdds.getRollProbability(1, 1, 1), DELTA);
+        assertEquals(2890 / ALL_DICE, battleOdds.getRollProbability(3, 2, 0), DELTA);
+        assertEquals(2611 / ALL_DICE, battleOdds.getRollProbability(3, 2, 1), DELTA);
+        assertEquals(2275 / ALL_DICE, battleOdds.getRollProbability(3, 2, 2), DELTA);
+        assertEquals(0.0, battleOdds.getRollProbability(3, 2, 3), DELTA);
+        for (int a = 1; a <= BattleOdds.MAX_DICE; a++) {
+            for (int d = 1; d <= BattleOdds.MAX_DICE; d++) {
+                double total = 0;
+                for (int losses = 0; losses <= Math.min(a, d); losses++) {
+                    total += battleOdds.getRollProbability(a, d, losses);
+                }
+                assertEquals(1, total, DELTA);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> battleOdds.getRollProbability(4, 1, 0));
+    }
+
+    @Test
+    void testAttackOdds() {
+        final AttackOdds single = battleOdds.getAttackOdds(2, 1);
+        assertEquals(15 / 36.0, single.getConquestProbability(), DELTA);
+        assertEquals(15 / 36.0, single.getConquestProbability(2), DELTA);
+        assertEquals(21 / 36.0, single.getStopProbability(1, 1), DELTA);
+        assertEquals(21 / 36.0, single.getExpectedAttackerLosses(), DELTA);
+        assertEquals(0.0, battleOdds.getAttackOdds(1, 1).getConquestProbability(), DELTA);
+        assertSame(single, battleOdds.getAttackOdds(2, 1));
+
+        double previous = 0;
+        for (int attackers = 2; attackers <= MAX_ARMY; attackers++) {
+            final AttackOdds odds = battleOdds.getAttackOdds(attackers, MAX_ARMY / 2);
+            double total = odds.getConquestProbability();
+            for (int d = 0; d <= odds.getDefenders(); d++) {
+                total += odds.getStopProbability(d);
+            }
+            assertEquals(1, total, DELTA);
+            assertTrue(odds.getConquestProbability() >= previous);
+            previous = odds.getConquestProbability();
+        }
+
+        // Stopping earlier can only lower the chance of conquest
+        assertTrue(battleOdds.getAttackOdds(MAX_ARMY, MAX_ARMY, MAX_ARMY / 2).getConquestProbability()
+                < battleOdds.getAttackOdds(MAX_ARMY, MAX_ARMY).getConquestProbability());
+        // Every limit of the same attack keeps a whole distribution
+        for (int minAttackers = 1; minAttackers <= MAX_ARMY; minAttackers++) {
+            final AttackOdds odds = battleOdds.getAttackOdds(MAX_ARMY, MAX_ARMY / 2, minAttackers);
+            double total = odds.getConquestProbability();
+            for (int a = 0; a <= MAX_ARMY; a++) {
+                for (int d = 0; d <= MAX_ARMY / 2; d++) {
+                    total += odds.getStopProbability(a, d);
+                }
+            }
+            assertEquals(1, total, DELTA);
+        }
+        assertEquals(125 / 216.0, battleOdds.getAttackOdds(3, 1, 2).getConquestProbability(), DELTA);
+        assertEquals(91 / 216.0, battleOdds.getAttackOdds(3, 1, 2).getStopProbability(2, 1), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> battleOdds.getAttackOdds(0, 1));
+    }
+
+    @Test
+    void testSample() {
+        final RandomGenerator random = new SplittableRandom(SEED);
+        final AttackOdds odds = battleOdds.getAttackOdds(MAX_ARMY, MAX_ARMY / 2);
+        int conquests = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final var end = odds.sample(random);
+            if (end.y() == 0) {
+                conquests++;
+                assertTrue(odds.getConquestProbability(end.x()) > 0);
+            } else {
+                assertTrue(odds.getStopProbability(end.x(), end.y()) > 0);
+            }
+        }
+        assertEquals(odds.getConquestProbability(), (double) conquests / SAMPLES, SAMPLE_DELTA);
+        assertEquals(1, battleOdds.getAttackOdds(1, 1).sample(random).x());
+
+        // Armies of hundreds draw their final state from the same kind of table
+        final AttackOdds large = battleOdds.getAttackOdds(LARGE_ARMY, LARGE_ARMY, LARGE_ARMY - MAX_ARMY);
+        for (int i = 0; i < MAX_ARMY; i++) {
+            final var end = large.sample(random);
+            assertTrue(end.x() <= LARGE_ARMY - MAX_ARMY || end.y() == 0);
+            assertTrue(end.x() > LARGE_ARMY - MAX_ARMY - BattleOdds.MAX_DICE);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.api.BoardCatalog;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardImpl;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
+
+/**
+ * Test for the compact Board.
+ */
+class TestBoard {
+
+    private static final int SIZE = 21;
+    private static final int LAST_ID = SIZE - 1;
+
+    private Board board;
+
+    @BeforeEach
+    void init() {
+        this.board = new BoardImpl(SIZE);
+    }
+
+    @Test
+    void testOwnersAndDino() {
+        assertEquals(SIZE, board.size());
+        assertEquals(GameColor.DEFAULT, board.getOwner(0));
+        assertEquals(0, board.getDino(0));
+        board.setOwner(LAST_ID, GameColor.GREEN);
+        board.setDino(LAST_ID, 2);
+        board.addDino(LAST_ID, -1);
+        assertEquals(GameColor.GREEN, board.getOwner(LAST_ID));
+        assertEquals(1, board.getDino(LAST_ID));
+    }
+
+    @Test
+    void testCopy() {
+        board.setOwner(0, GameColor.RED);
+        board.setDino(0, 2);
+        final Board copy = board.copy();
+        board.setOwner(0, GameColor.BLUE);
+        board.addDino(0, 1);
+        assertEquals(GameColor.RED, copy.getOwner(0));
+        assertEquals(2, copy.getDino(0));
+
+        copy.copyFrom(board);
+        assertEquals(GameColor.BLUE, copy.getOwner(0));
+        assertEquals(3, copy.getDino(0));
+        assertThrows(IllegalArgumentException.class, () -> copy.copyFrom(new BoardImpl(1)));
+    }
+
+    @Test
+    void testCatalog() {
+        final BoardCatalog catalog = BoardCatalogImpl.getDefault();
+        assertSame(catalog, BoardCatalogImpl.getDefault());
+        assertEquals(SIZE, catalog.getRegistry().getTerritoryCount());
+        // Territories read again from the file are equal to the shared ones
+        assertEquals(new TerritoryFactoryImpl().createTerritories(),
+                Set.copyOf(catalog.getRegistry().getTerritories()));
+
+        final HeadlessEngine first = new HeadlessEngineImpl(catalog);
+        final HeadlessEngine second = new HeadlessEngineImpl(catalog);
+        assertSame(first.getRegistry(), second.getRegistry());
+        assertEquals(catalog.getCards().size(), first.getDeck().size());
+    }
+
+}
@@ -1,17 +1,21 @@
 package it.unibo.jurassiko;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
 import java.util.Set;
 
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.borders.api.Border;
 import it.unibo.jurassiko.model.borders.impl.BorderImpl;
 import it.unibo.jurassiko.model.territory.api.Ocean;
 import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
 import it.unibo.jurassiko.model.territory.impl.OceanFactoryImpl;
 import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
 
@@ -53,4 +57,33 @@ class TestBorder {
         assertNotEquals(NEIGHBOUR_NAMES, this.border.getTerritoriesBorder(terr1, ocean2));
         assertEquals(NEIGHBOUR_NAME_2, this.border.getTerritoriesBorder(terr1, ocean2));
     }
+
+    @Test
+    void testNeighboursBitmask() {
+        final TerritoryRegistry registry = BoardCatalogImpl.getDefault().getRegistry();
+        final Border precomputed = new BorderImpl(registry);
+        for (int oceanId = 0; oceanId < registry.getOceanCount(); oceanId++) {
+            final Ocean ocean = registry.getOcean(oceanId);
+            for (int id = 0; id < registry.getTerritoryCount(); id++) {
+                final Territory terr = registry.getTerritory(id);
+                final long mask = precomputed.getNeighbours(id, oceanId);
+                for (int other = 0; other < registry.getTerritoryCount(); other++) {
+                    final boolean expected = other != id
+                            && this.border.getTerritoriesBorder(terr, ocean)
+                                    .contains(registry.getTerritory(other).getName());
+                    assertEquals(expected, (mask & 1L << other) != 0);
+                    assertEquals(expected, precomputed.isAdjacent(id, other, oceanId));
+                }
+            }
+        }
+        final int madagascar = registry.getTerritoryId(TERRITORY_NAME_1);
+        final int india = registry.getTerritoryId("India");
+        final int tibet = registry.getTerritoryId("Tibet");
+        assertTrue(precomputed.isAdjacent(madagascar, india, Border.NO_OCEAN));
+        assertFalse(precomputed.isAdjacent(madagascar, tibet, Border.NO_OCEAN));
+        assertTrue(precomputed.isAdjacent(madagascar, tibet, registry.getOceanId(OCEAN_NAME_2)));
+        assertEquals(precomputed.getNeighbours(madagascar, Border.NO_OCEAN)
+                | precomputed.getNeighbours(tibet, Border.NO_OCEAN),
+                precomputed.getNeighboursOf(1L << madagascar | 1L << tibet, Border.NO_OCEAN));
+    }
 }
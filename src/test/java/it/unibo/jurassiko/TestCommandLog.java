@@ -0,0 +1,195 @@
+package it.unibo.jurassiko;
+
+import static it.unibo.jurassiko.GameFixtures.assertSameGame;
+import static it.unibo.jurassiko.GameFixtures.play;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.log.impl.CommandLogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Test for the CommandLog, replaying games played by bots.
+ */
+class TestCommandLog {
+
+    private static final long SEED = 11;
+    private static final int TURNS = 12;
+    private static final int SYNC_INTERVAL = 16;
+    private static final int UNDO_COMMANDS = 5;
+    private static final int BULK_COMMANDS = 5;
+
+    @Test
+    void testReplay() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        try {
+            final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+            final HeadlessEngine.Snapshot middle;
+            final int middleSize;
+            try (CommandLog log = CommandLogImpl.create(path, engine, SYNC_INTERVAL)) {
+                play(engine, TURNS / 2);
+                middle = engine.snapshot();
+                middleSize = log.size();
+                play(engine, TURNS / 2);
+                assertTrue(log.size() > middleSize);
+            }
+
+            try (CommandLog log = open(path)) {
+                assertEquals(SEED, log.getSeed());
+                final HeadlessEngine replayed = new HeadlessEngineImpl(log.getSeed());
+                log.replay(replayed, 0);
+                assertSameGame(engine, replayed);
+
+                final HeadlessEngine restored = new HeadlessEngineImpl(log.getSeed());
+                restored.restore(middle);
+                log.replay(restored, middleSize);
+                assertSameGame(engine, restored);
+
+                // The game goes on, recorded after the commands already in the log
+                replayed.addCommandListener(log);
+                play(replayed, 1);
+                final int size = log.size();
+                final HeadlessEngine continued = new HeadlessEngineImpl(log.getSeed());
+                log.replay(continued, 0);
+                assertSameGame(replayed, continued);
+                assertThrows(IllegalArgumentException.class, () -> log.replay(continued, size + 1));
+            }
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+    @Test
+    void testUndo() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        final CommandLog recorder = CommandLogImpl.create(path, engine, 1);
+        try {
+            final String territory = engine.getCurrentPlayer().getOwnedTerritories().iterator().next().getName();
+            engine.placeDino(territory);
+            engine.placeDino(territory);
+            engine.undo();
+            engine.redo();
+            engine.undo();
+            recorder.close();
+            try (CommandLog log = open(path)) {
+                assertEquals(UNDO_COMMANDS, log.size());
+                final HeadlessEngine replayed = new HeadlessEngineImpl(log.getSeed());
+                log.replay(replayed, 0);
+                assertSameGame(engine, replayed);
+                assertTrue(replayed.canRedo());
+            }
+            // The closed log does not record the game anymore
+            engine.redo();
+            try (CommandLog log = open(path)) {
+                assertEquals(UNDO_COMMANDS, log.size());
+            }
+        } finally {
+            recorder.close();
+            GameFixtures.delete(path);
+        }
+    }
+
+    @Test
+    void testBulkCommands() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        try {
+            final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+            try (CommandLog log = CommandLogImpl.create(path, engine, SYNC_INTERVAL)) {
+                while (engine.isFirstTurn()) {
+                    engine.placeDino(getAllyTerritory(engine), engine.getRemainingDinoToPlace());
+                }
+                final String source = engine.getCurrentPlayer().getOwnedTerritories().stream()
+                        .map(Territory::getName)
+                        .filter(engine::hasAdjAlly)
+                        .findFirst()
+                        .get();
+                final String target = engine.getAdj(source).stream()
+                        .filter(engine::isAllyTerritory)
+                        .findFirst()
+                        .get();
+                final String ocean = engine.getRegistry().getOcean(0).getName();
+                engine.placeAll(List.of(new Placement(ocean, 1),
+                        new Placement(source, engine.getRemainingDinoToPlace() - 1)));
+                engine.undo();
+                engine.redo();
+                engine.setGamePhase(Phase.MOVEMENT_FIRST_PART);
+                engine.moveAll(List.of(new Movement(source, target, 1), new Movement(target, source, 0)));
+                assertEquals(engine.getPlayers().size() + BULK_COMMANDS, log.size());
+            }
+            try (CommandLog log = open(path)) {
+                final HeadlessEngine replayed = new HeadlessEngineImpl(log.getSeed());
+                log.replay(replayed, 0);
+                assertSameGame(engine, replayed);
+            }
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+    @Test
+    void testCrashRecovery() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        try {
+            final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+            final int size;
+            try (CommandLog log = CommandLogImpl.create(path, engine, SYNC_INTERVAL)) {
+                play(engine, 2);
+                size = log.size();
+            }
+            // A crash while the last record was being written
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 1);
+            }
+            final long fileSize = Files.size(path);
+            try (CommandLog log = CommandLogImpl.openReadOnly(path, BoardCatalogImpl.getDefault().getRegistry())) {
+                assertEquals(size - 1, log.size());
+                log.replay(new HeadlessEngineImpl(log.getSeed()), 0);
+                assertThrows(IllegalStateException.class, log::turnEnded);
+            }
+            assertEquals(fileSize, Files.size(path));
+            try (CommandLog log = open(path)) {
+                assertEquals(size - 1, log.size());
+                final HeadlessEngine replayed = new HeadlessEngineImpl(log.getSeed());
+                log.replay(replayed, 0);
+            }
+            // The record has been dropped from the file, so new records follow the valid ones
+            try (CommandLog log = open(path)) {
+                assertEquals(size - 1, log.size());
+            }
+
+            Files.writeString(path, "Not a log");
+            assertThrows(IllegalArgumentException.class, () -> open(path));
+            assertThrows(IllegalArgumentException.class,
+                    () -> CommandLogImpl.create(path.resolveSibling("other.log"), engine, 0));
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+    private static CommandLog open(final Path path) throws IOException {
+        return CommandLogImpl.open(path, BoardCatalogImpl.getDefault().getRegistry(), SYNC_INTERVAL);
+    }
+
+    private static String getAllyTerritory(final HeadlessEngine engine) {
+        return engine.getCurrentPlayer().getOwnedTerritories().iterator().next().getName();
+    }
+
+}
@@ -0,0 +1,55 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.territory.api.Continent;
+import it.unibo.jurassiko.model.territory.api.ContinentBonus;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+import it.unibo.jurassiko.model.territory.impl.ContinentFactoryImpl;
+
+class TestContinent {
+
+    private static final int NUM_CONTINENTS = 4;
+    private static final int NORD_AMERICA_BONUS = 3;
+    private static final int EURASIA_BONUS = 6;
+
+    private TerritoryRegistry registry;
+    private ContinentBonus continentBonus;
+
+    @BeforeEach
+    void init() {
+        this.registry = BoardCatalogImpl.getDefault().getRegistry();
+        this.continentBonus = BoardCatalogImpl.getDefault().getContinentBonus();
+    }
+
+    @Test
+    void testContinentReader() {
+        final Set<Continent> continents = new ContinentFactoryImpl().createContinents();
+        assertEquals(NUM_CONTINENTS, continents.size());
+        assertEquals(NUM_CONTINENTS, continentBonus.getContinents().size());
+        long allTerritories = 0;
+        for (final var continent : continentBonus.getContinents()) {
+            allTerritories |= continentBonus.getTerritories(continent.getName());
+        }
+        assertEquals((1L << registry.getTerritoryCount()) - 1, allTerritories);
+        assertThrows(IllegalArgumentException.class, () -> continentBonus.getTerritories("Atlantide"));
+    }
+
+    @Test
+    void testBonus() {
+        final long nordAmerica = continentBonus.getTerritories("Nord America");
+        final long eurasia = continentBonus.getTerritories("eurasia");
+        assertEquals(0, continentBonus.getBonus(0));
+        assertEquals(0, continentBonus.getBonus(nordAmerica & (nordAmerica - 1)));
+        assertEquals(NORD_AMERICA_BONUS, continentBonus.getBonus(nordAmerica));
+        assertEquals(NORD_AMERICA_BONUS + EURASIA_BONUS, continentBonus.getBonus(nordAmerica | eurasia));
+    }
+
+}
@@ -2,11 +2,13 @@ package it.unibo.jurassiko;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,9 @@ import it.unibo.jurassiko.model.dice.impl.DiceImpl;
  */
 class TestDice {
 
+    private static final int ROLLS = 10;
+    private static final long SEED = 42;
+
     private Dice dice;
     private Set<Integer> possibleValues;
 
@@ -74,4 +79,30 @@ class TestDice {
         }
     }
 
+    /**
+     * Test allocation-free multiple roll method.
+     */
+    @Test
+    void testMultipleSorted() {
+        final int[] rolls = new int[ROLLS];
+        for (int amount = 0; amount <= rolls.length; amount++) {
+            dice.rollMultiple(rolls, amount);
+            for (int i = 0; i < amount; i++) {
+                assertTrue(possibleValues.contains(rolls[i]));
+                assertTrue(i == 0 || rolls[i - 1] >= rolls[i]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> dice.rollMultiple(new int[1], 2));
+    }
+
+    /**
+     * Test that dice with the same seed roll the same values.
+     */
+    @Test
+    void testSeeded() {
+        final Dice first = new DiceImpl(new SplittableRandom(SEED));
+        final Dice second = new DiceImpl(new SplittableRandom(SEED));
+        assertEquals(first.rollMultiple(ROLLS), second.rollMultiple(ROLLS));
+    }
+
 }
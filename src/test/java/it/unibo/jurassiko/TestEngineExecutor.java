@@ -0,0 +1,85 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.core.api.EngineExecutor;
+import it.unibo.jurassiko.core.api.GameState;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.impl.EngineExecutorImpl;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Test for the EngineExecutor, running a game on its own thread.
+ */
+class TestEngineExecutor {
+
+    private static final long SEED = 42;
+    private static final long TIMEOUT = 10;
+
+    @Test
+    void testCommands() throws InterruptedException {
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        final String territory = engine.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .sorted()
+                .findFirst()
+                .get();
+        final int dino = engine.getDinoAmount(territory);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<GameState> states = new CopyOnWriteArrayList<>();
+        final EngineExecutor executor = new EngineExecutorImpl(engine, state -> {
+            events.add(SwingUtilities.isEventDispatchThread() ? "state" : "state off the view thread");
+            states.add(state);
+        });
+        assertThrows(IllegalStateException.class, () -> executor.afterCommand(() -> { }));
+
+        executor.submit(game -> game.placeDino(territory));
+        executor.submit(game -> {
+            executor.afterCommand(() -> events.add("effect"));
+            return game.getPlacedDino();
+        }, placed -> events.add("result " + placed));
+        // A rejected command publishes the state anyway, but no result
+        executor.submit(game -> game.attack(territory, territory), outcome -> events.add("attack"));
+        // A failed command publishes the changes it made, but neither its effects nor its result
+        executor.submit(game -> {
+            executor.afterCommand(() -> events.add("lost effect"));
+            game.placeDino(territory);
+            throw new UncheckedIOException(new IOException("The log cannot be written"));
+        }, result -> events.add("failed"));
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.submit(game -> null, result -> done.countDown());
+        assertTrue(done.await(TIMEOUT, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(List.of("state", "state", "effect", "result 1", "state", "state", "state"), events);
+        // Only the first state has changes, the ones of a new game and of the placement
+        assertEquals(engine.getTerritoriesMap().keySet(), states.get(0).changes().territories());
+        assertTrue(states.get(1).changes().isEmpty());
+        // A state without changes shares everything with the previous one
+        assertSame(states.get(0).territories(), states.get(1).territories());
+        assertSame(states.get(0).players(), states.get(1).players());
+        assertSame(states.get(0).moves(), states.get(1).moves());
+        final GameState last = states.get(states.size() - 1);
+        assertEquals(2, last.placedDino());
+        assertEquals(dino + 2, last.getDinoAmount(territory));
+        assertEquals(engine.getTerritoriesMap(), last.territories());
+        assertEquals(engine.getCurrentPlayer().getColor(), last.getCurrentPlayer().getColor());
+        assertThrows(IllegalArgumentException.class, () -> last.getDinoAmount("Atlantide"));
+    }
+
+}
@@ -0,0 +1,87 @@
+package it.unibo.jurassiko;
+
+import static it.unibo.jurassiko.GameFixtures.assertSameGame;
+import static it.unibo.jurassiko.GameFixtures.play;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.save.api.GameArchive;
+import it.unibo.jurassiko.save.impl.GameArchiveImpl;
+
+/**
+ * Test for the GameArchive, saving games played by bots.
+ */
+class TestGameArchive {
+
+    private static final long SEED = 5;
+    private static final int TURNS = 9;
+    private static final int MAX_SAVE_SIZE = 512;
+
+    private final GameArchive archive = new GameArchiveImpl();
+
+    @Test
+    void testEncode() {
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        assertSameGame(engine, archive.decode(archive.encode(engine)));
+        play(engine, TURNS);
+        final ByteBuffer saved = archive.encode(engine);
+        assertTrue(saved.remaining() < MAX_SAVE_SIZE);
+        final HeadlessEngine loaded = archive.decode(saved);
+        assertSameGame(engine, loaded);
+        // The buffer can be decoded again
+        assertSameGame(engine, archive.decode(saved));
+
+        final ByteBuffer truncated = saved.duplicate().limit(saved.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> archive.decode(truncated));
+        final ByteBuffer otherSeed = ByteBuffer.allocate(saved.remaining()).put(saved.duplicate()).flip();
+        otherSeed.putLong(0, SEED + 1);
+        assertThrows(IllegalArgumentException.class, () -> archive.decode(otherSeed));
+    }
+
+    @Test
+    void testArchive() throws IOException {
+        final Path path = GameFixtures.newPath("games.jsa");
+        try {
+            final HeadlessEngine first = new HeadlessEngineImpl(SEED);
+            play(first, TURNS);
+            final HeadlessEngine second = new HeadlessEngineImpl(SEED + 1);
+            play(second, TURNS);
+            archive.append(path, first);
+            archive.append(path, second);
+            final var games = archive.read(path);
+            assertEquals(2, games.size());
+            assertSameGame(first, archive.decode(games.get(0)));
+            assertSameGame(second, archive.decode(games.get(1)));
+
+            // A crash while a third game was being appended
+            final long size = Files.size(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(MAX_SAVE_SIZE).flip());
+            }
+            assertEquals(2, archive.read(path).size());
+            archive.append(path, first);
+            assertEquals(size + archive.encode(first).remaining() + 2 * Integer.BYTES, Files.size(path));
+            assertEquals(games.size() + 1, archive.read(path).size());
+            assertSameGame(first, archive.decode(archive.read(path).get(2)));
+
+            Files.writeString(path, "Not an archive");
+            assertThrows(IllegalArgumentException.class, () -> archive.read(path));
+            assertThrows(IllegalArgumentException.class, () -> archive.append(path, first));
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+}
@@ -0,0 +1,435 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.core.api.GameChanges;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.core.api.MoveBuffer;
+import it.unibo.jurassiko.core.api.TurnContext;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.core.impl.MoveBufferImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardImpl;
+import it.unibo.jurassiko.model.card.api.Card.CardType;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.territory.api.Territory;
+
+/**
+ * Test for the HeadlessEngine, played without any view.
+ */
+class TestHeadlessEngine {
+
+    private static final int FIRST_TURN_BONUS = 13;
+    private static final String OCEAN_NAME = "Oceano Pacifico";
+    private static final long SEED = 42;
+    private static final int COMBINATION_SIZE = 3;
+
+    private HeadlessEngine engine;
+
+    @BeforeEach
+    void init() {
+        this.engine = new HeadlessEngineImpl();
+    }
+
+    @Test
+    void testFirstTurn() {
+        final GameColor firstColor = engine.getCurrentPlayer().getColor();
+        assertTrue(engine.isFirstTurn());
+        assertEquals(FIRST_TURN_BONUS, engine.getRemainingDinoToPlace());
+        for (int i = 0; i < engine.getPlayers().size(); i++) {
+            final String territory = getAllyTerritory();
+            for (int j = 0; j < FIRST_TURN_BONUS; j++) {
+                engine.placeDino(territory);
+            }
+            assertEquals(FIRST_TURN_BONUS + 1, engine.getDinoAmount(territory));
+        }
+        assertFalse(engine.isFirstTurn());
+        assertEquals(firstColor, engine.getCurrentPlayer().getColor());
+        assertEquals(Phase.PLACEMENT, engine.getGamePhase());
+    }
+
+    @Test
+    void testPlacementRules() {
+        final String enemy = engine.getTerritoriesMap().entrySet().stream()
+                .filter(e -> !e.getValue().x().equals(engine.getCurrentPlayer().getColor()))
+                .findFirst()
+                .get()
+                .getKey()
+                .getName();
+        assertThrows(IllegalArgumentException.class, () -> engine.placeDino(enemy));
+        assertThrows(IllegalStateException.class, () -> engine.attack(getAllyTerritory(), enemy));
+
+        completeFirstTurn();
+        // The first dino of the turn must be placed in an ocean
+        assertThrows(IllegalArgumentException.class, () -> engine.placeDino(getAllyTerritory()));
+        engine.placeDino(OCEAN_NAME);
+        assertEquals(OCEAN_NAME, engine.getCurrentOcean().get().x().getName());
+        assertEquals(engine.getCurrentPlayer().getColor(), engine.getCurrentOcean().get().y());
+
+        final String territory = getAllyTerritory();
+        while (engine.getGamePhase().equals(Phase.PLACEMENT)) {
+            engine.placeDino(territory);
+        }
+        assertEquals(Phase.ATTACK_FIRST_PART, engine.getGamePhase());
+    }
+
+    @Test
+    void testEndTurn() {
+        // The first turn and the placement cannot be skipped
+        assertThrows(IllegalStateException.class, engine::endTurn);
+        completeFirstTurn();
+        assertThrows(IllegalStateException.class, engine::endTurn);
+        assertThrows(IllegalStateException.class, () -> engine.setGamePhase(Phase.ATTACK_FIRST_PART));
+        assertEquals(Phase.PLACEMENT, engine.getGamePhase());
+        completePlacement();
+        final GameColor firstColor = engine.getCurrentPlayer().getColor();
+        engine.setGamePhase(Phase.MOVEMENT_FIRST_PART);
+        // The movement cannot go back to the attack
+        assertThrows(IllegalStateException.class, () -> engine.setGamePhase(Phase.ATTACK_FIRST_PART));
+        engine.endTurn();
+        assertFalse(firstColor.equals(engine.getCurrentPlayer().getColor()));
+        assertEquals(Phase.PLACEMENT, engine.getGamePhase());
+        assertEquals(0, engine.getPlacedDino());
+    }
+
+    @Test
+    void testSeed() {
+        final HeadlessEngine first = new HeadlessEngineImpl(SEED);
+        final HeadlessEngine second = new HeadlessEngineImpl(SEED);
+        assertEquals(SEED, first.getSeed());
+        assertEquals(first.getTerritoriesMap(), second.getTerritoriesMap());
+        for (int i = 0; i < first.getPlayers().size(); i++) {
+            assertEquals(first.getPlayers().get(i).getObjective().getDescription(),
+                    second.getPlayers().get(i).getObjective().getDescription());
+        }
+        for (int i = 0; i < first.getDeck().size(); i++) {
+            assertEquals(first.getDeck().getCard(i).get().getTerritory(),
+                    second.getDeck().getCard(i).get().getTerritory());
+        }
+
+        this.engine = first;
+        completeFirstTurn();
+        this.engine = second;
+        completeFirstTurn();
+        for (final var game : List.of(first, second)) {
+            this.engine = game;
+            completePlacement();
+        }
+        // The same attacks roll the same dice
+        final String attacker = first.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .filter(first::hasAdjEnemy)
+                .filter(first::isAllyTerritoryWithMoreThanOne)
+                .sorted()
+                .findFirst()
+                .get();
+        final String defender = first.getAdj(attacker).stream()
+                .filter(t -> !first.isAllyTerritory(t))
+                .sorted()
+                .findFirst()
+                .get();
+        assertEquals(first.attack(attacker, defender), second.attack(attacker, defender));
+        assertEquals(first.getTerritoriesMap(), second.getTerritoriesMap());
+    }
+
+    @Test
+    void testGenerateMoves() {
+        final MoveBuffer moves = new MoveBufferImpl();
+        final var registry = engine.getRegistry();
+        engine.generateMoves(moves);
+        assertEquals(engine.getCurrentPlayer().getOwnedTerritories().size(), moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(MoveBuffer.PLACE, MoveBuffer.getKind(moves.get(i)));
+            assertTrue(engine.isAllyTerritory(registry.getTerritory(MoveBuffer.getFrom(moves.get(i))).getName()));
+        }
+
+        completeFirstTurn();
+        engine.generateMoves(moves);
+        assertEquals(registry.getOceanCount(), moves.size());
+        assertEquals(MoveBuffer.PLACE_OCEAN, MoveBuffer.getKind(moves.get(0)));
+
+        completePlacement();
+        // Every attack found by the predicates on the names is generated, and nothing else
+        int attacks = 0;
+        for (final var territory : registry.getTerritories()) {
+            final String attacker = territory.getName();
+            for (final var defender : engine.getAdj(attacker)) {
+                if (engine.isAllyTerritoryWithMoreThanOne(attacker) && !engine.isAllyTerritory(defender)) {
+                    attacks++;
+                }
+            }
+        }
+        engine.generateMoves(moves);
+        assertEquals(attacks + 1, moves.size());
+        for (int i = 0; i < attacks; i++) {
+            final int move = moves.get(i);
+            assertEquals(MoveBuffer.ATTACK, MoveBuffer.getKind(move));
+            final String attacker = registry.getTerritory(MoveBuffer.getFrom(move)).getName();
+            final String defender = registry.getTerritory(MoveBuffer.getTo(move)).getName();
+            assertTrue(engine.getAdj(attacker).contains(defender));
+            assertFalse(engine.isAllyTerritory(defender));
+            assertEquals(engine.getDinoAmount(attacker) - 1, MoveBuffer.getAmount(move));
+        }
+        assertEquals(MoveBuffer.END_ATTACK, MoveBuffer.getKind(moves.get(attacks)));
+    }
+
+    @Test
+    void testUndoRedo() {
+        assertFalse(engine.canUndo());
+        assertThrows(IllegalStateException.class, engine::undo);
+        final String territory = getAllyTerritory();
+        final var before = engine.getTerritoriesMap();
+        engine.placeDino(territory);
+        engine.placeDino(territory);
+        assertTrue(engine.canUndo());
+        engine.undo();
+        assertEquals(1, engine.getPlacedDino());
+        engine.undo();
+        assertEquals(before, engine.getTerritoriesMap());
+        assertEquals(0, engine.getPlacedDino());
+        assertFalse(engine.canUndo());
+        engine.redo();
+        engine.redo();
+        assertFalse(engine.canRedo());
+        assertEquals(2, engine.getPlacedDino());
+        // A new command discards the undone ones
+        engine.undo();
+        engine.placeDino(territory);
+        assertFalse(engine.canRedo());
+        // A command that is not allowed is not recorded and keeps the undone ones
+        engine.undo();
+        assertThrows(IllegalArgumentException.class, () -> engine.placeDino(territory, FIRST_TURN_BONUS + 1));
+        assertTrue(engine.canRedo());
+        engine.redo();
+
+        engine.setHistoryLimit(0);
+        assertFalse(engine.canUndo());
+        engine.placeDino(territory);
+        assertFalse(engine.canUndo());
+        // Without the history a plan is still undone as a whole if a step fails
+        final var map = engine.getTerritoriesMap();
+        final int placed = engine.getPlacedDino();
+        assertThrows(IllegalArgumentException.class, () -> engine.placeAll(
+                List.of(new Placement(territory, 1), new Placement(territory, FIRST_TURN_BONUS))));
+        assertEquals(map, engine.getTerritoriesMap());
+        assertEquals(placed, engine.getPlacedDino());
+    }
+
+    @Test
+    void testSnapshot() {
+        completeFirstTurn();
+        final var snapshot = engine.snapshot();
+        final var map = engine.getTerritoriesMap();
+        final GameColor color = engine.getCurrentPlayer().getColor();
+        final int deckSize = engine.getDeck().size();
+        completePlacement();
+        engine.setGamePhase(Phase.MOVEMENT_FIRST_PART);
+        engine.endTurn();
+        engine.restore(snapshot);
+        assertEquals(map, engine.getTerritoriesMap());
+        assertEquals(color, engine.getCurrentPlayer().getColor());
+        assertEquals(Phase.PLACEMENT, engine.getGamePhase());
+        assertEquals(deckSize, engine.getDeck().size());
+        assertTrue(engine.getCurrentOcean().isEmpty());
+        // A copy of the game can restore the snapshot too
+        final HeadlessEngine copy = engine.copy(SEED);
+        copy.placeDino(OCEAN_NAME);
+        copy.restore(snapshot);
+        assertEquals(map, copy.getTerritoriesMap());
+        final var otherBoard = new HeadlessEngine.Snapshot(new BoardImpl(1), snapshot.players(), color,
+                Phase.PLACEMENT, Optional.empty(), snapshot.deck(), false, 0, snapshot.turn());
+        assertThrows(IllegalArgumentException.class, () -> engine.restore(otherBoard));
+        final var noPlayer = new HeadlessEngine.Snapshot(snapshot.board(), snapshot.players(), GameColor.DEFAULT,
+                Phase.PLACEMENT, Optional.empty(), snapshot.deck(), false, 0, snapshot.turn());
+        assertThrows(IllegalArgumentException.class, () -> engine.restore(noPlayer));
+    }
+
+    @Test
+    void testTurnContext() {
+        assertEquals(TurnContext.firstTurn(FIRST_TURN_BONUS), engine.getTurnContext());
+        completeFirstTurn();
+        final var player = engine.getCurrentPlayer();
+        final var turn = engine.getTurnContext();
+        assertEquals(new TurnContext(player.getBonusGroundDino(), 0, player.getBonusWaterDino(), 0), turn);
+        engine.placeDino(OCEAN_NAME);
+        while (engine.getGamePhase().equals(Phase.PLACEMENT)) {
+            engine.placeDino(getAllyTerritory());
+        }
+        assertEquals(turn.getTotal(), engine.getPlacedDino());
+        assertEquals(0, engine.getRemainingDinoToPlace());
+
+        // The cards are traded once, when the turn of the player starts
+        final var jacks = BoardCatalogImpl.getDefault().getCards().stream()
+                .filter(card -> card.getType() == CardType.JACK)
+                .limit(COMBINATION_SIZE)
+                .toList();
+        engine.getPlayers().stream()
+                .filter(p -> !p.getColor().equals(player.getColor()))
+                .forEach(p -> jacks.forEach(p::addCard));
+        final int deckSize = engine.getDeck().size();
+        engine.endTurn();
+        final var next = engine.getTurnContext();
+        assertTrue(next.cardBonus() > 0);
+        assertEquals(deckSize + COMBINATION_SIZE, engine.getDeck().size());
+        assertTrue(engine.getCurrentPlayer().getTypeMap().values().stream().allMatch(n -> n == 0));
+        engine.placeDino(OCEAN_NAME);
+        engine.placeDino(getAllyTerritory());
+        assertEquals(next.place(2), engine.getTurnContext());
+        assertEquals(deckSize + COMBINATION_SIZE, engine.getDeck().size());
+        assertThrows(IllegalArgumentException.class, () -> next.place(next.getTotal() + 1));
+        assertThrows(IllegalArgumentException.class, () -> new TurnContext(1, 0, 0, 2));
+    }
+
+    @Test
+    void testBulkCommands() {
+        engine = new HeadlessEngineImpl(SEED);
+        final GameColor color = engine.getCurrentPlayer().getColor();
+        final List<String> owned = engine.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .sorted()
+                .toList();
+        final String enemy = engine.getTerritoriesMap().entrySet().stream()
+                .filter(e -> !e.getValue().x().equals(color))
+                .findFirst()
+                .get().getKey().getName();
+        final var before = engine.getTerritoriesMap();
+        // A plan with a placement that is not allowed changes nothing
+        assertThrows(IllegalArgumentException.class, () -> engine.placeAll(
+                List.of(new Placement(owned.get(0), 2), new Placement(enemy, 1))));
+        assertThrows(IllegalArgumentException.class, () -> engine.placeAll(
+                List.of(new Placement(owned.get(0), FIRST_TURN_BONUS), new Placement(owned.get(1), 1))));
+        assertThrows(IllegalArgumentException.class, () -> engine.placeDino(owned.get(0), FIRST_TURN_BONUS + 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.placeAll(List.of()));
+        assertEquals(before, engine.getTerritoriesMap());
+        assertEquals(color, engine.getCurrentPlayer().getColor());
+        assertEquals(0, engine.getPlacedDino());
+        assertFalse(engine.canUndo());
+
+        engine.placeAll(List.of(new Placement(owned.get(0), FIRST_TURN_BONUS - 1), new Placement(owned.get(1), 1)));
+        assertEquals(FIRST_TURN_BONUS, engine.getDinoAmount(owned.get(0)));
+        assertFalse(engine.getCurrentPlayer().getColor().equals(color));
+        // The plan is undone as a whole
+        engine.undo();
+        assertEquals(before, engine.getTerritoriesMap());
+        assertFalse(engine.canUndo());
+        engine.redo();
+        while (engine.isFirstTurn()) {
+            engine.placeDino(getAllyTerritory(), FIRST_TURN_BONUS);
+        }
+
+        final String source = engine.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .filter(engine::hasAdjAlly)
+                .findFirst()
+                .get();
+        final String target = engine.getAdj(source).stream().filter(engine::isAllyTerritory).findFirst().get();
+        assertThrows(IllegalArgumentException.class, () -> engine.placeDino(OCEAN_NAME, 2));
+        engine.placeAll(List.of(new Placement(OCEAN_NAME, 1),
+                new Placement(source, engine.getRemainingDinoToPlace() - 1)));
+        assertEquals(Phase.ATTACK_FIRST_PART, engine.getGamePhase());
+        engine.setGamePhase(Phase.MOVEMENT_FIRST_PART);
+        final int dino = engine.getDinoAmount(source);
+        final int targetDino = engine.getDinoAmount(target);
+        assertThrows(IllegalArgumentException.class, () -> engine.moveAll(
+                List.of(new Movement(source, target, 1), new Movement(source, target, dino - 1))));
+        assertEquals(dino, engine.getDinoAmount(source));
+        engine.moveAll(List.of(new Movement(source, target, 2), new Movement(target, source, 1)));
+        assertEquals(dino - 1, engine.getDinoAmount(source));
+        assertEquals(targetDino + 1, engine.getDinoAmount(target));
+    }
+
+    @Test
+    void testBlitz() {
+        engine = new HeadlessEngineImpl(SEED);
+        completeFirstTurn();
+        completePlacement();
+        final String attacker = engine.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .filter(engine::hasAdjEnemy)
+                .filter(engine::isAllyTerritoryWithMoreThanOne)
+                .sorted()
+                .findFirst()
+                .get();
+        final String defender = engine.getAdj(attacker).stream()
+                .filter(t -> !engine.isAllyTerritory(t))
+                .sorted()
+                .findFirst()
+                .get();
+        assertThrows(IllegalArgumentException.class, () -> engine.blitz(attacker, defender, 0));
+        assertThrows(IllegalArgumentException.class, () -> engine.blitz(defender, attacker, 1));
+
+        final var before = engine.getTerritoriesMap();
+        final int attackDino = engine.getDinoAmount(attacker);
+        final int defenceDino = engine.getDinoAmount(defender);
+        // Without a threshold the attack ends only with the conquest or a single dino left
+        final var outcome = engine.blitz(attacker, defender, Integer.MAX_VALUE);
+        assertTrue(outcome.attackerLosses() < attackDino);
+        if (outcome.conquered()) {
+            assertEquals(defenceDino, outcome.defenderLosses());
+            assertTrue(engine.isAllyTerritory(defender));
+        } else {
+            assertEquals(1, engine.getDinoAmount(attacker));
+            assertEquals(defenceDino - outcome.defenderLosses(), engine.getDinoAmount(defender));
+        }
+        // The whole attack is a single command
+        engine.undo();
+        assertEquals(before, engine.getTerritoriesMap());
+    }
+
+    @Test
+    void testChanges() {
+        final GameChanges all = engine.drainChanges();
+        assertEquals(engine.getTerritoriesMap().keySet(), all.territories());
+        assertTrue(all.phase());
+        assertTrue(all.turn());
+        assertEquals(engine.getPlayers().size(), all.hands().size());
+        assertTrue(engine.drainChanges().isEmpty());
+
+        final String territory = getAllyTerritory();
+        engine.placeDino(territory);
+        final GameChanges placed = engine.drainChanges();
+        assertEquals(List.of(territory), placed.territories().stream().map(Territory::getName).toList());
+        assertTrue(placed.turn());
+        assertFalse(placed.phase());
+        assertFalse(placed.ocean());
+        // Restoring a state marks only the territories that differ
+        engine.undo();
+        assertEquals(placed.territories(), engine.drainChanges().territories());
+        assertEquals(placed, GameChanges.NONE.merge(placed));
+        assertTrue(placed.merge(all).phase());
+    }
+
+    private void completeFirstTurn() {
+        while (engine.isFirstTurn()) {
+            engine.placeDino(getAllyTerritory());
+        }
+    }
+
+    private void completePlacement() {
+        engine.placeDino(OCEAN_NAME);
+        while (engine.getGamePhase().equals(Phase.PLACEMENT)) {
+            engine.placeDino(getAllyTerritory());
+        }
+    }
+
+    private String getAllyTerritory() {
+        return engine.getCurrentPlayer().getOwnedTerritories().stream()
+                .map(Territory::getName)
+                .sorted()
+                .findFirst()
+                .get();
+    }
+
+}
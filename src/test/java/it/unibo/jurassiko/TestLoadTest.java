@@ -0,0 +1,75 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.loadtest.api.LatencyHistogram;
+import it.unibo.jurassiko.loadtest.api.LoadTest;
+import it.unibo.jurassiko.loadtest.impl.LatencyHistogramImpl;
+import it.unibo.jurassiko.loadtest.impl.LoadTestImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+
+/**
+ * Test for the load test of the engine and its latency histogram.
+ */
+class TestLoadTest {
+
+    private static final int GAMES = 6;
+    private static final int MAX_TURNS = 20;
+    private static final int THREADS = 3;
+    private static final long SEED = 42;
+    private static final int VALUES = 1000;
+    private static final long LARGE = 1_000_000_007L;
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+    private static final double MAX_ERROR = 1.0 / 64;
+
+    @Test
+    void testRun() {
+        final var single = new LoadTestImpl(BoardCatalogImpl.getDefault(), RandomBot::new,
+                new LoadTest.Settings(GAMES, MAX_TURNS, 1, SEED)).run();
+        final var parallel = new LoadTestImpl(BoardCatalogImpl.getDefault(), RandomBot::new,
+                new LoadTest.Settings(GAMES, MAX_TURNS, THREADS, SEED)).run();
+        assertEquals(GAMES, single.games());
+        assertEquals(THREADS, parallel.threads());
+        assertTrue(single.actions() > 0);
+        // The games are the same whatever thread plays them
+        assertEquals(single.actions(), parallel.actions());
+        assertTrue(single.medianLatency() <= single.p99Latency());
+        assertTrue(single.getGamesPerSecond() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestImpl(BoardCatalogImpl.getDefault(),
+                RandomBot::new, new LoadTest.Settings(GAMES, MAX_TURNS, 0, SEED)));
+    }
+
+    @Test
+    void testHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogramImpl();
+        assertEquals(0, histogram.getPercentile(MEDIAN));
+        for (int i = 1; i <= VALUES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(1, histogram.getPercentile(0));
+        assertBound(VALUES / 2, histogram.getPercentile(MEDIAN));
+        assertBound((long) (VALUES * P99), histogram.getPercentile(P99));
+        assertBound(VALUES, histogram.getPercentile(1));
+
+        final LatencyHistogram other = new LatencyHistogramImpl();
+        other.record(LARGE);
+        other.record(Long.MAX_VALUE);
+        histogram.add(other);
+        assertEquals(VALUES + 2, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(2));
+    }
+
+    private static void assertBound(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected * (1 + MAX_ERROR), expected + " bounded by " + actual);
+    }
+
+}
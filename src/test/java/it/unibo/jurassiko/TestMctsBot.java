@@ -0,0 +1,87 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.bot.api.Move;
+import it.unibo.jurassiko.bot.impl.MctsBot;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+
+/**
+ * Test for the Monte Carlo tree search bot.
+ */
+class TestMctsBot {
+
+    private static final long SEED = 42;
+    private static final int ITERATIONS = 40;
+    private static final int WORKERS = 2;
+
+    private HeadlessEngine engine;
+    private Bot bot;
+
+    @BeforeEach
+    void init() {
+        this.engine = new HeadlessEngineImpl(SEED);
+        this.bot = new MctsBot(ITERATIONS, 0, WORKERS, SEED);
+    }
+
+    @AfterEach
+    void close() {
+        bot.close();
+    }
+
+    @Test
+    void testBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsBot(0, 0, WORKERS, SEED));
+        assertThrows(IllegalArgumentException.class, () -> new MctsBot(ITERATIONS, 0, 0, SEED));
+    }
+
+    @Test
+    void testCopy() {
+        final HeadlessEngine copy = engine.copy(SEED);
+        assertEquals(engine.getTerritoriesMap(), copy.getTerritoriesMap());
+        assertEquals(engine.getCurrentPlayer().getColor(), copy.getCurrentPlayer().getColor());
+        final String territory = copy.getCurrentPlayer().getOwnedTerritories().iterator().next().getName();
+        copy.placeDino(territory);
+        assertNotEquals(engine.getDinoAmount(territory), copy.getDinoAmount(territory));
+        // The view read by the search follows the game without copying it
+        final int id = copy.getRegistry().getTerritoryId(territory);
+        assertEquals(copy.getDinoAmount(territory), copy.getBoardView().getDino(id));
+        assertEquals(copy.hasAdjEnemy(territory), copy.hasAdjEnemy(id));
+        assertEquals(0, engine.getPlacedDino());
+    }
+
+    @Test
+    void testPlayTurn() {
+        final GameColor first = engine.getCurrentPlayer().getColor();
+        final Move move = bot.chooseMove(engine);
+        assertEquals(Move.Kind.PLACE, move.kind());
+        assertTrue(engine.isAllyTerritory(engine.getRegistry().getTerritory(move.from()).getName()));
+        bot.playTurn(engine);
+        assertNotEquals(first, engine.getCurrentPlayer().getColor());
+        assertEquals(Phase.PLACEMENT, engine.getGamePhase());
+        assertTrue(engine.getWinner().isEmpty());
+        while (engine.isFirstTurn()) {
+            bot.playTurn(engine);
+        }
+        assertFalse(engine.isFirstTurn());
+        // A full turn ends with the next player placing dino, unless the bot has won
+        final GameColor current = engine.getCurrentPlayer().getColor();
+        bot.playTurn(engine);
+        assertTrue(engine.getWinner().isPresent()
+                || !current.equals(engine.getCurrentPlayer().getColor())
+                        && engine.getGamePhase().equals(Phase.PLACEMENT));
+    }
+
+}
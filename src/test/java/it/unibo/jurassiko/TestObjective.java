@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.api.ObjectiveVisitor;
 import it.unibo.jurassiko.model.objective.impl.ConquerContinentsObjective;
 import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
 import it.unibo.jurassiko.model.objective.impl.DestroyArmyObjective;
@@ -131,46 +133,46 @@ class TestObjective {
                 .get()
                 .getDescription();
         assertEquals(description, actualDescription);
+        // The objective replacing it is described by the one of the configuration files
+        final var fallback = ConquerTerritoriesObjective.findDefault(objectives).get();
+        assertTrue(actualDescription.endsWith(fallback.getDescription().toLowerCase(Locale.ROOT)));
     }
 
     /**
-     * Tests the execution of objective cloning.
+     * Tests that objectives are values, dispatched by their kind.
      */
     @Test
-    void testClone() {
-        final var contObjective = objectives.stream()
-                .filter(ConquerContinentsObjective.class::isInstance)
+    void testValues() {
+        final var territories = new ConquerTerritoriesObjective(NUM_TERRITORIES_2, MIN_DINOS_2);
+        assertTrue(objectives.contains(territories));
+        assertTrue(objectives.contains(new DestroyArmyObjective(GameColor.BLUE)));
+        assertEquals(territories.getDescription(), objectives.stream()
+                .filter(territories::equals)
                 .findAny()
-                .map(ConquerContinentsObjective.class::cast)
-                .get();
+                .get()
+                .getDescription());
 
-        final var contObjectiveClone = (ConquerContinentsObjective) contObjective.getClone();
-        assertEquals(contObjective.getType(), contObjectiveClone.getType());
-        assertEquals(contObjective.getContinents(), contObjectiveClone.getContinents());
-        assertEquals(contObjective.getDescription(), contObjectiveClone.getDescription());
+        final ObjectiveVisitor<String> kind = new ObjectiveVisitor<>() {
 
-        final var terrObjective = objectives.stream()
-                .filter(ConquerTerritoriesObjective.class::isInstance)
-                .findAny()
-                .map(ConquerTerritoriesObjective.class::cast)
-                .get();
+            @Override
+            public String visit(final ConquerContinentsObjective objective) {
+                return objective.getType();
+            }
 
-        final var terrObjectiveClone = (ConquerTerritoriesObjective) terrObjective.getClone();
-        assertEquals(terrObjective.getType(), terrObjectiveClone.getType());
-        assertEquals(terrObjective.getNumTerritories(), terrObjectiveClone.getNumTerritories());
-        assertEquals(terrObjective.getMinDinos(), terrObjectiveClone.getMinDinos());
-        assertEquals(terrObjective.getDescription(), terrObjectiveClone.getDescription());
+            @Override
+            public String visit(final ConquerTerritoriesObjective objective) {
+                return objective.getType();
+            }
 
-        final var armyObjective = objectives.stream()
-                .filter(DestroyArmyObjective.class::isInstance)
-                .findAny()
-                .map(DestroyArmyObjective.class::cast)
-                .get();
+            @Override
+            public String visit(final DestroyArmyObjective objective) {
+                return objective.getType();
+            }
 
-        final var armyObjectiveClone = (DestroyArmyObjective) armyObjective.getClone();
-        assertEquals(armyObjective.getType(), armyObjectiveClone.getType());
-        assertEquals(armyObjective.getArmyColor(), armyObjectiveClone.getArmyColor());
-        assertEquals(armyObjective.getDescription(), armyObjectiveClone.getDescription());
+        };
+        for (final var objective : objectives) {
+            assertEquals(objective.getType(), objective.accept(kind));
+        }
     }
 
 }
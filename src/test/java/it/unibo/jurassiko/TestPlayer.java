@@ -2,18 +2,20 @@ package it.unibo.jurassiko;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import it.unibo.jurassiko.controller.api.MainController;
-import it.unibo.jurassiko.controller.impl.MainControllerImpl;
 import it.unibo.jurassiko.model.card.api.Card.CardType;
+import it.unibo.jurassiko.model.card.api.Deck;
 import it.unibo.jurassiko.model.card.impl.CardImpl;
+import it.unibo.jurassiko.model.card.impl.DeckImpl;
 import it.unibo.jurassiko.model.objective.api.Objective;
 import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
 import it.unibo.jurassiko.model.player.api.Player;
@@ -27,7 +29,7 @@ import it.unibo.jurassiko.model.territory.impl.TerritoryFactoryImpl;
 class TestPlayer {
 
     private Player player;
-    private final MainController controller = new MainControllerImpl();
+    private final Deck deck = new DeckImpl(List.of());
     private final Set<Territory> territory = new TerritoryFactoryImpl().createTerritories();
     private final Set<Objective> objective = new ObjectiveFactoryImpl().createObjectives();
     private final Set<Territory> territoryforcombination = new HashSet<>();
@@ -69,8 +71,8 @@ class TestPlayer {
     @Test
     void testGetObjective() {
         final var temp = player.getObjective();
-        assertNotEquals(temp, objective.stream().findFirst().get());
-        assertNotEquals(temp, player.getObjective());
+        assertEquals(temp, objective.stream().findFirst().get());
+        assertSame(temp, player.getPlayer().getObjective());
     }
 
     @Test
@@ -103,24 +105,24 @@ class TestPlayer {
         player.addCard(CardImpl.createCard(CardType.JOLLY, MESSICO));
         player.addCard(CardImpl.createCard(CardType.JACK, MESSICO));
         player.addCard(CardImpl.createCard(CardType.JACK, MESSICO));
-        assertEquals(RESULT_OF_COMBINATION_WITH_JOLLY, player.combination(controller, territoryforcombination));
+        assertEquals(RESULT_OF_COMBINATION_WITH_JOLLY, player.combination(deck, territoryforcombination));
         assertEquals(0, player.getTypeMap().get(CardType.JOLLY));
         assertEquals(0, player.getTypeMap().get(CardType.JACK));
         for (int i = 0; i < 3; i++) {
             player.addCard(CardImpl.createCard(CardType.JACK, MESSICO));
         }
-        assertEquals(COMBINATION_WITH_TREE_JACK, player.combination(controller, territoryforcombination));
+        assertEquals(COMBINATION_WITH_TREE_JACK, player.combination(deck, territoryforcombination));
         for (int i = 0; i < 3; i++) {
             player.addCard(CardImpl.createCard(CardType.CANNON, MESSICO));
         }
-        assertEquals(COMBINATION_WITH_TREE_CANNON, player.combination(controller, territoryforcombination));
+        assertEquals(COMBINATION_WITH_TREE_CANNON, player.combination(deck, territoryforcombination));
         for (int i = 0; i < 3; i++) {
             player.addCard(CardImpl.createCard(CardType.HORSE, MESSICO));
         }
-        assertEquals(COMBINATION_WITH_TREE_HORSE, player.combination(controller, territoryforcombination));
+        assertEquals(COMBINATION_WITH_TREE_HORSE, player.combination(deck, territoryforcombination));
         player.addCard(CardImpl.createCard(CardType.HORSE, MESSICO));
         player.addCard(CardImpl.createCard(CardType.CANNON, MESSICO));
         player.addCard(CardImpl.createCard(CardType.JACK, MESSICO));
-        assertEquals(COMBINATION_WITH_TREE_DIFFERENT, player.combination(controller, territoryforcombination));
+        assertEquals(COMBINATION_WITH_TREE_DIFFERENT, player.combination(deck, territoryforcombination));
     }
 }
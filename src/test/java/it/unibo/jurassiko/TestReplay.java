@@ -0,0 +1,195 @@
+package it.unibo.jurassiko;
+
+import static it.unibo.jurassiko.GameFixtures.assertSameGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.bot.api.Bot;
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.core.api.CommandListener;
+import it.unibo.jurassiko.core.api.GamePhase.Phase;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
+import it.unibo.jurassiko.core.api.HeadlessEngine.AttackOutcome;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Movement;
+import it.unibo.jurassiko.core.api.HeadlessEngine.Placement;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
+import it.unibo.jurassiko.log.api.CommandLog;
+import it.unibo.jurassiko.log.api.Replay;
+import it.unibo.jurassiko.log.impl.CommandLogImpl;
+import it.unibo.jurassiko.log.impl.ReplayImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+
+/**
+ * Test for the Replay, seeking in games played by bots.
+ */
+class TestReplay {
+
+    private static final long SEED = 23;
+    private static final int TURNS = 30;
+    private static final int UNDO_PERIOD = 4;
+    private static final int INTERVAL = 10;
+    private static final int SYNC_INTERVAL = 64;
+
+    @Test
+    void testSeek() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        try (CommandLog log = CommandLogImpl.create(path, engine, SYNC_INTERVAL)) {
+            final Bot bot = new RandomBot(SEED);
+            for (int i = 0; i < TURNS && engine.getWinner().isEmpty(); i++) {
+                bot.playTurn(engine);
+                if (i % UNDO_PERIOD == 0) {
+                    // Goes back to the last movement of the player, who ends the turn again
+                    engine.undo();
+                    bot.playTurn(engine);
+                }
+            }
+
+            final Replay replay = new ReplayImpl(log, BoardCatalogImpl.getDefault(), INTERVAL);
+            assertEquals(log.size(), replay.size());
+            assertEquals(replay.size(), replay.getPosition());
+            assertSameGame(engine, replay.getEngine());
+            for (final int position : List.of(0, replay.size() / 2, replay.size() / 2 + 1, INTERVAL, INTERVAL - 1,
+                    replay.size() - 1, 1, replay.size() / 3)) {
+                replay.seek(position);
+                assertEquals(position, replay.getPosition());
+                assertSameGame(replayFromStart(log, position), replay.getEngine());
+            }
+
+            replay.seekTurn(0);
+            assertEquals(0, replay.getPosition());
+            assertEquals(0, replay.getTurn());
+            replay.seekTurn(replay.getTurnCount() - 1);
+            assertEquals(replay.getTurnCount() - 1, replay.getTurn());
+            assertSameGame(replayFromStart(log, replay.getPosition()), replay.getEngine());
+            assertEquals(engine.getCurrentPlayer().getColor(), replay.getEngine().getCurrentPlayer().getColor());
+            assertThrows(IllegalArgumentException.class, () -> replay.seek(replay.size() + 1));
+            assertThrows(IllegalArgumentException.class, () -> replay.seekTurn(replay.getTurnCount()));
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+    @Test
+    void testUndoBeforeKeyframe() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        final CommandLog recorder = CommandLogImpl.create(path, engine, SYNC_INTERVAL);
+        try {
+            final String territory = engine.getCurrentPlayer().getOwnedTerritories().iterator().next().getName();
+            engine.placeDino(territory);
+            engine.placeDino(territory);
+            // The undo after the second snapshot depends on the commands before it
+            engine.undo();
+            engine.undo();
+            engine.redo();
+            engine.placeDino(territory);
+            recorder.close();
+
+            // Watched again from the file, which is only read
+            try (CommandLog log = CommandLogImpl.openReadOnly(path, BoardCatalogImpl.getDefault().getRegistry())) {
+                final Replay replay = new ReplayImpl(log, BoardCatalogImpl.getDefault(), 2);
+                for (int position = replay.size(); position >= 0; position--) {
+                    replay.seek(position);
+                    assertSameGame(replayFromStart(log, position), replay.getEngine());
+                }
+                replay.seek(replay.size());
+                assertSameGame(engine, replay.getEngine());
+            }
+        } finally {
+            recorder.close();
+            GameFixtures.delete(path);
+        }
+    }
+
+    @Test
+    void testForwardSeek() throws IOException {
+        final Path path = GameFixtures.newPath("game.log");
+        final HeadlessEngine engine = new HeadlessEngineImpl(SEED);
+        try (CommandLog log = CommandLogImpl.create(path, engine, SYNC_INTERVAL)) {
+            GameFixtures.play(engine, TURNS);
+            final Replay replay = new ReplayImpl(log, BoardCatalogImpl.getDefault(), INTERVAL);
+            final Counter counter = new Counter();
+            replay.seek(0);
+            replay.getEngine().addCommandListener(counter);
+
+            // No snapshot before the target, the game goes on from the current position
+            replay.seek(INTERVAL - 1);
+            assertEquals(INTERVAL - 1, counter.commands);
+            // The nearest snapshot is restored, then only the commands after it are applied
+            counter.commands = 0;
+            replay.seek(replay.size());
+            assertEquals(replay.size() % INTERVAL, counter.commands);
+            assertSameGame(engine, replay.getEngine());
+        } finally {
+            GameFixtures.delete(path);
+        }
+    }
+
+    private static HeadlessEngine replayFromStart(final CommandLog log, final int position) throws IOException {
+        final HeadlessEngine engine = new HeadlessEngineImpl(log.getSeed());
+        log.replay(engine, 0, position);
+        return engine;
+    }
+
+    /**
+     * Counts the commands applied to a game.
+     */
+    private static final class Counter implements CommandListener {
+
+        private int commands;
+
+        @Override
+        public void placed(final String areaName) {
+            commands++;
+        }
+
+        @Override
+        public void placedAll(final List<Placement> plan) {
+            commands++;
+        }
+
+        @Override
+        public void attacked(final String attacker, final String defender, final AttackOutcome outcome) {
+            commands++;
+        }
+
+        @Override
+        public void moved(final String source, final String target, final int amount) {
+            commands++;
+        }
+
+        @Override
+        public void movedAll(final List<Movement> movements) {
+            commands++;
+        }
+
+        @Override
+        public void turnEnded() {
+            commands++;
+        }
+
+        @Override
+        public void phaseSet(final Phase phase) {
+            commands++;
+        }
+
+        @Override
+        public void undone() {
+            commands++;
+        }
+
+        @Override
+        public void redone() {
+            commands++;
+        }
+
+    }
+
+}
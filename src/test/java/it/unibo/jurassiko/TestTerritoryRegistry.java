@@ -0,0 +1,54 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Test for the TerritoryRegistry.
+ */
+class TestTerritoryRegistry {
+
+    private static final int TERRITORY_COUNT = 21;
+    private static final int OCEAN_COUNT = 3;
+    private static final String TERRITORY_NAME = "Messico";
+    private static final String OCEAN_NAME = "Oceano Tetide";
+
+    private TerritoryRegistry registry;
+
+    @BeforeEach
+    void init() {
+        this.registry = BoardCatalogImpl.getDefault().getRegistry();
+    }
+
+    @Test
+    void testIds() {
+        assertEquals(TERRITORY_COUNT, registry.getTerritoryCount());
+        assertEquals(OCEAN_COUNT, registry.getOceanCount());
+        for (int id = 0; id < registry.getTerritoryCount(); id++) {
+            assertEquals(id, registry.getTerritoryId(registry.getTerritory(id).getName()));
+        }
+        for (int id = 0; id < registry.getOceanCount(); id++) {
+            assertEquals(id, registry.getOceanId(registry.getOcean(id).getName()));
+        }
+    }
+
+    @Test
+    void testLookup() {
+        final int id = registry.getTerritoryId(TERRITORY_NAME);
+        assertEquals(TERRITORY_NAME, registry.getTerritory(id).getName());
+        assertEquals(id, registry.findTerritoryId("messico").getAsInt());
+        assertEquals(OCEAN_NAME, registry.getOcean(registry.getOceanId(OCEAN_NAME)).getName());
+        assertFalse(registry.findTerritoryId(OCEAN_NAME).isPresent());
+        assertFalse(registry.findOceanId(TERRITORY_NAME).isPresent());
+        assertFalse(registry.findTerritoryId(null).isPresent());
+        assertThrows(IllegalArgumentException.class, () -> registry.getTerritoryId("Atlantide"));
+    }
+
+}
@@ -0,0 +1,102 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.bot.impl.RandomBot;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.tournament.api.MatchStatistics;
+import it.unibo.jurassiko.tournament.api.Sprt;
+import it.unibo.jurassiko.tournament.api.Tournament;
+import it.unibo.jurassiko.tournament.impl.MatchStatisticsImpl;
+import it.unibo.jurassiko.tournament.impl.SprtImpl;
+import it.unibo.jurassiko.tournament.impl.TournamentImpl;
+
+/**
+ * Test for the tournament between bots and its statistics.
+ */
+class TestTournament {
+
+    private static final double DELTA = 1e-9;
+    private static final int GAMES = 6;
+    private static final int MAX_TURNS = 20;
+    private static final int THREADS = 2;
+    private static final long SEED = 42;
+    private static final double ELO1 = 50;
+    private static final double ERROR = 0.05;
+    private static final int MANY = 300;
+    private static final int FEW = 100;
+
+    @Test
+    void testRun() throws IOException {
+        final StringWriter output = new StringWriter();
+        final var random = new Tournament.Entry("random", RandomBot::new);
+        final var summary = new TournamentImpl(BoardCatalogImpl.getDefault(), random, random,
+                new Tournament.Settings(GAMES, MAX_TURNS, THREADS, SEED), Optional.empty(), output).run();
+        assertEquals(GAMES, summary.games());
+        assertEquals(GAMES, summary.wins() + summary.draws() + summary.losses());
+        assertEquals(Sprt.Decision.CONTINUE, summary.decision());
+        final String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(GAMES + 1, lines.length);
+        assertEquals("game,seed,red,green,blue,winner,turns,score", lines[0]);
+
+        // The sequential test only sees whole pairs of games
+        final List<Integer> tested = new ArrayList<>();
+        new TournamentImpl(BoardCatalogImpl.getDefault(), random, random,
+                new Tournament.Settings(GAMES, MAX_TURNS, THREADS, SEED), Optional.of(statistics -> {
+                    tested.add(statistics.getGames());
+                    return Sprt.Decision.CONTINUE;
+                }), new StringWriter()).run();
+        final List<Integer> pairs = new ArrayList<>();
+        for (int games = 2; games <= GAMES; games += 2) {
+            pairs.add(games);
+        }
+        assertEquals(pairs, tested);
+        assertThrows(IllegalArgumentException.class, () -> new TournamentImpl(BoardCatalogImpl.getDefault(),
+                random, random, new Tournament.Settings(0, MAX_TURNS, THREADS, SEED), Optional.empty(), output));
+    }
+
+    @Test
+    void testStatistics() {
+        final MatchStatistics statistics = new MatchStatisticsImpl();
+        assertEquals(0.0, statistics.getElo(), DELTA);
+        assertTrue(Double.isInfinite(statistics.getEloError()));
+        statistics.add(MatchStatistics.WIN);
+        statistics.add(MatchStatistics.LOSS);
+        statistics.add(MatchStatistics.DRAW);
+        assertEquals(MatchStatistics.DRAW, statistics.getScore(), DELTA);
+        assertEquals(0.0, statistics.getElo(), DELTA);
+        assertTrue(statistics.getEloError() > 0);
+        assertThrows(IllegalArgumentException.class, () -> statistics.add(ERROR));
+    }
+
+    @Test
+    void testSprt() {
+        final Sprt sprt = new SprtImpl(0, ELO1, ERROR, ERROR);
+        final MatchStatistics stronger = new MatchStatisticsImpl();
+        final MatchStatistics weaker = new MatchStatisticsImpl();
+        assertEquals(Sprt.Decision.CONTINUE, sprt.test(stronger));
+        for (int i = 0; i < MANY; i++) {
+            stronger.add(MatchStatistics.WIN);
+            weaker.add(MatchStatistics.LOSS);
+        }
+        for (int i = 0; i < FEW; i++) {
+            stronger.add(MatchStatistics.LOSS);
+            weaker.add(MatchStatistics.WIN);
+        }
+        assertTrue(stronger.getElo() > ELO1);
+        assertEquals(Sprt.Decision.ACCEPT_H1, sprt.test(stronger));
+        assertEquals(Sprt.Decision.ACCEPT_H0, sprt.test(weaker));
+        assertThrows(IllegalArgumentException.class, () -> new SprtImpl(ELO1, 0, ERROR, ERROR));
+    }
+
+}
@@ -13,10 +13,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.jurassiko.common.Pair;
-import it.unibo.jurassiko.controller.api.MainController;
-import it.unibo.jurassiko.controller.impl.MainControllerImpl;
+import it.unibo.jurassiko.core.api.HeadlessEngine;
 import it.unibo.jurassiko.core.api.WinCondition;
+import it.unibo.jurassiko.core.impl.HeadlessEngineImpl;
 import it.unibo.jurassiko.core.impl.WinConditionImpl;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
 import it.unibo.jurassiko.model.objective.api.Objective;
 import it.unibo.jurassiko.model.objective.impl.ConquerContinentsObjective;
 import it.unibo.jurassiko.model.objective.impl.ConquerTerritoriesObjective;
@@ -42,9 +43,9 @@ class TestWinCondition {
         this.winCondition = new WinConditionImpl();
         this.objectives = new ObjectiveFactoryImpl().createObjectives();
 
-        final MainController controller = new MainControllerImpl();
-        this.initialMap = controller.getTerritoriesMap();
-        this.initialPlayer = controller.getCurrentPlayer();
+        final HeadlessEngine engine = new HeadlessEngineImpl();
+        this.initialMap = engine.getTerritoriesMap();
+        this.initialPlayer = engine.getCurrentPlayer();
         this.initialPlayerColor = this.initialPlayer.getColor();
     }
 
@@ -267,6 +268,11 @@ class TestWinCondition {
                 .findFirst()
                 .get();
 
+        // The default objective is read from the configuration files
+        final var defaultObjective = BoardCatalogImpl.getDefault().getDefaultObjective();
+        assertEquals(DEFAULT_NUM_TERRITORIES, defaultObjective.getNumTerritories());
+        assertEquals(0, defaultObjective.getMinDinos());
+
         // At the beginning of the game winner must be empty
         assertEquals(Optional.empty(),
                 this.winCondition.getWinner(this.initialMap, this.initialPlayer, armyObjective));
@@ -0,0 +1,115 @@
+package it.unibo.jurassiko;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jurassiko.common.Pair;
+import it.unibo.jurassiko.core.api.WinEvaluator;
+import it.unibo.jurassiko.core.impl.WinConditionImpl;
+import it.unibo.jurassiko.core.impl.WinEvaluatorImpl;
+import it.unibo.jurassiko.model.board.api.Board;
+import it.unibo.jurassiko.model.board.impl.BoardCatalogImpl;
+import it.unibo.jurassiko.model.board.impl.BoardImpl;
+import it.unibo.jurassiko.model.objective.api.Objective;
+import it.unibo.jurassiko.model.objective.impl.ObjectiveFactoryImpl;
+import it.unibo.jurassiko.model.player.api.Player.GameColor;
+import it.unibo.jurassiko.model.player.api.Player;
+import it.unibo.jurassiko.model.player.impl.PlayerImpl;
+import it.unibo.jurassiko.model.territory.api.Territory;
+import it.unibo.jurassiko.model.territory.api.TerritoryRegistry;
+
+/**
+ * Test for the WinEvaluator, checked against the WinCondition.
+ */
+class TestWinEvaluator {
+
+    private static final List<GameColor> COLORS = List.of(GameColor.RED, GameColor.GREEN, GameColor.BLUE);
+    private static final int BOARDS = 200;
+    private static final int MAX_DINO = 4;
+
+    private TerritoryRegistry registry;
+    private Set<Objective> objectives;
+    private final Random random = new Random(0);
+
+    @BeforeEach
+    void init() {
+        this.registry = BoardCatalogImpl.getDefault().getRegistry();
+        this.objectives = new ObjectiveFactoryImpl().createObjectives();
+    }
+
+    @Test
+    void testSameAsWinCondition() {
+        for (final var objective : objectives) {
+            final List<Player> players = COLORS.stream()
+                    .map(c -> (Player) new PlayerImpl(c, objective, Set.of()))
+                    .toList();
+            final WinEvaluator evaluator = new WinEvaluatorImpl(BoardCatalogImpl.getDefault(), players);
+            final Board board = new BoardImpl(registry.getTerritoryCount());
+            for (int i = 0; i < BOARDS; i++) {
+                // Skew the owners so that objectives are completed now and then
+                final GameColor favourite = COLORS.get(random.nextInt(COLORS.size()));
+                for (int id = 0; id < board.size(); id++) {
+                    final GameColor owner = random.nextInt(4) == 0
+                            ? COLORS.get(random.nextInt(COLORS.size()))
+                            : favourite;
+                    board.setOwner(id, owner);
+                    board.setDino(id, 1 + random.nextInt(MAX_DINO));
+                    evaluator.update(id, owner, board.getDino(id));
+                }
+                final Map<Territory, Pair<GameColor, Integer>> map = toMap(board);
+                for (final var player : players) {
+                    final boolean expected = new WinConditionImpl()
+                            .getWinner(map, player, objective)
+                            .isPresent();
+                    assertEquals(expected, evaluator.hasWon(player.getColor()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGetWinner() {
+        final var objective = objectives.stream()
+                .filter(o -> "conquerTerritories".equals(o.getType()))
+                .findFirst()
+                .get();
+        final List<Player> players = COLORS.stream()
+                .map(c -> (Player) new PlayerImpl(c, objective, Set.of()))
+                .toList();
+        final WinEvaluator evaluator = new WinEvaluatorImpl(BoardCatalogImpl.getDefault(), players);
+        final Board board = new BoardImpl(registry.getTerritoryCount());
+        for (int id = 0; id < board.size(); id++) {
+            board.setOwner(id, COLORS.get(id % COLORS.size()));
+            board.setDino(id, 1);
+        }
+        evaluator.updateAll(board);
+        assertEquals(Optional.empty(), evaluator.getWinner());
+
+        for (int id = 0; id < board.size(); id++) {
+            evaluator.update(id, GameColor.GREEN, MAX_DINO);
+        }
+        assertTrue(evaluator.hasWon(GameColor.GREEN));
+        assertFalse(evaluator.hasWon(GameColor.RED));
+        assertEquals(Optional.of(GameColor.GREEN), evaluator.getWinner());
+    }
+
+    private Map<Territory, Pair<GameColor, Integer>> toMap(final Board board) {
+        final Map<Territory, Pair<GameColor, Integer>> map = new HashMap<>();
+        for (int id = 0; id < board.size(); id++) {
+            map.put(registry.getTerritory(id), new Pair<>(board.getOwner(id), board.getDino(id)));
+        }
+        return map;
+    }
+
+}